@@ -0,0 +1,70 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.TabCompleter;
+import net.tnemc.commands.core.platform.PlatformSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures tab completion through {@link CommandsHandler#tab}, and the sub command completer on
+ * its own, with a partial last argument.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletionBenchmark {
+
+  @Param({ "10", "100", "1000", "10000" })
+  public int size;
+
+  @Param({ "2", "4", "6" })
+  public int depth;
+
+  private CommandsHandler handler;
+  private TabCompleter completer;
+  private PlatformSender sender;
+
+  private String label;
+  private String[] arguments;
+
+  @Setup
+  public void setup() {
+    final SyntheticTree tree = SyntheticTree.build(size, depth);
+    handler = tree.getHandler();
+    completer = handler.getManager().getCompleters().get("sub_command");
+    sender = StubSenders.player("Bench", UUID.randomUUID());
+
+    //Complete the first sub command of the root with the most sub commands, from its first letter.
+    final String[] path = tree.getPaths().get(tree.getPaths().size() - 1);
+    label = path[0];
+    arguments = new String[] { "n" };
+  }
+
+  @Benchmark
+  public List<String> tab() {
+    return handler.tab(sender, label, arguments);
+  }
+
+  @Benchmark
+  public LinkedList<String> subCompleter() {
+    return completer.complete(sender, handler.getManager().search(label, new String[0]), "n");
+  }
+}
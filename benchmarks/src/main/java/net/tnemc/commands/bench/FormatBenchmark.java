@@ -0,0 +1,58 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.utils.ColourFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ColourFormatter#format(String, boolean)} with plain, tagged and ampersand
+ * coloured messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatBenchmark {
+
+  @Param({ "plain", "tags", "ampersand" })
+  public String style;
+
+  @Param({ "false", "true" })
+  public boolean strip;
+
+  private String message;
+
+  @Benchmark
+  public String format() {
+    return ColourFormatter.format(message(), strip);
+  }
+
+  private String message() {
+    if(message == null) {
+      switch(style) {
+        case "tags":
+          message = "<gold>/hello <white>- <green>Used to say hello to <red>$player<reset>.";
+          break;
+        case "ampersand":
+          message = "&6/hello &f- &aUsed to say hello to &c$player&r.";
+          break;
+        default:
+          message = "/hello - Used to say hello to $player.";
+          break;
+      }
+    }
+    return message;
+  }
+}
@@ -0,0 +1,64 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.PlatformSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CommandInformation#buildHelpSub(PlatformSender, int)} for the root command with
+ * the most sub commands.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HelpBenchmark {
+
+  @Param({ "10", "100", "1000", "10000" })
+  public int size;
+
+  @Param({ "2", "4", "6" })
+  public int depth;
+
+  @Param({ "console", "player" })
+  public String senderType;
+
+  private CommandInformation root;
+  private PlatformSender sender;
+
+  @Setup
+  public void setup() {
+    final SyntheticTree tree = SyntheticTree.build(size, depth);
+
+    for(CommandInformation information : tree.getHandler().getManager().getCommands().values()) {
+      if(root == null || information.getSub().size() > root.getSub().size()) root = information;
+    }
+    sender = (senderType.equals("player"))? StubSenders.player("Bench", UUID.randomUUID()) : StubSenders.console();
+  }
+
+  @Benchmark
+  public LinkedHashSet<String> buildHelpSub() {
+    return root.buildHelpSub(sender, 0);
+  }
+
+  @Benchmark
+  public String buildHelp() {
+    return root.buildHelp(sender);
+  }
+}
@@ -0,0 +1,83 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandManager;
+import net.tnemc.commands.core.CommandSearchInformation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CommandManager#search(String, String[])} and
+ * {@link CommandInformation#findSubInformation(String[])} over synthetic trees. Each invocation
+ * looks up the next path, deepest paths first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchBenchmark {
+
+  @Param({ "10", "100", "1000", "10000" })
+  public int size;
+
+  @Param({ "1", "2", "4", "6" })
+  public int depth;
+
+  private CommandManager manager;
+
+  private String[] labels;
+  private String[][] arguments;
+  private CommandInformation[] roots;
+
+  private int index = 0;
+
+  @Setup
+  public void setup() {
+    final SyntheticTree tree = SyntheticTree.build(size, depth);
+    manager = tree.getHandler().getManager();
+
+    final List<String[]> paths = tree.getPaths();
+    labels = new String[paths.size()];
+    arguments = new String[paths.size()][];
+    roots = new CommandInformation[paths.size()];
+
+    for(int i = 0; i < paths.size(); i++) {
+      labels[i] = paths.get(i)[0];
+      arguments[i] = SyntheticTree.arguments(paths.get(i));
+      roots[i] = manager.find(labels[i]).get();
+    }
+  }
+
+  @Benchmark
+  public Optional<CommandSearchInformation> search() {
+    final int i = next();
+    return manager.search(labels[i], arguments[i]);
+  }
+
+  @Benchmark
+  public CommandSearchInformation findSubInformation() {
+    final int i = next();
+    return roots[i].findSubInformation(arguments[i]);
+  }
+
+  private int next() {
+    final int i = index;
+    index = (i + 1 == labels.length)? 0 : i + 1;
+    return i;
+  }
+}
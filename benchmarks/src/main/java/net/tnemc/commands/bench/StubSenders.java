@@ -0,0 +1,79 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Used to create {@link PlatformSender}s that don't need a running server. Every permission check
+ * passes, and messages are counted and dropped.
+ */
+public final class StubSenders {
+
+  private static final LongAdder MESSAGES = new LongAdder();
+
+  private StubSenders() {
+  }
+
+  public static PlatformSender console() {
+    return new StubSender("CONSOLE", null);
+  }
+
+  public static PlatformSender player(String name, UUID id) {
+    return new StubSender(name, id);
+  }
+
+  /**
+   * @return The amount of messages sent to stub senders.
+   */
+  public static long messages() {
+    return MESSAGES.sum();
+  }
+
+  private static class StubSender implements PlatformSender {
+
+    private final String name;
+    private final UUID id;
+
+    StubSender(String name, UUID id) {
+      this.name = name;
+      this.id = id;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public UUID getUniqueId() {
+      return id;
+    }
+
+    @Override
+    public boolean isPlayer() {
+      return id != null;
+    }
+
+    @Override
+    public boolean isConsole() {
+      return id == null;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+      return true;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+      MESSAGES.increment();
+    }
+
+    @Override
+    public String toString() {
+      return "StubSender{" + name + "}";
+    }
+  }
+}
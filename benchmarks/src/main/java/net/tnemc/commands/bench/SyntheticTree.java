@@ -0,0 +1,162 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.completer.impl.SubCompleter;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Builds a {@link CommandsHandler} with a synthetic command tree of a given size and depth, without
+ * a server. Every node uses the same executor, which always succeeds, and has an integer and a
+ * string parameter.
+ */
+public final class SyntheticTree {
+
+  public static final String EXECUTOR = "bench";
+
+  private final CommandsHandler handler;
+  private final List<CommandInformation> nodes = new ArrayList<>();
+
+  //The label and arguments that reach each node, deepest nodes first.
+  private final List<String[]> paths = new ArrayList<>();
+
+  private SyntheticTree(CommandsHandler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * Used to build a tree of roughly the given amount of nodes. Each node has the same amount of
+   * children, chosen so that the tree reaches the given depth.
+   * @param size The amount of nodes.
+   * @param depth The maximum depth, where 1 means only root commands.
+   * @return The built tree.
+   */
+  public static SyntheticTree build(int size, int depth) {
+    return build(size, depth, null);
+  }
+
+  /**
+   * Used to build a tree of roughly the given amount of nodes on a specific platform.
+   * @param size The amount of nodes.
+   * @param depth The maximum depth, where 1 means only root commands.
+   * @param platform The {@link CommandPlatform} to run the handler on, or null for a default
+   *                 headless platform.
+   * @return The built tree.
+   */
+  public static SyntheticTree build(int size, int depth, CommandPlatform platform) {
+    final CommandsHandler handler = (platform == null)? new CommandsHandler(new HeadlessPlatform("TNCH", new File("TNCH")), new EmptyLoader())
+                                                      : new CommandsHandler(platform, new EmptyLoader(), (information, sender)->true);
+    handler.getManager().getCompleters().put("sub_command", new SubCompleter());
+    handler.getManager().addExecutor(EXECUTOR, (sender, label, arguments)->true);
+
+    final SyntheticTree tree = new SyntheticTree(handler);
+    final int branching = Math.max(2, (int)Math.ceil(Math.pow(size, 1.0 / depth)));
+
+    final Deque<CommandInformation> queue = new ArrayDeque<>();
+    final Deque<Integer> depths = new ArrayDeque<>();
+
+    for(int i = 0; i < branching && tree.nodes.size() < size; i++) {
+      final CommandInformation root = tree.node(null);
+      handler.getManager().getCommands().put(root.getIdentifiers(), root);
+      queue.add(root);
+      depths.add(1);
+    }
+
+    while(!queue.isEmpty() && tree.nodes.size() < size) {
+      final CommandInformation parent = queue.poll();
+      final int level = depths.poll();
+      if(level >= depth) continue;
+
+      for(int i = 0; i < branching && tree.nodes.size() < size; i++) {
+        final CommandInformation child = tree.node(parent);
+        parent.addSub(child);
+        queue.add(child);
+        depths.add(level + 1);
+      }
+    }
+
+    for(CommandInformation node : tree.nodes) {
+      tree.paths.add(path(node));
+    }
+    tree.paths.sort((a, b)->Integer.compare(b.length, a.length));
+    return tree;
+  }
+
+  private CommandInformation node(CommandInformation parent) {
+    final CommandInformation information = new CommandInformation(new ArrayList<>(), "n" + nodes.size(), "Synthetic node.",
+                                                                  "bench.node", EXECUTOR, "bench", true, true, false);
+    information.setParent(parent);
+    information.addParameter(parameter(0, "amount", false, "integer"));
+    information.addParameter(parameter(1, "name", true, "string"));
+    nodes.add(information);
+    return information;
+  }
+
+  private static CommandParameter parameter(int order, String name, boolean optional, String type) {
+    final CommandParameter parameter = new CommandParameter(order, name, optional, false, "none");
+    parameter.setType(type);
+    return parameter;
+  }
+
+  private static String[] path(CommandInformation node) {
+    final LinkedList<String> path = new LinkedList<>();
+    for(CommandInformation current = node; current != null; current = current.getParent()) {
+      path.addFirst(current.getName());
+    }
+    return path.toArray(new String[0]);
+  }
+
+  /**
+   * @param path A path from {@link #getPaths()}.
+   * @return The arguments of the path, without the label.
+   */
+  public static String[] arguments(String[] path) {
+    return Arrays.copyOfRange(path, 1, path.length);
+  }
+
+  public CommandsHandler getHandler() {
+    return handler;
+  }
+
+  public List<CommandInformation> getNodes() {
+    return nodes;
+  }
+
+  public List<String[]> getPaths() {
+    return paths;
+  }
+
+  /**
+   * A {@link CommandLoader} that loads nothing, as the tree is built in code.
+   */
+  public static class EmptyLoader implements CommandLoader {
+
+    @Override
+    public LinkedList<CommandParameter> loadParameters(String command, String configBase) {
+      return new LinkedList<>();
+    }
+
+    @Override
+    public void loadMessages() {
+    }
+
+    @Override
+    public void loadCommands() {
+    }
+
+    @Override
+    public void loadCompleters() {
+    }
+  }
+}
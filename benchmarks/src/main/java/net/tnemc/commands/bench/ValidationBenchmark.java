@@ -0,0 +1,73 @@
+package net.tnemc.commands.bench;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandRejection;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.parameter.ParameterType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ParameterType} validators with valid and invalid input, and the full
+ * argument validation of a command.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+  @Param({ "integer", "double", "boolean", "bigdecimal", "string" })
+  public String type;
+
+  @Param({ "true", "false" })
+  public boolean valid;
+
+  private ParameterType parameterType;
+  private String value;
+
+  private CommandsHandler handler;
+  private CommandInformation information;
+  private String[] arguments;
+
+  @Setup
+  public void setup() {
+    parameterType = ParameterType.find(type).get();
+    value = (valid)? "1234.5" : "not a number";
+    if(valid && parameterType == ParameterType.INT) value = "1234";
+
+    final SyntheticTree tree = SyntheticTree.build(10, 1);
+    handler = tree.getHandler();
+    information = tree.getNodes().get(0);
+    arguments = (valid)? new String[] { "1234", "name" } : new String[] { "name", "1234" };
+  }
+
+  @Benchmark
+  public boolean validator() {
+    return parameterType.getValidator().valid("", value);
+  }
+
+  @Benchmark
+  public boolean validatorRegex() {
+    return parameterType.getValidator().valid("[0-9.]+", value);
+  }
+
+  @Benchmark
+  public Optional<CommandRejection> validateCommand() {
+    return handler.validate(information, arguments);
+  }
+}
@@ -0,0 +1,188 @@
+package net.tnemc.commands.bench.budget;
+
+import net.tnemc.commands.bench.StubSenders;
+import net.tnemc.commands.bench.SyntheticTree;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Measures the bytes allocated per call of {@code handle} and {@code tab} on representative
+ * success and rejection paths. AllocationBudgetTest compares them with the budgets in
+ * allocation-budgets.properties, so an allocation regression fails the build.
+ * <p>
+ * Usage: java -cp benchmarks.jar net.tnemc.commands.bench.budget.AllocationBudget [--output file]
+ * <p>
+ * This records new budgets after an intentional change: the measured values, plus 10% and a few
+ * bytes of headroom, are written to src/main/resources/allocation-budgets.properties or the given
+ * file, along with the Java version they were measured on.
+ */
+public class AllocationBudget {
+
+  public static final String RESOURCE = "/allocation-budgets.properties";
+
+  //The key holding the major Java version the budgets were recorded on.
+  public static final String JAVA = "recorded.java";
+
+  private static final int WARMUP = 20000;
+  private static final int ITERATIONS = 20000;
+
+  private static final double HEADROOM = 1.1;
+
+  //Added to every budget, so paths that allocate almost nothing don't fail on a single object.
+  private static final long SLACK = 32;
+
+  private final com.sun.management.ThreadMXBean threads;
+
+  public AllocationBudget() {
+    if(!supported()) {
+      throw new IllegalStateException("This JVM can't measure allocations per thread.");
+    }
+    threads = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+    threads.setThreadAllocatedMemoryEnabled(true);
+  }
+
+  public static void main(String[] args) throws IOException {
+    Path output = Paths.get("src", "main", "resources", "allocation-budgets.properties");
+
+    for(int i = 0; i < args.length; i++) {
+      if(args[i].equals("--output")) {
+        output = Paths.get(args[++i]);
+      } else {
+        throw new IllegalArgumentException("Unknown option " + args[i]);
+      }
+    }
+
+    final Map<String, Long> measured = new AllocationBudget().measure(paths());
+
+    final List<String> lines = new ArrayList<>();
+    lines.add("# Bytes allocated per call of each dispatch path, checked by AllocationBudgetTest during mvn test.");
+    lines.add("# A path over its budget fails the build.");
+    lines.add("#");
+    lines.add("# Regenerate after an intentional change by running AllocationBudget from the benchmarks");
+    lines.add("# directory, and review the difference like any other change. The budgets only apply to the");
+    lines.add("# Java version in " + JAVA + ", other versions skip the check.");
+    lines.add(JAVA + "=" + javaVersion());
+
+    measured.forEach((name, bytes)->{
+      lines.add(name + "=" + budget(bytes));
+      System.out.printf("%-26s %12d bytes/call, budget %d%n", name, bytes, budget(bytes));
+    });
+    Files.write(output, lines, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * @return True if this JVM can measure the bytes allocated by a thread.
+   */
+  public static boolean supported() {
+    return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean
+        && ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean()).isThreadAllocatedMemorySupported();
+  }
+
+  /**
+   * @param bytes The measured bytes per call.
+   * @return The budget recorded for the measured bytes.
+   */
+  public static long budget(long bytes) {
+    return (long)Math.ceil(bytes * HEADROOM) + SLACK;
+  }
+
+  /**
+   * @return The major version of the running JVM, for example 8 or 17.
+   */
+  public static int javaVersion() {
+    final String version = System.getProperty("java.specification.version");
+    return Integer.parseInt(version.startsWith("1.")? version.substring(2) : version);
+  }
+
+  /**
+   * @return The recorded budgets, from allocation-budgets.properties on the classpath.
+   */
+  public static Properties budgets() throws IOException {
+    final Properties properties = new Properties();
+
+    try(InputStream in = AllocationBudget.class.getResourceAsStream(RESOURCE)) {
+      if(in != null) properties.load(in);
+    }
+    return properties;
+  }
+
+  /**
+   * @return The paths to measure, on a synthetic tree of 100 nodes, 3 levels deep.
+   */
+  public static List<AllocationPath> paths() {
+    final SyntheticTree tree = SyntheticTree.build(100, 3);
+    final CommandsHandler handler = tree.getHandler();
+    final PlatformSender player = StubSenders.player("Budget", UUID.randomUUID());
+    final PlatformSender console = StubSenders.console();
+
+    final String[] deepest = tree.getPaths().get(0);
+    final String label = deepest[0];
+    final String[] sub = SyntheticTree.arguments(deepest);
+
+    //The arguments are built up front, so only the allocations of the call itself are measured.
+    final String[] success = append(sub, "1", "name");
+    final String[] required = append(sub, "1");
+    final String[] invalid = append(sub, "x");
+    final String[] partial = append(sub, "");
+    final String[] unknown = { "1" };
+    final String[] first = { "n" };
+    final String[] empty = { "" };
+
+    final List<AllocationPath> paths = new ArrayList<>();
+    paths.add(new AllocationPath("handle.success", ()->handler.handle(player, label, success)));
+    paths.add(new AllocationPath("handle.success.console", ()->handler.handle(console, label, required)));
+    paths.add(new AllocationPath("handle.unknown", ()->handler.handle(player, "unknown", unknown)));
+    paths.add(new AllocationPath("handle.invalid-argument", ()->handler.handle(player, label, invalid)));
+    paths.add(new AllocationPath("handle.missing-argument", ()->handler.handle(player, label, sub)));
+    paths.add(new AllocationPath("tab.sub-command", ()->handler.tab(player, label, first)));
+    paths.add(new AllocationPath("tab.argument", ()->handler.tab(player, label, partial)));
+    paths.add(new AllocationPath("tab.unknown", ()->handler.tab(player, "unknown", empty)));
+    return paths;
+  }
+
+  /**
+   * Used to measure the bytes allocated per call of each path, on the current thread.
+   * @param paths The {@link AllocationPath paths} to measure.
+   * @return The bytes per call of each path, in order.
+   */
+  public Map<String, Long> measure(List<AllocationPath> paths) {
+    final Map<String, Long> measured = new LinkedHashMap<>();
+    final long thread = Thread.currentThread().getId();
+
+    for(AllocationPath path : paths) {
+      for(int i = 0; i < WARMUP; i++) {
+        path.getCall().run();
+      }
+
+      final long before = threads.getThreadAllocatedBytes(thread);
+      for(int i = 0; i < ITERATIONS; i++) {
+        path.getCall().run();
+      }
+      final long after = threads.getThreadAllocatedBytes(thread);
+
+      measured.put(path.getName(), Math.round((after - before) / (double)ITERATIONS));
+    }
+    return measured;
+  }
+
+  private static String[] append(String[] arguments, String... extra) {
+    final String[] result = new String[arguments.length + extra.length];
+    System.arraycopy(arguments, 0, result, 0, arguments.length);
+    System.arraycopy(extra, 0, result, arguments.length, extra.length);
+    return result;
+  }
+}
@@ -0,0 +1,26 @@
+package net.tnemc.commands.bench.budget;
+
+/**
+ * A representative call through the dispatch path, measured by {@link AllocationBudget}.
+ */
+public class AllocationPath {
+
+  private final String name;
+  private final Runnable call;
+
+  public AllocationPath(String name, Runnable call) {
+    this.name = name;
+    this.call = call;
+  }
+
+  /**
+   * @return The name of this path, which is also its key in the budgets file.
+   */
+  public String getName() {
+    return name;
+  }
+
+  public Runnable getCall() {
+    return call;
+  }
+}
@@ -0,0 +1,119 @@
+package net.tnemc.commands.bench.harness;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandManager;
+import net.tnemc.commands.core.parameter.CommandParameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A command node the harness can send, with the label and arguments that reach it and a set of
+ * valid parameter values.
+ */
+public class CommandTarget {
+
+  private final CommandInformation information;
+  private final String label;
+  private final String[] path;
+  private final String[] valid;
+
+  private CommandTarget(CommandInformation information, String label, String[] path, String[] valid) {
+    this.information = information;
+    this.label = label;
+    this.path = path;
+    this.valid = valid;
+  }
+
+  /**
+   * Used to build a target for every node in the command tree.
+   * @param manager The {@link CommandManager} to read the tree from.
+   * @return The targets.
+   */
+  public static List<CommandTarget> collect(CommandManager manager) {
+    final List<CommandTarget> targets = new ArrayList<>();
+
+    for(CommandInformation node : manager.nodes()) {
+      final LinkedList<String> names = new LinkedList<>();
+      for(CommandInformation current = node; current != null; current = current.getParent()) {
+        names.addFirst(current.getName());
+      }
+
+      final String[] path = names.subList(1, names.size()).toArray(new String[0]);
+      final String[] valid = new String[node.getRequiredArguments()];
+
+      int i = 0;
+      for(CommandParameter parameter : node.getParameters().values()) {
+        if(i >= valid.length) break;
+        valid[i++] = value(parameter.getType());
+      }
+      targets.add(new CommandTarget(node, names.getFirst(), path, valid));
+    }
+    return targets;
+  }
+
+  /**
+   * @return The arguments of a valid call to this command.
+   */
+  public String[] arguments() {
+    return concat(path, valid);
+  }
+
+  /**
+   * @param bad The kind of invalid argument, from 0 to 2.
+   * @return The arguments of a call to this command that fails validation, or a garbage sub
+   * command if it doesn't take any arguments.
+   */
+  public String[] invalid(int bad) {
+    if(valid.length == 0 || bad == 0) return concat(path, new String[] { "zz" + bad, "?" });
+
+    if(bad == 1) return path.clone();
+
+    final String[] wrong = valid.clone();
+    wrong[0] = "not-a-number";
+    return concat(path, wrong);
+  }
+
+  /**
+   * @return The arguments of a tab completion of this command's first sub command or argument.
+   */
+  public String[] partial() {
+    final String[] partial = Arrays.copyOf(path, path.length + 1);
+    partial[path.length] = "n";
+    return partial;
+  }
+
+  public CommandInformation getInformation() {
+    return information;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  private static String value(String type) {
+    switch(type.toLowerCase()) {
+      case "integer":
+      case "int":
+      case "i":
+        return "1";
+      case "double":
+      case "bigdecimal":
+      case "decimal":
+        return "1.5";
+      case "boolean":
+      case "bool":
+        return "true";
+      default:
+        return "name";
+    }
+  }
+
+  private static String[] concat(String[] first, String[] second) {
+    final String[] result = Arrays.copyOf(first, first.length + second.length);
+    System.arraycopy(second, 0, result, first.length, second.length);
+    return result;
+  }
+}
@@ -0,0 +1,84 @@
+package net.tnemc.commands.bench.harness;
+
+import java.io.File;
+
+/**
+ * The options of a {@link LoadHarness} run, parsed from the command line.
+ */
+public class HarnessOptions {
+
+  //The commands.yml to load, or null to use a synthetic tree.
+  File commands = null;
+  int size = 1000;
+  int depth = 3;
+
+  int players = 100;
+  int warmup = 5;
+  int duration = 30;
+
+  //Requests per second per player, or 0 to send as fast as possible.
+  double rate = 10;
+
+  //The weights of each Workload, in declaration order.
+  int[] mix = { 70, 20, 10 };
+
+  //The capture to replay, and the replay speed as a multiple of the recorded speed, or 0 for as
+  //fast as possible.
+  File capture = null;
+  double speed = 1;
+
+  /**
+   * Used to parse the options.
+   * @param arguments The command line, as --name value pairs.
+   * @return The parsed options.
+   */
+  public static HarnessOptions parse(String[] arguments) {
+    final HarnessOptions options = new HarnessOptions();
+
+    for(int i = 0; i + 1 < arguments.length; i += 2) {
+      final String value = arguments[i + 1];
+
+      switch(arguments[i]) {
+        case "--commands":
+          options.commands = new File(value);
+          break;
+        case "--size":
+          options.size = Integer.parseInt(value);
+          break;
+        case "--depth":
+          options.depth = Integer.parseInt(value);
+          break;
+        case "--players":
+          options.players = Integer.parseInt(value);
+          break;
+        case "--warmup":
+          options.warmup = Integer.parseInt(value);
+          break;
+        case "--duration":
+          options.duration = Integer.parseInt(value);
+          break;
+        case "--rate":
+          options.rate = Double.parseDouble(value);
+          break;
+        case "--mix":
+          final String[] weights = value.split(",");
+          if(weights.length != Workload.values().length) {
+            throw new IllegalArgumentException("--mix needs " + Workload.values().length + " weights: execute,tab,invalid");
+          }
+          for(int w = 0; w < weights.length; w++) {
+            options.mix[w] = Integer.parseInt(weights[w].trim());
+          }
+          break;
+        case "--capture":
+          options.capture = new File(value);
+          break;
+        case "--speed":
+          options.speed = (value.equalsIgnoreCase("max"))? 0 : Double.parseDouble(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option " + arguments[i]);
+      }
+    }
+    return options;
+  }
+}
@@ -0,0 +1,190 @@
+package net.tnemc.commands.bench.harness;
+
+import net.tnemc.commands.bench.StubSenders;
+import net.tnemc.commands.bench.SyntheticTree;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.cooldown.CooldownHandler;
+import net.tnemc.commands.core.cooldown.impl.DefaultCooldownHandler;
+import net.tnemc.commands.core.loader.impl.BukkitCommandLoader;
+import net.tnemc.commands.core.metrics.LatencyHistogram;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs simulated players against a {@link CommandsHandler} without a server, and reports the
+ * throughput, latency percentiles, allocation rate and cooldown store size.
+ * <p>
+ * Usage: java -cp benchmarks.jar net.tnemc.commands.bench.harness.LoadHarness [--commands
+ * commands.yml | --size 1000 --depth 3] [--players 100] [--rate 10] [--mix 70,20,10]
+ * [--warmup 5] [--duration 30]
+ * <p>
+ * Every executor used by the loaded commands is replaced by one that succeeds immediately, so
+ * the results measure the dispatch engine rather than the commands themselves.
+ */
+public class LoadHarness {
+
+  private final HarnessOptions options;
+
+  private HeadlessPlatform platform;
+  private CommandsHandler handler;
+  private List<CommandTarget> targets;
+
+  public LoadHarness(HarnessOptions options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    new LoadHarness(HarnessOptions.parse(args)).run();
+  }
+
+  /**
+   * Used to build the handler, run the warmup and measurement, and print the report.
+   */
+  public void run() throws IOException, InterruptedException {
+    setup();
+
+    final List<SimulatedPlayer> players = new ArrayList<>();
+    final List<Thread> threads = new ArrayList<>();
+
+    for(int i = 0; i < options.players; i++) {
+      final SimulatedPlayer player = new SimulatedPlayer(handler, platform, targets, options, i);
+      final Thread thread = new Thread(player, "Player " + i);
+      thread.setDaemon(true);
+
+      players.add(player);
+      threads.add(thread);
+      platform.getPlayers().add("Player" + i);
+    }
+    threads.forEach(Thread::start);
+
+    TimeUnit.SECONDS.sleep(options.warmup);
+
+    final long allocatedStart = allocated();
+    final long messagesStart = StubSenders.messages();
+    final long start = System.nanoTime();
+    players.forEach(player->player.setRecording(true));
+
+    TimeUnit.SECONDS.sleep(options.duration);
+
+    players.forEach(player->player.setRecording(false));
+    final double seconds = (System.nanoTime() - start) / 1000000000.0;
+    final long allocated = allocated() - allocatedStart;
+    final long messages = StubSenders.messages() - messagesStart;
+
+    players.forEach(SimulatedPlayer::stop);
+    for(Thread thread : threads) {
+      thread.join(1000);
+    }
+
+    report(players, seconds, allocated, messages);
+
+    platform.runAndWait(handler::shutdown);
+    platform.shutdown();
+  }
+
+  private void setup() throws IOException {
+    platform = platform();
+    handler = handler(platform, options);
+
+    targets = CommandTarget.collect(handler.getManager());
+    if(targets.isEmpty()) throw new IllegalStateException("No commands were loaded.");
+  }
+
+  /**
+   * @return A {@link HeadlessPlatform} with a new temporary data folder.
+   */
+  static HeadlessPlatform platform() throws IOException {
+    return new HeadlessPlatform("TNCH-Harness", Files.createTempDirectory("tnch-harness").toFile());
+  }
+
+  /**
+   * Used to build and load the handler under test, with every executor replaced by one that
+   * succeeds immediately.
+   * @param platform The {@link HeadlessPlatform} to run the handler on.
+   * @param options The {@link HarnessOptions} naming the commands.yml or synthetic tree to load.
+   * @return The loaded {@link CommandsHandler}.
+   */
+  static CommandsHandler handler(HeadlessPlatform platform, HarnessOptions options) {
+    final CommandsHandler handler;
+
+    if(options.commands != null) {
+      handler = new CommandsHandler(platform, new BukkitCommandLoader(YamlConfiguration.loadConfiguration(options.commands)),
+                                    (information, sender)->true);
+    } else {
+      handler = SyntheticTree.build(options.size, options.depth, platform).getHandler();
+    }
+    handler.withCooldown(new DefaultCooldownHandler());
+
+    if(options.commands != null) {
+      platform.runAndWait(handler::load);
+    }
+
+    for(CommandInformation node : handler.getManager().nodes()) {
+      handler.getManager().getExecutors().put(node.getExecutor(), (sender, label, arguments)->true);
+    }
+    return handler;
+  }
+
+  private void report(List<SimulatedPlayer> players, double seconds, long allocated, long messages) {
+    System.out.printf("%d players, %d commands, %.1fs measured%n%n", options.players, targets.size(), seconds);
+    System.out.printf("%-8s %10s %10s %9s %9s %9s %9s %9s%n", "Workload", "Count", "Ops/s", "p50 µs", "p90 µs", "p99 µs", "p99.9 µs", "Max µs");
+
+    final LatencyHistogram all = new LatencyHistogram();
+    for(Workload workload : Workload.values()) {
+      final LatencyHistogram merged = new LatencyHistogram();
+      for(SimulatedPlayer player : players) {
+        merged.merge(player.getLatency(workload));
+      }
+      all.merge(merged);
+      row(workload.name(), merged, seconds);
+    }
+    row("ALL", all, seconds);
+
+    System.out.println();
+    if(allocated >= 0) {
+      System.out.printf("Allocation: %.1f MB/s, %.0f bytes/op%n", allocated / seconds / 1048576.0,
+                        (all.getCount() == 0)? 0.0 : (double)allocated / all.getCount());
+    } else {
+      System.out.println("Allocation: not supported by this JVM");
+    }
+    System.out.printf("Messages sent: %d%n", messages);
+
+    final CooldownHandler cooldowns = handler.getCooldownHandler();
+    System.out.printf("Cooldown store: %d players, %d entries, ~%d KB%n", cooldowns.size(), cooldowns.entries(),
+                      cooldowns.memory() / 1024);
+  }
+
+  static void row(String name, LatencyHistogram histogram, double seconds) {
+    System.out.printf("%-8s %10d %10.0f %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, histogram.getCount(),
+                      histogram.getCount() / seconds, micros(histogram.percentile(0.5)), micros(histogram.percentile(0.9)),
+                      micros(histogram.percentile(0.99)), micros(histogram.percentile(0.999)), micros(histogram.getMax()));
+  }
+
+  private static double micros(long nanos) {
+    return nanos / 1000.0;
+  }
+
+  //The bytes allocated by every live thread, or -1 if the JVM can't measure it.
+  private static long allocated() {
+    final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if(!(threads instanceof com.sun.management.ThreadMXBean)) return -1;
+
+    final com.sun.management.ThreadMXBean sun = (com.sun.management.ThreadMXBean)threads;
+    if(!sun.isThreadAllocatedMemorySupported()) return -1;
+
+    long total = 0;
+    for(long bytes : sun.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+      if(bytes > 0) total += bytes;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,95 @@
+package net.tnemc.commands.bench.harness;
+
+import net.tnemc.commands.bench.StubSenders;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.capture.CaptureReader;
+import net.tnemc.commands.core.capture.CaptureRecord;
+import net.tnemc.commands.core.metrics.LatencyHistogram;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a capture written by the command capture against a {@link CommandsHandler} without a
+ * server, and reports the throughput and latency percentiles of the replayed calls.
+ * <p>
+ * Usage: java -cp benchmarks.jar net.tnemc.commands.bench.harness.ReplayHarness --capture
+ * capture.tncc [--commands commands.yml | --size 1000 --depth 3] [--speed 1 | max]
+ * <p>
+ * Calls are replayed in order from a single thread. Commands run on the main thread, and tab
+ * completions run on the replay thread. At 1x speed each call is sent at its recorded offset, so
+ * the latency includes any time the main thread spent catching up.
+ */
+public class ReplayHarness {
+
+  private final Map<UUID, PlatformSender> senders = new HashMap<>();
+  private final LatencyHistogram[] latencies = { new LatencyHistogram(), new LatencyHistogram() };
+
+  private final HarnessOptions options;
+
+  public ReplayHarness(HarnessOptions options) {
+    this.options = options;
+  }
+
+  public static void main(String[] args) throws Exception {
+    final HarnessOptions options = HarnessOptions.parse(args);
+    if(options.capture == null) throw new IllegalArgumentException("--capture is required");
+
+    new ReplayHarness(options).run();
+  }
+
+  /**
+   * Used to build the handler, replay the capture and print the report.
+   */
+  public void run() throws IOException {
+    final HeadlessPlatform platform = LoadHarness.platform();
+    final CommandsHandler handler = LoadHarness.handler(platform, options);
+    final PlatformSender console = StubSenders.console();
+
+    long replayed = 0;
+    final long start = System.nanoTime();
+
+    try(CaptureReader reader = new CaptureReader(options.capture.toPath())) {
+      CaptureRecord record;
+      while((record = reader.next()) != null) {
+        if(options.speed > 0) {
+          final long wait = start + (long)(record.getTime() * 1000 / options.speed) - System.nanoTime();
+          if(wait > 0) LockSupport.parkNanos(wait);
+        }
+
+        final PlatformSender sender = (record.getSender() == null)? console : senders.computeIfAbsent(record.getSender(),
+            id->StubSenders.player(id.toString().substring(0, 16), id));
+
+        final CaptureRecord current = record;
+        final long began = System.nanoTime();
+
+        if(record.getType() == CaptureRecord.TAB) {
+          handler.tab(sender, current.getLabel(), current.getArguments());
+        } else {
+          platform.runAndWait(()->handler.handle(sender, current.getLabel(), current.getArguments()));
+        }
+        latencies[record.getType() == CaptureRecord.TAB? 1 : 0].record(System.nanoTime() - began);
+        replayed++;
+      }
+    }
+
+    final double seconds = (System.nanoTime() - start) / 1000000000.0;
+    System.out.printf("Replayed %d calls from %d players in %.1fs%n%n", replayed, senders.size(), seconds);
+    System.out.printf("%-8s %10s %10s %9s %9s %9s %9s %9s%n", "Type", "Count", "Ops/s", "p50 µs", "p90 µs", "p99 µs", "p99.9 µs", "Max µs");
+
+    final LatencyHistogram all = new LatencyHistogram();
+    all.merge(latencies[0]);
+    all.merge(latencies[1]);
+    LoadHarness.row("EXECUTE", latencies[0], seconds);
+    LoadHarness.row("TAB", latencies[1], seconds);
+    LoadHarness.row("ALL", all, seconds);
+
+    platform.runAndWait(handler::shutdown);
+    platform.shutdown();
+  }
+}
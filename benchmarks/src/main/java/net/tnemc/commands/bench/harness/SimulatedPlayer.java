@@ -0,0 +1,107 @@
+package net.tnemc.commands.bench.harness;
+
+import net.tnemc.commands.bench.StubSenders;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.metrics.LatencyHistogram;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A player that sends a weighted mix of {@link Workload requests} until it's stopped, and records
+ * the latency of each one from the time it was scheduled to be sent.
+ */
+public class SimulatedPlayer implements Runnable {
+
+  private final LatencyHistogram[] latencies = new LatencyHistogram[Workload.values().length];
+
+  private final CommandsHandler handler;
+  private final HeadlessPlatform platform;
+  private final List<CommandTarget> targets;
+  private final HarnessOptions options;
+  private final PlatformSender player;
+
+  private volatile boolean recording = false;
+  private volatile boolean running = true;
+
+  public SimulatedPlayer(CommandsHandler handler, HeadlessPlatform platform, List<CommandTarget> targets,
+                         HarnessOptions options, int number) {
+    this.handler = handler;
+    this.platform = platform;
+    this.targets = targets;
+    this.options = options;
+    this.player = StubSenders.player("Player" + number, new UUID(0, number));
+
+    for(int i = 0; i < latencies.length; i++) {
+      latencies[i] = new LatencyHistogram();
+    }
+  }
+
+  @Override
+  public void run() {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final long interval = (options.rate > 0)? (long)(1000000000L / options.rate) : 0;
+    final int total = options.mix[0] + options.mix[1] + options.mix[2];
+
+    //Spread the first requests so the players don't send in lockstep.
+    long next = System.nanoTime() + ((interval > 0)? random.nextLong(interval) : 0);
+
+    while(running) {
+      //At a fixed rate, latency is measured from when the request should have been sent. A slow
+      //response delays the following requests, and that wait has to count towards their latency.
+      final long start;
+      if(interval > 0) {
+        final long wait = next - System.nanoTime();
+        if(wait > 0) LockSupport.parkNanos(wait);
+        start = next;
+        next += interval;
+      } else {
+        start = System.nanoTime();
+      }
+
+      final Workload workload = pick(random.nextInt(Math.max(1, total)));
+      final CommandTarget target = targets.get(random.nextInt(targets.size()));
+
+      switch(workload) {
+        case EXECUTE:
+          platform.runAndWait(()->handler.handle(player, target.getLabel(), target.arguments()));
+          break;
+        case TAB:
+          handler.tab(player, target.getLabel(), target.partial());
+          break;
+        default:
+          final int bad = random.nextInt(3);
+          final String label = (bad == 0 && random.nextBoolean())? "unknown" + random.nextInt(100) : target.getLabel();
+          platform.runAndWait(()->handler.handle(player, label, target.invalid(bad)));
+          break;
+      }
+
+      if(recording) latencies[workload.ordinal()].record(System.nanoTime() - start);
+    }
+  }
+
+  private Workload pick(int roll) {
+    int cumulative = 0;
+    for(Workload workload : Workload.values()) {
+      cumulative += options.mix[workload.ordinal()];
+      if(roll < cumulative) return workload;
+    }
+    return Workload.EXECUTE;
+  }
+
+  public LatencyHistogram getLatency(Workload workload) {
+    return latencies[workload.ordinal()];
+  }
+
+  public void setRecording(boolean recording) {
+    this.recording = recording;
+  }
+
+  public void stop() {
+    running = false;
+  }
+}
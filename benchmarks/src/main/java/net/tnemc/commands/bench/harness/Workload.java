@@ -0,0 +1,23 @@
+package net.tnemc.commands.bench.harness;
+
+/**
+ * The kinds of requests a {@link SimulatedPlayer} sends.
+ */
+public enum Workload {
+
+  /**
+   * A valid command, run on the main thread like a chat command.
+   */
+  EXECUTE,
+
+  /**
+   * A tab completion of a partial argument, run on the player's thread like an asynchronous tab
+   * completion.
+   */
+  TAB,
+
+  /**
+   * An unknown label, a missing argument or an argument of the wrong type, run on the main thread.
+   */
+  INVALID
+}
@@ -0,0 +1,42 @@
+package net.tnemc.commands.bench.budget;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class AllocationBudgetTest {
+
+  @Test
+  public void everyPathStaysWithinItsBudget() throws IOException {
+    assumeTrue("This JVM can't measure allocations per thread.", AllocationBudget.supported());
+
+    final Properties budgets = AllocationBudget.budgets();
+    final String recorded = budgets.getProperty(AllocationBudget.JAVA);
+    assertNotNull("No budgets were recorded, run AllocationBudget to record them.", recorded);
+
+    //Allocation sizes differ between Java versions, so budgets only apply to the version they were recorded on.
+    assumeTrue("The budgets were recorded on Java " + recorded + ".",
+               Integer.parseInt(recorded.trim()) == AllocationBudget.javaVersion());
+
+    final Map<String, Long> measured = new AllocationBudget().measure(AllocationBudget.paths());
+    final List<String> over = new ArrayList<>();
+
+    for(Map.Entry<String, Long> entry : measured.entrySet()) {
+      final String budget = budgets.getProperty(entry.getKey());
+      assertNotNull("No budget was recorded for " + entry.getKey() + ".", budget);
+
+      if(entry.getValue() > Long.parseLong(budget.trim())) {
+        over.add(entry.getKey() + " allocates " + entry.getValue() + " bytes per call, over its budget of " + budget.trim());
+      }
+    }
+    assertTrue(String.join("\n", over), over.isEmpty());
+  }
+}
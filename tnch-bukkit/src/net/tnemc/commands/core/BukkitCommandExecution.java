@@ -0,0 +1,22 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.platform.BukkitSender;
+import net.tnemc.commands.core.platform.PlatformSender;
+import org.bukkit.Bukkit;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+
+/**
+ * A {@link CommandExecution} written against Bukkit's {@link CommandSender} and {@link Command},
+ * for executors that need Bukkit's API. This only works with senders from a {@link BukkitCommandsHandler}.
+ */
+@FunctionalInterface
+public interface BukkitCommandExecution extends CommandExecution {
+
+  boolean execute(CommandSender sender, Command command, String label, String[] arguments);
+
+  @Override
+  default boolean execute(PlatformSender sender, String label, String[] arguments) {
+    return execute(BukkitSender.unwrap(sender), Bukkit.getPluginCommand(label), label, arguments);
+  }
+}
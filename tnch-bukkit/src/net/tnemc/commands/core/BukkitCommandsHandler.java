@@ -0,0 +1,83 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.loader.impl.BukkitCommandLoader;
+import net.tnemc.commands.core.loader.impl.CuttlefishCommandLoader;
+import net.tnemc.commands.core.platform.BukkitPlatform;
+import net.tnemc.commands.core.platform.BukkitSender;
+import net.tnemc.config.CommentedConfiguration;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.List;
+
+/**
+ * The {@link CommandsHandler} for Bukkit plugins, which runs on a {@link BukkitPlatform} and takes
+ * Bukkit's command callbacks straight from the plugin's onCommand and onTabComplete.
+ */
+public class BukkitCommandsHandler extends CommandsHandler {
+
+  public BukkitCommandsHandler(JavaPlugin plugin, FileConfiguration commandsFile) {
+    this(plugin, new BukkitCommandLoader(commandsFile));
+  }
+
+  public BukkitCommandsHandler(JavaPlugin plugin, CommentedConfiguration commandsFile) {
+    this(plugin, new CuttlefishCommandLoader(commandsFile));
+  }
+
+  public BukkitCommandsHandler(JavaPlugin plugin, FileConfiguration commandsFile, boolean testing) {
+    this(plugin, new BukkitCommandLoader(commandsFile), (testing)? (information, sender)->true : PERMISSION);
+  }
+
+  public BukkitCommandsHandler(JavaPlugin plugin, CommentedConfiguration commandsFile, boolean testing) {
+    this(plugin, new CuttlefishCommandLoader(commandsFile), (testing)? (information, sender)->true : PERMISSION);
+  }
+
+  public BukkitCommandsHandler(JavaPlugin plugin, CommandLoader loader) {
+    this(plugin, loader, PERMISSION);
+  }
+
+  public BukkitCommandsHandler(JavaPlugin plugin, FileConfiguration commandsFile, CommandPermissionHandler permissionHandler) {
+    this(plugin, new BukkitCommandLoader(commandsFile), permissionHandler);
+  }
+
+  public BukkitCommandsHandler(JavaPlugin plugin, CommentedConfiguration commandsFile, CommandPermissionHandler permissionHandler) {
+    this(plugin, new CuttlefishCommandLoader(commandsFile), permissionHandler);
+  }
+
+  /**
+   * Creates a new Command Handler instance.
+   * @param plugin The instance of the plugin class.
+   * @param loader The {@link CommandLoader} instance to use.
+   * @param permissionHandler The {@link CommandPermissionHandler} instance to use.
+   */
+  public BukkitCommandsHandler(JavaPlugin plugin, CommandLoader loader, CommandPermissionHandler permissionHandler) {
+    super(new BukkitPlatform(plugin), loader, permissionHandler);
+  }
+
+  /**
+   * Used to handle tab completion with registered commands.
+   * @param sender The instance of Bukkit's {@link CommandSender} class.
+   * @param command The instance of Bukkit's {@link Command} class.
+   * @param label The String used as a command. Example: test would be the label in /test hi
+   * @param arguments A String array of the arguments provided for the command executed.
+   * @return A list containing the tab completion values.
+   */
+  public List<String> tab(CommandSender sender, Command command, String label, String[] arguments) {
+    return tab(new BukkitSender(sender), label, arguments);
+  }
+
+  /**
+   * Used to handle a command registered with TNCH.
+   * @param sender The instance of Bukkit's {@link CommandSender} class.
+   * @param command The instance of Bukkit's {@link Command} class.
+   * @param label The String used as a command. Example: test would be the label in /test hi
+   * @param arguments A String array of the arguments provided for the command executed.
+   * @return True if the command was successful, otherwise false.
+   */
+  public boolean handle(CommandSender sender, Command command, String label, String[] arguments) {
+    return handle(new BukkitSender(sender), label, arguments);
+  }
+}
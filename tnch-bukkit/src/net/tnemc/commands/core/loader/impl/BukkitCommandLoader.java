@@ -0,0 +1,72 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.loader.CommandSection;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.List;
+import java.util.Set;
+
+public class BukkitCommandLoader extends SectionCommandLoader {
+
+  private FileConfiguration config;
+
+  public BukkitCommandLoader(FileConfiguration config) {
+    this.config = config;
+  }
+
+  @Override
+  protected CommandSection root() {
+    return new BukkitSection(config);
+  }
+
+  private static class BukkitSection implements CommandSection {
+
+    private final ConfigurationSection section;
+
+    BukkitSection(ConfigurationSection section) {
+      this.section = section;
+    }
+
+    @Override
+    public Set<String> getKeys() {
+      return section.getKeys(false);
+    }
+
+    @Override
+    public CommandSection getSection(String key) {
+      final ConfigurationSection child = section.getConfigurationSection(key);
+      return (child == null)? null : new BukkitSection(child);
+    }
+
+    @Override
+    public boolean contains(String key) {
+      return section.contains(key);
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+      return section.getString(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBool(String key, boolean defaultValue) {
+      return section.getBoolean(key, defaultValue);
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+      return section.getInt(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+      return section.getLong(key, defaultValue);
+    }
+
+    @Override
+    public List<String> getStringList(String key) {
+      return section.getStringList(key);
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandManager;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link CommandLoader} that keeps a compiled binary snapshot of a commands file next to it, and
+ * loads the snapshot instead of parsing the YAML while the file's hash is unchanged. Otherwise the
+ * file is loaded with a {@link BukkitCommandLoader} and a new snapshot is written.
+ * <p>
+ * The snapshot is bypassed while a translator is set, as translations are applied at load time and
+ * may change without the commands file changing.
+ * <p>
+ * No snapshot is written while LazyLoad is on, so the commands are loaded lazily from the YAML every
+ * time. A snapshot holds the whole tree, so writing one would load every lazy command and reading
+ * one would rebuild every command up front.
+ */
+public class CompiledCommandLoader implements CommandLoader {
+
+  private final File source;
+  private final File cache;
+
+  private BukkitCommandLoader delegate = null;
+  private CompiledTree compiled = null;
+  private byte[] hash = null;
+
+  //The root commands loaded from the source, which are compiled once loading is complete.
+  private final List<CommandInformation> loaded = new ArrayList<>();
+  private YamlConfiguration config = null;
+
+  /**
+   * @param source The commands file.
+   * @param cache The file to store the compiled snapshot in.
+   */
+  public CompiledCommandLoader(File source, File cache) {
+    this.source = source;
+    this.cache = cache;
+  }
+
+  public CompiledCommandLoader(File source) {
+    this(source, new File(source.getPath() + ".bin"));
+  }
+
+  @Override
+  public void load() {
+    prepare();
+    CommandLoader.super.load();
+
+    if(compiled == null && hash != null && !config.getBoolean("LazyLoad", false)) {
+      compile();
+    }
+    loaded.clear();
+    config = null;
+  }
+
+  private void prepare() {
+    final CommandManager manager = CommandsHandler.manager();
+    compiled = null;
+    hash = null;
+
+    if(manager.getTranslator() == null) {
+      try {
+        hash = CompiledTree.hash(source.toPath());
+        compiled = CompiledTree.read(cache.toPath(), hash).orElse(null);
+      } catch(IOException e) {
+        manager.getPlatform().getLogger().warning("Unable to read the compiled commands " + cache.getName() + ": " + e.getMessage());
+      }
+    }
+
+    if(compiled != null) {
+      final YamlConfiguration settings = new YamlConfiguration();
+      for(Map.Entry<String, Object> entry : compiled.getSettings().entrySet()) {
+        if(entry.getValue() == CompiledTree.SECTION_MARKER) {
+          settings.createSection(entry.getKey());
+        } else {
+          settings.set(entry.getKey(), entry.getValue());
+        }
+      }
+      delegate = new BukkitCommandLoader(settings);
+    } else {
+      config = YamlConfiguration.loadConfiguration(source);
+      delegate = new BukkitCommandLoader(config);
+    }
+  }
+
+  private void compile() {
+    final Map<String, Object> settings = new LinkedHashMap<>();
+
+    for(Map.Entry<String, Object> entry : config.getValues(true).entrySet()) {
+      final String key = entry.getKey();
+      if(key.equals("Commands") || key.startsWith("Commands.")) continue;
+
+      if(entry.getValue() instanceof ConfigurationSection) {
+        if(((ConfigurationSection)entry.getValue()).getKeys(false).isEmpty()) {
+          settings.put(key, CompiledTree.SECTION_MARKER);
+        }
+        continue;
+      }
+      settings.put(key, entry.getValue());
+    }
+
+    try {
+      new CompiledTree(settings, loaded).write(cache.toPath(), hash);
+    } catch(IOException e) {
+      CommandsHandler.manager().getPlatform().getLogger().warning("Unable to write the compiled commands " + cache.getName() + ": " + e.getMessage());
+    }
+  }
+
+  @Override
+  public void loadCommands() {
+    final CommandManager manager = CommandsHandler.manager();
+
+    if(compiled != null) {
+      for(CommandInformation information : compiled.getCommands()) {
+        manager.register(information.getIdentifiers(), information);
+      }
+      return;
+    }
+
+    final Set<CommandInformation> before = new HashSet<>(manager.getCommands().values());
+    delegate.loadCommands();
+
+    for(CommandInformation information : manager.getCommands().values()) {
+      if(!before.contains(information)) loaded.add(information);
+    }
+  }
+
+  @Override
+  public LinkedList<CommandParameter> loadParameters(String command, String configBase) {
+    return delegate.loadParameters(command, configBase);
+  }
+
+  @Override
+  public void loadTrace() {
+    delegate.loadTrace();
+  }
+
+  @Override
+  public void loadMessages() {
+    delegate.loadMessages();
+  }
+
+  @Override
+  public void loadCompleters() {
+    delegate.loadCompleters();
+  }
+
+  @Override
+  public void loadRateLimits() {
+    delegate.loadRateLimits();
+  }
+
+  @Override
+  public void loadAdmission() {
+    delegate.loadAdmission();
+  }
+
+  @Override
+  public void loadAsync() {
+    delegate.loadAsync();
+  }
+
+  @Override
+  public void loadWatchdog() {
+    delegate.loadWatchdog();
+  }
+
+  @Override
+  public void loadMetrics() {
+    delegate.loadMetrics();
+  }
+
+  @Override
+  public void loadUsage() {
+    delegate.loadUsage();
+  }
+
+  @Override
+  public void loadAudit() {
+    delegate.loadAudit();
+  }
+
+  @Override
+  public void loadCapture() {
+    delegate.loadCapture();
+  }
+
+  @Override
+  public void loadSchedules() {
+    delegate.loadSchedules();
+  }
+
+  /**
+   * @return True if the last load used the compiled snapshot.
+   */
+  public boolean isCompiled() {
+    return compiled != null;
+  }
+
+  public File getSource() {
+    return source;
+  }
+
+  public File getCache() {
+    return cache;
+  }
+}
@@ -0,0 +1,201 @@
+package net.tnemc.commands.core.platform;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.Command;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * The {@link CommandPlatform} used on Bukkit servers, which schedules through the Bukkit scheduler
+ * and registers commands straight into the server's command map.
+ */
+public class BukkitPlatform implements CommandPlatform {
+
+  private final JavaPlugin plugin;
+  private final BukkitSender console;
+
+  private Field commandMap = null;
+  private Field knownCommands = null;
+
+  public BukkitPlatform(JavaPlugin plugin) {
+    this.plugin = plugin;
+    this.console = new BukkitSender(Bukkit.getConsoleSender());
+  }
+
+  @Override
+  public String getName() {
+    return plugin.getName();
+  }
+
+  @Override
+  public Logger getLogger() {
+    return plugin.getLogger();
+  }
+
+  @Override
+  public File getDataFolder() {
+    return plugin.getDataFolder();
+  }
+
+  @Override
+  public boolean isPrimaryThread() {
+    return Bukkit.isPrimaryThread();
+  }
+
+  @Override
+  public PlatformTask runSync(Runnable runnable) {
+    return Bukkit.getScheduler().runTask(plugin, runnable)::cancel;
+  }
+
+  @Override
+  public PlatformTask runAsync(Runnable runnable) {
+    return Bukkit.getScheduler().runTaskAsynchronously(plugin, runnable)::cancel;
+  }
+
+  @Override
+  public PlatformTask runTimer(Runnable runnable, long delay, long period) {
+    return Bukkit.getScheduler().runTaskTimer(plugin, runnable, delay, period)::cancel;
+  }
+
+  @Override
+  public PlatformTask runTimerAsync(Runnable runnable, long delay, long period) {
+    return Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, runnable, delay, period)::cancel;
+  }
+
+  @Override
+  public PlatformTask listen(ConnectionListener listener) {
+    final Listener events = new ConnectionEvents(listener);
+    Bukkit.getPluginManager().registerEvents(events, plugin);
+    return ()->HandlerList.unregisterAll(events);
+  }
+
+  @Override
+  public Collection<String> getOnlinePlayers() {
+    final List<String> names = new ArrayList<>();
+    for(Player player : Bukkit.getOnlinePlayers()) {
+      names.add(ChatColor.stripColor(player.getDisplayName()));
+    }
+    return names;
+  }
+
+  @Override
+  public Collection<UUID> getOnlinePlayerIds() {
+    final List<UUID> ids = new ArrayList<>();
+    for(Player player : Bukkit.getOnlinePlayers()) {
+      ids.add(player.getUniqueId());
+    }
+    return ids;
+  }
+
+  @Override
+  public Optional<String> getPlayerName(UUID player) {
+    final OfflinePlayer offline = Bukkit.getOfflinePlayer(player);
+    return Optional.ofNullable(offline.getName());
+  }
+
+  @Override
+  public PlatformSender getConsole() {
+    return console;
+  }
+
+  /**
+   * ONLY USE THIS IF YOU KNOW WHAT YOU'RE DOING.
+   */
+  public void init() {
+    try {
+      commandMap = Bukkit.getServer().getClass().getDeclaredField("commandMap");
+      commandMap.setAccessible(true);
+      knownCommands = SimpleCommandMap.class.getDeclaredField("knownCommands");
+      knownCommands.setAccessible(true);
+    } catch (Exception ignore) {
+      /* do nothing */
+    }
+  }
+
+  @Override
+  public void registerCommand(String command) {
+    try {
+
+      if(commandMap == null) init();
+
+      if(registered(command)) unregisterCommand(command);
+
+      Constructor<PluginCommand> c = PluginCommand.class.getDeclaredConstructor(String.class, Plugin.class);
+      c.setAccessible(true);
+      PluginCommand pluginCommand = c.newInstance(command, plugin);
+      if(pluginCommand != null) {
+        ((SimpleCommandMap) commandMap.get(Bukkit.getServer())).register(command, pluginCommand);
+      }
+    } catch(Exception ignore) {
+      //nothing to see here;
+    }
+  }
+
+  @Override
+  public void unregisterCommand(String command) {
+    try {
+      if(commandMap == null) init();
+
+      ((Map<String, Command>) knownCommands.get(commandMap.get(Bukkit.getServer()))).remove(command);
+    } catch(Exception ignore) {
+      //nothing to see here;
+    }
+  }
+
+  private boolean registered(String command) {
+    try {
+      return ((Map<String, Command>) knownCommands.get(commandMap.get(Bukkit.getServer()))).containsKey(command);
+    } catch(Exception e) {
+      //nothing to see here;
+    }
+    return false;
+  }
+
+  public JavaPlugin getPlugin() {
+    return plugin;
+  }
+
+  /**
+   * Passes Bukkit's join and quit events on to a {@link ConnectionListener}.
+   */
+  private static class ConnectionEvents implements Listener {
+
+    private final ConnectionListener listener;
+
+    ConnectionEvents(ConnectionListener listener) {
+      this.listener = listener;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(final PlayerJoinEvent event) {
+      listener.join(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+      listener.quit(event.getPlayer().getUniqueId());
+    }
+  }
+}
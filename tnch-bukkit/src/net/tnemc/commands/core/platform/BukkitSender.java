@@ -0,0 +1,94 @@
+package net.tnemc.commands.core.platform;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+
+/**
+ * The {@link PlatformSender} for a Bukkit {@link CommandSender}. Two of these are equal when they
+ * wrap the same sender, so a sender may be wrapped again for each command.
+ */
+public class BukkitSender implements PlatformSender {
+
+  private final CommandSender sender;
+
+  public BukkitSender(CommandSender sender) {
+    this.sender = sender;
+  }
+
+  /**
+   * Used to get the Bukkit {@link CommandSender} back from a {@link PlatformSender}, for executors
+   * that need Bukkit's API.
+   * @param sender The {@link PlatformSender}, which must be a {@link BukkitSender}.
+   * @return The wrapped {@link CommandSender}.
+   */
+  public static CommandSender unwrap(PlatformSender sender) {
+    if(sender instanceof BukkitSender) return ((BukkitSender)sender).getSender();
+
+    throw new IllegalArgumentException("Sender " + sender.getName() + " isn't a Bukkit sender.");
+  }
+
+  @Override
+  public String getName() {
+    return sender.getName();
+  }
+
+  @Override
+  public String getDisplayName() {
+    if(sender instanceof Player) return ChatColor.stripColor(((Player)sender).getDisplayName());
+    return sender.getName();
+  }
+
+  @Override
+  public UUID getUniqueId() {
+    return (sender instanceof Entity)? ((Entity)sender).getUniqueId() : null;
+  }
+
+  @Override
+  public boolean isPlayer() {
+    return sender instanceof Player;
+  }
+
+  @Override
+  public boolean isConsole() {
+    return sender instanceof ConsoleCommandSender;
+  }
+
+  @Override
+  public boolean isOnline() {
+    return !(sender instanceof Player) || ((Player)sender).isOnline();
+  }
+
+  @Override
+  public boolean hasPermission(String permission) {
+    return sender.hasPermission(permission);
+  }
+
+  @Override
+  public void sendMessage(String message) {
+    sender.sendMessage(message);
+  }
+
+  public CommandSender getSender() {
+    return sender;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return (o instanceof BukkitSender) && ((BukkitSender)o).sender.equals(sender);
+  }
+
+  @Override
+  public int hashCode() {
+    return sender.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "BukkitSender{" + sender.getName() + "}";
+  }
+}
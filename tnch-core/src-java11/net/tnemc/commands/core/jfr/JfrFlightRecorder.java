@@ -0,0 +1,141 @@
+package net.tnemc.commands.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+/**
+ * The Java 11 {@link FlightRecorder}, which commits a jdk.jfr event for each phase while recording
+ * is enabled. Each phase is its own event type so it may be enabled separately in a recording's
+ * settings. This is loaded by {@link CommandFlightRecorder} on Java 11 or newer.
+ */
+public final class JfrFlightRecorder implements FlightRecorder {
+
+  //Indexed by FlightPhase ordinal.
+  private static final EventType[] TYPES = {
+      EventType.getEventType(LookupEvent.class),
+      EventType.getEventType(CooldownEvent.class),
+      EventType.getEventType(PermissionEvent.class),
+      EventType.getEventType(ValidationEvent.class),
+      EventType.getEventType(ExecuteEvent.class),
+      EventType.getEventType(CompletionEvent.class),
+      EventType.getEventType(LoadEvent.class)
+  };
+
+  @Override
+  public Object begin(final FlightPhase phase) {
+    if(!TYPES[phase.ordinal()].isEnabled()) return null;
+
+    final CommandEvent event = create(phase);
+    event.begin();
+    return event;
+  }
+
+  @Override
+  public void end(final Object event, final CommandInformation information, final PlatformSender sender,
+                         final int arguments, final Object outcome) {
+    if(event == null) return;
+
+    final CommandEvent commandEvent = (CommandEvent)event;
+    commandEvent.end();
+
+    if(commandEvent.shouldCommit()) {
+      commandEvent.path = (information == null)? null : information.buildCommand(sender);
+      commandEvent.sender = type(sender);
+      commandEvent.arguments = arguments;
+      commandEvent.outcome = (outcome == null)? null : outcome.toString();
+      commandEvent.commit();
+    }
+  }
+
+  private static CommandEvent create(final FlightPhase phase) {
+    switch(phase) {
+      case LOOKUP:
+        return new LookupEvent();
+      case COOLDOWN:
+        return new CooldownEvent();
+      case PERMISSION:
+        return new PermissionEvent();
+      case VALIDATION:
+        return new ValidationEvent();
+      case EXECUTE:
+        return new ExecuteEvent();
+      case COMPLETION:
+        return new CompletionEvent();
+      default:
+        return new LoadEvent();
+    }
+  }
+
+  private static String type(final PlatformSender sender) {
+    if(sender == null) return null;
+    if(sender.isPlayer()) return "player";
+    if(sender.isConsole()) return "console";
+    return "other";
+  }
+
+  @Category({"TNCH", "Commands"})
+  @StackTrace(false)
+  abstract static class CommandEvent extends Event {
+
+    @Label("Command Path")
+    String path;
+
+    @Label("Sender Type")
+    String sender;
+
+    @Label("Argument Count")
+    int arguments;
+
+    @Label("Outcome")
+    String outcome;
+  }
+
+  @Name("net.tnemc.commands.Lookup")
+  @Label("Command Lookup")
+  @Description("Searching the command tree for a command.")
+  static final class LookupEvent extends CommandEvent {
+  }
+
+  @Name("net.tnemc.commands.Cooldown")
+  @Label("Command Cooldown Check")
+  @Description("Checking whether the sender has a cooldown for a command.")
+  static final class CooldownEvent extends CommandEvent {
+  }
+
+  @Name("net.tnemc.commands.Permission")
+  @Label("Command Permission Check")
+  @Description("Checking whether the sender may run a command.")
+  static final class PermissionEvent extends CommandEvent {
+  }
+
+  @Name("net.tnemc.commands.Validation")
+  @Label("Command Validation")
+  @Description("Validating the arguments of a command.")
+  static final class ValidationEvent extends CommandEvent {
+  }
+
+  @Name("net.tnemc.commands.Execute")
+  @Label("Command Execution")
+  @Description("Running a command's executor.")
+  static final class ExecuteEvent extends CommandEvent {
+  }
+
+  @Name("net.tnemc.commands.Completion")
+  @Label("Command Tab Completion")
+  @Description("Tab completing a command.")
+  static final class CompletionEvent extends CommandEvent {
+  }
+
+  @Name("net.tnemc.commands.Load")
+  @Label("Command Load")
+  @Description("Loading the commands from the command loader.")
+  static final class LoadEvent extends CommandEvent {
+  }
+}
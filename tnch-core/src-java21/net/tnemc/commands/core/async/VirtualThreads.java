@@ -0,0 +1,17 @@
+package net.tnemc.commands.core.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Used to create an {@link ExecutorService} that runs each asynchronous command on its own virtual
+ * thread. This is loaded by {@link CommandThreads} on Java 21 or newer.
+ */
+public final class VirtualThreads implements Supplier<ExecutorService> {
+
+  @Override
+  public ExecutorService get() {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("TNCH-Async-", 1).factory());
+  }
+}
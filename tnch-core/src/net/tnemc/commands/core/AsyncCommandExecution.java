@@ -0,0 +1,21 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link CommandExecution} that completes asynchronously. TNCH calls
+ * {@link #executeAsync(PlatformSender, String, String[])} from its async pool, so it may
+ * block on I/O. Use {@link net.tnemc.commands.core.async.MainThread} to get back onto the main
+ * thread.
+ */
+public interface AsyncCommandExecution extends CommandExecution {
+
+  CompletableFuture<Boolean> executeAsync(PlatformSender sender, String label, String[] arguments);
+
+  @Override
+  default boolean execute(PlatformSender sender, String label, String[] arguments) {
+    return executeAsync(sender, label, arguments).join();
+  }
+}
@@ -0,0 +1,39 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link CommandExecution} that receives every validated call of its command made during a tick
+ * in a single call, so that it may group its I/O. Each {@link CommandInvocation} should be given
+ * its result through {@link CommandInvocation#respond(String...)} and
+ * {@link CommandInvocation#complete(boolean)}.
+ */
+public interface BatchCommandExecution extends CommandExecution {
+
+  void executeBatch(List<CommandInvocation> invocations);
+
+  /**
+   * Used when this executor is called directly rather than through a batch. The command is looked
+   * up from the label and arguments, so the invocation has its {@link CommandInformation}.
+   */
+  @Override
+  default boolean execute(PlatformSender sender, String label, String[] arguments) {
+    CommandInformation information = null;
+
+    final Optional<CommandSearchInformation> search = CommandsHandler.manager().search(label, arguments);
+    if(search.isPresent() && search.get().getInformation().isPresent()) {
+      information = search.get().getInformation().get();
+      arguments = search.get().getArguments();
+    }
+
+    final CommandInvocation invocation = new CommandInvocation(information, sender, label, arguments);
+
+    executeBatch(Collections.singletonList(invocation));
+    invocation.send();
+    return invocation.isCompleted();
+  }
+}
@@ -0,0 +1,20 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.cache.CommandOutput;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+/**
+ * A {@link CommandExecution} whose output may be cached, see the Cache section of a command. Every
+ * message must be sent through the {@link CommandOutput} rather than to the sender, since only
+ * the output is replayed on a cache hit. Commands that have a cache TTL but don't use this
+ * executor type aren't cached.
+ */
+public interface CacheableCommandExecution extends CommandExecution {
+
+  boolean execute(PlatformSender sender, String label, String[] arguments, CommandOutput output);
+
+  @Override
+  default boolean execute(PlatformSender sender, String label, String[] arguments) {
+    return execute(sender, label, arguments, new CommandOutput(sender));
+  }
+}
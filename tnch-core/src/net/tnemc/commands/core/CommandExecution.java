@@ -1,7 +1,6 @@
 package net.tnemc.commands.core;
 
-import org.bukkit.command.Command;
-import org.bukkit.command.CommandSender;
+import net.tnemc.commands.core.platform.PlatformSender;
 
 /**
  * The New Commands Handler Library
@@ -16,9 +15,9 @@ import org.bukkit.command.CommandSender;
 @FunctionalInterface
 public interface CommandExecution {
 
-  default boolean canExecute(final CommandInformation commandInformation, final CommandSender sender) {
+  default boolean canExecute(final CommandInformation commandInformation, final PlatformSender sender) {
     return CommandsHandler.manager().getPermissionHandler().canExecute(commandInformation, sender);
   }
 
-  boolean execute(CommandSender sender, Command command, String label, String[] arguments);
+  boolean execute(PlatformSender sender, String label, String[] arguments);
 }
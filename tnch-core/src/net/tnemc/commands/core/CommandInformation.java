@@ -1,9 +1,10 @@
 package net.tnemc.commands.core;
 
+import net.tnemc.commands.core.admission.CostClass;
+import net.tnemc.commands.core.metrics.CommandMetrics;
 import net.tnemc.commands.core.parameter.CommandParameter;
+import net.tnemc.commands.core.platform.PlatformSender;
 import net.tnemc.commands.core.settings.MessageSettings;
-import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -15,6 +16,8 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 
 /**
  * The New Commands Handler Library
@@ -60,6 +63,29 @@ public class CommandInformation {
 
   private long cooldown = 0;
 
+  private CostClass cost = CostClass.LIGHT;
+
+  //Asynchronous execution settings.
+  private boolean async = false;
+  private int asyncLimit = 1;
+  private int asyncQueue = 10;
+
+  //Result cache settings. A cache time of 0 disables caching.
+  private long cacheTime = 0;
+  private boolean cacheSender = false;
+
+  //Whether every execution of this command is written to the audit log.
+  private boolean audit = false;
+
+  private final CommandMetrics metrics = new CommandMetrics();
+
+  //Loads the rest of a lazily loaded command on first access, or null once it's loaded.
+  private volatile Consumer<CommandInformation> materializer = null;
+  private boolean materializing = false;
+
+  //The Short values of the sub commands of a lazily loaded command, used until it's loaded.
+  private List<String> lazyShort = new ArrayList<>();
+
   public CommandInformation(String name) {
     this.name = name;
   }
@@ -85,6 +111,19 @@ public class CommandInformation {
       if(str.equalsIgnoreCase(identifier)) return Optional.of(this);
     }
 
+    materialize();
+
+    //Any other label is usually the Short value or name of a direct sub command, so those are checked
+    //before searching deeper, which loads every lazily loaded sub command on the way.
+    for(CommandInformation information : sub.values()) {
+      for(String str : information.getSubShort()) {
+        if(str.equalsIgnoreCase(identifier)) return Optional.of(information);
+      }
+      for(String str : information.getIdentifiers(false)) {
+        if(str.equalsIgnoreCase(identifier)) return Optional.of(information);
+      }
+    }
+
     for(CommandInformation information : sub.values()) {
       final Optional<CommandInformation> subFind = information.find(identifier);
 
@@ -110,8 +149,9 @@ public class CommandInformation {
 
     //System.out.println("ArgumentList Size: " + argumentsList.size());
     //System.out.println("Identifier: " + identifier);
-    while(!identifier.equalsIgnoreCase("") && (sub = findSub(identifier)).isPresent()) {
-      subInformation.setInformation(sub.get());
+    while(!identifier.equalsIgnoreCase("") && (sub = info.findSub(identifier)).isPresent()) {
+      info = sub.get();
+      subInformation.setInformation(info);
 
       if(argumentsList.size() > 0) argumentsList.remove(0);
       identifier = (argumentsList.size() > 0)? argumentsList.get(0) : "";
@@ -127,6 +167,7 @@ public class CommandInformation {
   }
 
   public String getCompleter(int argumentLength) {
+    materialize();
     //System.out.println("Length: " + argumentLength);
     if(parameters.containsKey(argumentLength)) {
       //System.out.println("Length: " + argumentLength);
@@ -141,6 +182,7 @@ public class CommandInformation {
   }
 
   public Optional<CommandInformation> findSub(String name) {
+    materialize();
     for(Map.Entry<List<String>, CommandInformation> entry : sub.entrySet()) {
       for(String str : entry.getKey()) {
         if(str.equalsIgnoreCase(name)) return Optional.of(entry.getValue());
@@ -156,6 +198,7 @@ public class CommandInformation {
   }
 
   public boolean hasSub(String name) {
+    materialize();
     for(List<String> identifiers : sub.keySet()) {
       for(String str : identifiers) {
         if(str.equalsIgnoreCase(name)) return true;
@@ -178,6 +221,7 @@ public class CommandInformation {
   }
 
   public NavigableMap<Integer, CommandParameter> getParameters() {
+    materialize();
     return parameters;
   }
 
@@ -186,6 +230,7 @@ public class CommandInformation {
   }
 
   public int getRequiredArguments() {
+    materialize();
     return requiredArguments;
   }
 
@@ -193,7 +238,8 @@ public class CommandInformation {
     this.requiredArguments = requiredArguments;
   }
 
-  public String buildHelp(CommandSender sender) {
+  public String buildHelp(PlatformSender sender) {
+    materialize();
     String help = CommandsHandler.manager().translate("Messages.Command.CommandHelp", Optional.of(sender), MessageSettings.commandHelp);
     help = help.replace("$command", buildCommand(sender));
     help = help.replace("$description", description);
@@ -202,10 +248,11 @@ public class CommandInformation {
     return CommandsHandler.manager().translate(help, Optional.of(sender), help);
   }
 
-  public LinkedHashSet<String> buildHelpSub(CommandSender sender, int page) {
+  public LinkedHashSet<String> buildHelpSub(PlatformSender sender, int page) {
+    materialize();
     LinkedHashSet<String> help = new LinkedHashSet<>();
 
-    final int linesPerPage = (sender instanceof Player)? CommandsHandler.instance().getHelpLength() : 40;
+    final int linesPerPage = (sender.isPlayer())? CommandsHandler.instance().getHelpLength() : 40;
 
     int possible = 0;
 
@@ -236,14 +283,11 @@ public class CommandInformation {
     }
 
     if (sub.size() > 0) {
+      final List<CommandInformation> subs = new ArrayList<>(sub.values());
 
       while(remaining > 0) {
-        if(sub.size() <= index) break;
-        try {
-          help.add(sub.get(index).buildHelp(sender));
-        } catch(ArrayIndexOutOfBoundsException ignore) {
-          break;
-        }
+        if(subs.size() <= index) break;
+        help.add(subs.get(index).buildHelp(sender));
 
         index++;
         remaining--;
@@ -256,30 +300,21 @@ public class CommandInformation {
     return help;
   }
 
-  public String buildCommand(CommandSender sender) {
-    StringBuilder builder = new StringBuilder();
+  public String buildCommand(PlatformSender sender) {
+    StringBuilder builder = new StringBuilder(name.toLowerCase());
 
     CommandInformation information = this;
 
-    while(information.isSubCommand()) {
+    while(information.isSubCommand() && information.parent != null) {
       information = information.parent;
 
-      String append = information.name.toLowerCase();
-
-      if(builder.length() > 0) append += " ";
-
-      builder.insert(0, append);
+      builder.insert(0, information.name.toLowerCase() + " ");
     }
 
-    String append = information.name.toLowerCase();
-    if(builder.length() > 0) append += " ";
-
-    builder.insert(0, append);
-
     return builder.toString();
   }
 
-  public String buildCommandNode(CommandSender sender, boolean camelCase) {
+  public String buildCommandNode(PlatformSender sender, boolean camelCase) {
     StringBuilder builder = new StringBuilder();
 
     CommandInformation information = this;
@@ -308,7 +343,8 @@ public class CommandInformation {
     return name.substring(0, 1).toUpperCase() + name.substring(1);
   }
 
-  public String buildParameters(CommandSender sender) {
+  public String buildParameters(PlatformSender sender) {
+    materialize();
     StringBuilder builder = new StringBuilder();
 
     for(CommandParameter param : parameters.values()) {
@@ -325,6 +361,11 @@ public class CommandInformation {
     identifiers.add(name);
     identifiers.addAll(aliases);
 
+    if(materializer != null) {
+      identifiers.addAll(lazyShort);
+      return identifiers;
+    }
+
     for(CommandInformation info : sub.values()) {
       identifiers.addAll(info.getSubShort());
     }
@@ -337,7 +378,9 @@ public class CommandInformation {
     identifiers.add(name);
     identifiers.addAll(aliases);
 
-    if(shortValues) {
+    if(shortValues && materializer != null) {
+      identifiers.addAll(lazyShort);
+    } else if(shortValues) {
       for(CommandInformation info : sub.values()) {
         identifiers.addAll(info.getSubShort());
       }
@@ -354,6 +397,15 @@ public class CommandInformation {
   }
 
   public Map<List<String>, CommandInformation> getSub() {
+    materialize();
+    return sub;
+  }
+
+  /**
+   * @return The sub commands that have been loaded, without loading a lazily loaded command. This is
+   * empty until a lazily loaded command is accessed.
+   */
+  public Map<List<String>, CommandInformation> getLoadedSub() {
     return sub;
   }
 
@@ -394,6 +446,7 @@ public class CommandInformation {
   }
 
   public String getDescription() {
+    materialize();
     return description;
   }
 
@@ -402,6 +455,7 @@ public class CommandInformation {
   }
 
   public String getPermission() {
+    materialize();
     return permission;
   }
 
@@ -410,6 +464,7 @@ public class CommandInformation {
   }
 
   public String getExecutor() {
+    materialize();
     return executor;
   }
 
@@ -418,6 +473,7 @@ public class CommandInformation {
   }
 
   public String getAuthor() {
+    materialize();
     return author;
   }
 
@@ -426,6 +482,7 @@ public class CommandInformation {
   }
 
   public boolean isConsole() {
+    materialize();
     return console;
   }
 
@@ -434,6 +491,7 @@ public class CommandInformation {
   }
 
   public boolean isPlayer() {
+    materialize();
     return player;
   }
 
@@ -442,6 +500,7 @@ public class CommandInformation {
   }
 
   public boolean isDeveloper() {
+    materialize();
     return developer;
   }
 
@@ -450,10 +509,12 @@ public class CommandInformation {
   }
 
   public long getCooldown() {
+    materialize();
     return cooldown;
   }
 
   public boolean hasCooldown() {
+    materialize();
     return cooldown > 0;
   }
 
@@ -461,6 +522,121 @@ public class CommandInformation {
     this.cooldown = cooldown;
   }
 
+  public CostClass getCost() {
+    materialize();
+    return cost;
+  }
+
+  public void setCost(CostClass cost) {
+    this.cost = cost;
+  }
+
+  public boolean isAsync() {
+    materialize();
+    return async;
+  }
+
+  public void setAsync(boolean async) {
+    this.async = async;
+  }
+
+  public int getAsyncLimit() {
+    materialize();
+    return asyncLimit;
+  }
+
+  public void setAsyncLimit(int asyncLimit) {
+    this.asyncLimit = asyncLimit;
+  }
+
+  public int getAsyncQueue() {
+    materialize();
+    return asyncQueue;
+  }
+
+  public void setAsyncQueue(int asyncQueue) {
+    this.asyncQueue = asyncQueue;
+  }
+
+  public long getCacheTime() {
+    materialize();
+    return cacheTime;
+  }
+
+  public void setCacheTime(long cacheTime) {
+    this.cacheTime = cacheTime;
+  }
+
+  public boolean isCacheSender() {
+    materialize();
+    return cacheSender;
+  }
+
+  public void setCacheSender(boolean cacheSender) {
+    this.cacheSender = cacheSender;
+  }
+
+  public boolean isAudit() {
+    materialize();
+    return audit;
+  }
+
+  public void setAudit(boolean audit) {
+    this.audit = audit;
+  }
+
+  public CommandMetrics getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * Used to make this command load the rest of its information, including its sub commands, the
+   * first time it's accessed, rather than when the commands are loaded.
+   * @param materializer The function that loads the rest of this command.
+   * @param lazyShort The Short values of this command's sub commands, which are needed to find this
+   *                  command before it's loaded.
+   */
+  public void setMaterializer(Consumer<CommandInformation> materializer, List<String> lazyShort) {
+    this.lazyShort = lazyShort;
+    this.materializer = materializer;
+  }
+
+  /**
+   * @return True if this command is waiting to be loaded.
+   */
+  public boolean isLazy() {
+    return materializer != null;
+  }
+
+  /**
+   * Used to load the rest of this command if it was loaded lazily. This does nothing once the command
+   * has been loaded. If loading fails, the failure is logged and thrown, and the next access tries
+   * again from scratch.
+   */
+  public void materialize() {
+    if(materializer == null) return;
+
+    synchronized(this) {
+      final Consumer<CommandInformation> pending = materializer;
+      if(pending == null || materializing) return;
+
+      materializing = true;
+      try {
+        pending.accept(this);
+        materializer = null;
+      } catch(RuntimeException e) {
+        //Drop whatever was loaded before the failure, so the next attempt doesn't add it twice.
+        parameters = new TreeMap<>();
+        sub = new HashMap<>();
+        requiredArguments = 0;
+        CommandsHandler.manager().getPlatform().getLogger().log(Level.SEVERE, "Unable to load command " + name, e);
+        throw e;
+      } finally {
+        materializing = false;
+      }
+    }
+  }
+
   public void addParameters(LinkedList<CommandParameter> parameters) {
 
     for(CommandParameter param : parameters)  {
@@ -470,6 +646,7 @@ public class CommandInformation {
 
   @Override
   public String toString() {
+    materialize();
     return "CommandInformation {" +
         "aliases=" + String.join(",", aliases) +
         ", subCommand=" + subCommand +
@@ -0,0 +1,91 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents a single validated call of a command, as handed to a {@link BatchCommandExecution}.
+ * Messages added with {@link #respond(String...)} are sent to the sender once the batch finishes.
+ */
+public class CommandInvocation {
+
+  private final List<String> messages = new ArrayList<>();
+
+  private final CommandInformation information;
+  private final PlatformSender sender;
+  private final String label;
+  private final String[] arguments;
+
+  private boolean completed = false;
+
+  //Whether the command's cooldown was reserved when this invocation was queued.
+  private boolean reserved = false;
+
+  public CommandInvocation(CommandInformation information, PlatformSender sender, String label, String[] arguments) {
+    this.information = information;
+    this.sender = sender;
+    this.label = label;
+    this.arguments = arguments;
+  }
+
+  /**
+   * Used to queue messages for this invocation's sender.
+   * @param messages The messages to send.
+   */
+  public void respond(String... messages) {
+    Collections.addAll(this.messages, messages);
+  }
+
+  /**
+   * Used to mark this invocation as successful, which applies the command's cooldown.
+   * @param completed True if the invocation was successful, otherwise false.
+   */
+  public void complete(boolean completed) {
+    this.completed = completed;
+  }
+
+  /**
+   * Used to send the queued messages to the sender.
+   */
+  public void send() {
+    for(String message : messages) {
+      sender.sendMessage(message);
+    }
+    messages.clear();
+  }
+
+  boolean isReserved() {
+    return reserved;
+  }
+
+  void setReserved(boolean reserved) {
+    this.reserved = reserved;
+  }
+
+  public CommandInformation getInformation() {
+    return information;
+  }
+
+  public PlatformSender getSender() {
+    return sender;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public String[] getArguments() {
+    return arguments;
+  }
+
+  public List<String> getMessages() {
+    return messages;
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+}
@@ -0,0 +1,371 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.admission.AdmissionController;
+import net.tnemc.commands.core.async.AsyncDispatcher;
+import net.tnemc.commands.core.audit.AuditLog;
+import net.tnemc.commands.core.batch.BatchCollector;
+import net.tnemc.commands.core.cache.CommandResultCache;
+import net.tnemc.commands.core.capture.CommandCapture;
+import net.tnemc.commands.core.metrics.CommandMetrics;
+import net.tnemc.commands.core.metrics.MetricsExporter;
+import net.tnemc.commands.core.limit.LoadTracker;
+import net.tnemc.commands.core.limit.RateLimiter;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.trace.CommandTracer;
+import net.tnemc.commands.core.usage.UsageRecorder;
+import net.tnemc.commands.core.utils.CommandTranslator;
+import net.tnemc.commands.core.watchdog.CommandWatchdog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The New Commands Handler Library
+ * <p>
+ * Created by creatorfromhell on 10/9/2019.
+ * <p>
+ * This work is licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License.
+ * To view a copy of this license, visit http://creativecommons.org/licenses/by-nc-nd/4.0/ or send a letter to
+ * Creative Commons, PO Box 1866, Mountain View, CA 94042, USA.
+ * Created by creatorfromhell on 06/30/2017.
+ */
+public class CommandManager {
+
+  Map<List<String>, CommandInformation> commands = new HashMap<>();
+  Map<String, TabCompleter> completers = new HashMap<>();
+  Map<String, CommandExecution> executors = new HashMap<>();
+
+  private CommandPermissionHandler permissionHandler;
+  private CommandTranslator translator = null;
+  private RateLimiter rateLimiter = new RateLimiter();
+  private LoadTracker load = new LoadTracker();
+  private AdmissionController admission = new AdmissionController();
+  private AsyncDispatcher async;
+  private BatchCollector batches;
+  private CommandResultCache resultCache = new CommandResultCache();
+  private CommandWatchdog watchdog = new CommandWatchdog();
+  private CommandTracer tracer;
+  private MetricsExporter exporter = new MetricsExporter(this);
+  private UsageRecorder usage = new UsageRecorder();
+  private AuditLog audit = new AuditLog();
+  private CommandCapture capture = new CommandCapture();
+
+  //Metrics for rejections that happen before a command is found.
+  private final CommandMetrics metrics = new CommandMetrics();
+
+  private final CommandPlatform platform;
+
+  private Integer lastRegister = 0;
+
+  /**
+   * @param platform The {@link CommandPlatform} used for registration, scheduling, logging and storage.
+   * @param permissionHandler The {@link CommandPermissionHandler} used for permission checks.
+   */
+  public CommandManager(CommandPlatform platform, CommandPermissionHandler permissionHandler) {
+    this.platform = platform;
+    this.permissionHandler = permissionHandler;
+    this.async = new AsyncDispatcher(platform);
+    this.batches = new BatchCollector(platform);
+    this.tracer = new CommandTracer(platform.getLogger());
+  }
+
+  /**
+   * Used to translate a configuration node into a list of Strings with the {@link CommandTranslator}.
+   * @param message The message to translate.
+   * @param sender An optional containing the PlatformSender that caused the translation call, or an
+   * empty Optional if no PlatformSender was involved.
+   * @param defaultMessage The default message if the message isn't translated.
+   * @return The translated output when possible, otherwise the default message.
+   */
+  public List<String> translate(String message, Optional<PlatformSender> sender, List<String> defaultMessage) {
+    if(translator != null) {
+      final Optional<List<String>> translated = translator.translateToList(message, sender);
+
+      if(translated.isPresent()) return translated.get();
+    }
+    return defaultMessage;
+  }
+
+  /**
+   * Used to translate a String with the {@link CommandTranslator}.
+   * @param message The message to translate.
+   * @param sender An optional containing the PlatformSender that caused the translation call, or an
+   * empty Optional if no PlatformSender was involved.
+   * @param defaultMessage The default message if the message isn't translated.
+   * @return The translated output when possible, otherwise the default message.
+   */
+  public String translate(String message, Optional<PlatformSender> sender, String defaultMessage) {
+    if(translator != null) {
+      final Optional<String> translated = translator.translateText(message, sender);
+
+      if(translated.isPresent()) return translated.get();
+    }
+    return defaultMessage;
+  }
+
+  public Optional<CommandInformation> find(String name) {
+
+    Iterator<Map.Entry<List<String>, CommandInformation>> it = commands.entrySet().iterator();
+
+    while(it.hasNext()) {
+      final Map.Entry<List<String>, CommandInformation> entry = it.next();
+
+      for(String str : entry.getKey()) {
+        if(str.equalsIgnoreCase(name)) return entry.getValue().find(name);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Used to collect every registered command and sub command that has been loaded. The sub commands
+   * of a lazily loaded command are left out until it's accessed, so walking the tree doesn't load it.
+   * @return A list of every loaded {@link CommandInformation}, parents first.
+   */
+  public List<CommandInformation> nodes() {
+    final List<CommandInformation> nodes = new ArrayList<>();
+
+    for(CommandInformation information : commands.values()) {
+      collect(information, nodes);
+    }
+    return nodes;
+  }
+
+  private void collect(CommandInformation information, List<CommandInformation> nodes) {
+    nodes.add(information);
+
+    for(CommandInformation sub : information.getLoadedSub().values()) {
+      collect(sub, nodes);
+    }
+  }
+
+  /**
+   * Used to conduct a command search. This will automagically find any sub commands using the
+   * arguments array too.
+   * @param name The command identifier.
+   * @param arguments The String array of arguments passed in the command call.
+   * @return The {@link CommandSearchInformation} object associated with this search.
+   */
+  public Optional<CommandSearchInformation> search(String name, String[] arguments) {
+    Optional<CommandInformation> information = find(name);
+
+    if(information.isPresent()) {
+      //System.out.println(information.get().toString());
+      final CommandSearchInformation search = information.get().findSubInformation(arguments);
+      return Optional.of(search);
+    }
+    return Optional.empty();
+  }
+
+  public void registerCommands() {
+    if(lastRegister == commands.size()) return;
+
+    lastRegister = commands.size();
+
+    Iterator<Map.Entry<List<String>, CommandInformation>> i = commands.entrySet().iterator();
+
+    while(i.hasNext()) {
+      Map.Entry<List<String>, CommandInformation> entry = i.next();
+
+      for (String s : entry.getKey()) {
+        platform.registerCommand(s);
+      }
+    }
+  }
+
+  public void registerExecutor(String name, CommandExecution executor) {
+    executors.put(name, executor);
+  }
+
+  public void unregister(String[] accessors) {
+    unregister(accessors, false);
+  }
+
+  public void unregister(String[] accessors, boolean commandsMap) {
+    for(String s : accessors) {
+      unregister(s, commandsMap);
+    }
+  }
+
+  public void register(List<String> alias, CommandInformation information) {
+    commands.put(alias, information);
+
+    for (String s : alias) {
+      platform.registerCommand(s.toLowerCase());
+    }
+  }
+
+  public void unregister(String command, boolean commandsMap) {
+    if(commandsMap) {
+      Iterator<Map.Entry<List<String>, CommandInformation>> it = commands.entrySet().iterator();
+
+      while (it.hasNext()) {
+        Map.Entry<List<String>, CommandInformation> entry = it.next();
+
+        boolean remove = false;
+        for (String str : entry.getKey()) {
+          //System.out.println("CommandManager.unregister(" + command + ")");
+          if (str.equalsIgnoreCase(command)) {
+            //System.out.println("CommandManager.unregister(remove = true)");
+            remove = true;
+          }
+        }
+        if (remove) it.remove();
+      }
+    }
+    platform.unregisterCommand(command);
+  }
+
+  public Map<List<String>, CommandInformation> getCommands() {
+    return commands;
+  }
+
+  public void setCommands(Map<List<String>, CommandInformation> commands) {
+    this.commands = commands;
+  }
+
+  public Map<String, TabCompleter> getCompleters() {
+    return completers;
+  }
+
+  public void setCompleters(Map<String, TabCompleter> completers) {
+    this.completers = completers;
+  }
+
+  public void addExecutor(String name, CommandExecution execution) {
+    executors.put(name, execution);
+  }
+
+  public Map<String, CommandExecution> getExecutors() {
+    return executors;
+  }
+
+  public void setExecutors(Map<String, CommandExecution> executors) {
+    this.executors = executors;
+  }
+
+  public CommandPermissionHandler getPermissionHandler() {
+    return permissionHandler;
+  }
+
+  public void setPermissionHandler(CommandPermissionHandler permissionHandler) {
+    this.permissionHandler = permissionHandler;
+  }
+
+  public CommandTranslator getTranslator() {
+    return translator;
+  }
+
+  public void setTranslator(CommandTranslator translator) {
+    this.translator = translator;
+  }
+
+  public RateLimiter getRateLimiter() {
+    return rateLimiter;
+  }
+
+  public void setRateLimiter(RateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  public LoadTracker getLoad() {
+    return load;
+  }
+
+  public void setLoad(LoadTracker load) {
+    this.load = load;
+  }
+
+  public AdmissionController getAdmission() {
+    return admission;
+  }
+
+  public void setAdmission(AdmissionController admission) {
+    this.admission = admission;
+  }
+
+  public AsyncDispatcher getAsync() {
+    return async;
+  }
+
+  public void setAsync(AsyncDispatcher async) {
+    this.async = async;
+  }
+
+  public BatchCollector getBatches() {
+    return batches;
+  }
+
+  public void setBatches(BatchCollector batches) {
+    this.batches = batches;
+  }
+
+  public CommandResultCache getResultCache() {
+    return resultCache;
+  }
+
+  public void setResultCache(CommandResultCache resultCache) {
+    this.resultCache = resultCache;
+  }
+
+  public CommandWatchdog getWatchdog() {
+    return watchdog;
+  }
+
+  public void setWatchdog(CommandWatchdog watchdog) {
+    this.watchdog = watchdog;
+  }
+
+  public CommandTracer getTracer() {
+    return tracer;
+  }
+
+  public void setTracer(CommandTracer tracer) {
+    this.tracer = tracer;
+  }
+
+  public MetricsExporter getExporter() {
+    return exporter;
+  }
+
+  public void setExporter(MetricsExporter exporter) {
+    this.exporter = exporter;
+  }
+
+  public UsageRecorder getUsage() {
+    return usage;
+  }
+
+  public void setUsage(UsageRecorder usage) {
+    this.usage = usage;
+  }
+
+  public AuditLog getAudit() {
+    return audit;
+  }
+
+  public void setAudit(AuditLog audit) {
+    this.audit = audit;
+  }
+
+  public CommandCapture getCapture() {
+    return capture;
+  }
+
+  public void setCapture(CommandCapture capture) {
+    this.capture = capture;
+  }
+
+  public CommandMetrics getMetrics() {
+    return metrics;
+  }
+
+  public CommandPlatform getPlatform() {
+    return platform;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+@FunctionalInterface
+public interface CommandPermissionHandler {
+
+  /**
+   * Used to check if a {@link PlatformSender} is able to execute a command they ran.
+   * @param commandInformation The {@link CommandInformation} object associated with the command being
+   * executed.
+   * @param sender The {@link PlatformSender} attempting execute this command.
+   * @return True if the {@link PlatformSender} is able to execute the command, otherwise false.
+   */
+  boolean canExecute(final CommandInformation commandInformation, final PlatformSender sender);
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package net.tnemc.commands.core;
+
+/**
+ * The reasons a command may be refused by the {@link CommandsHandler}.
+ * <p>
+ * Each rejection has a code that's written to files such as the usage log. Codes must never be
+ * changed or reused, so new rejections take the next unused code.
+ */
+public enum CommandRejection {
+
+  NOT_FOUND(0, "Messages.Command.NotFound"),
+  RATE_LIMITED(1, "Messages.Command.RateLimited"),
+  COOLDOWN(2, "Messages.Command.Cooldown"),
+  CONSOLE(3, "Messages.Command.Console"),
+  PLAYER(4, "Messages.Command.Player"),
+  PERMISSION(5, "Messages.Command.InvalidPermission"),
+  DEVELOPER(6, "Messages.Command.Developer"),
+  ARGUMENTS(7, "Messages.Command.Arguments"),
+  INVALID_TYPE(8, "Messages.Parameter.InvalidType"),
+  INVALID_LENGTH(9, "Messages.Parameter.InvalidLength"),
+  OVERLOADED(10, "Messages.Command.Overloaded"),
+  BUDGET(11, "Messages.Command.Budget"),
+  BUSY(12, "Messages.Command.Busy");
+
+  private final int code;
+  private String node;
+
+  CommandRejection(int code, String node) {
+    this.code = code;
+    this.node = node;
+  }
+
+  /**
+   * @param code The code of a rejection.
+   * @return The rejection with the code, or null if there's none.
+   */
+  public static CommandRejection fromCode(int code) {
+    for(CommandRejection rejection : values()) {
+      if(rejection.code == code) return rejection;
+    }
+    return null;
+  }
+
+  /**
+   * @return The stable code of this rejection.
+   */
+  public int getCode() {
+    return code;
+  }
+
+  /**
+   * @return The configuration node of the message sent for this rejection.
+   */
+  public String getNode() {
+    return node;
+  }
+}
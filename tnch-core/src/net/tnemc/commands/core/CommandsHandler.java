@@ -0,0 +1,813 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.admin.AdminCommand;
+import net.tnemc.commands.core.admission.Admission;
+import net.tnemc.commands.core.bulk.BulkExecution;
+import net.tnemc.commands.core.cache.CachedResult;
+import net.tnemc.commands.core.cache.CommandOutput;
+import net.tnemc.commands.core.capture.CaptureRecord;
+import net.tnemc.commands.core.completer.impl.PlayerCompleter;
+import net.tnemc.commands.core.completer.impl.SubCompleter;
+import net.tnemc.commands.core.cooldown.CooldownHandler;
+import net.tnemc.commands.core.jfr.CommandFlightRecorder;
+import net.tnemc.commands.core.jfr.FlightPhase;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.loader.impl.CuttlefishCommandLoader;
+import net.tnemc.commands.core.metrics.CommandMetrics;
+import net.tnemc.commands.core.metrics.Phase;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import net.tnemc.commands.core.parameter.ParameterType;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.schedule.CommandScheduler;
+import net.tnemc.commands.core.settings.MessageSettings;
+import net.tnemc.commands.core.trace.CommandTracer;
+import net.tnemc.commands.core.trace.TraceCategory;
+import net.tnemc.commands.core.trace.TraceLevel;
+import net.tnemc.commands.core.usage.UsageRecord;
+import net.tnemc.commands.core.utils.ColourFormatter;
+import net.tnemc.commands.core.utils.CommandTranslator;
+import net.tnemc.commands.core.watchdog.CommandWatchdog;
+import net.tnemc.config.CommentedConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The New Commands Handler Library
+ * <p>
+ * Created by creatorfromhell on 10/12/2019.
+ * <p>
+ * This work is licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License.
+ * To view a copy of this license, visit http://creativecommons.org/licenses/by-nc-nd/4.0/ or send a letter to
+ * Creative Commons, PO Box 1866, Mountain View, CA 94042, USA.
+ * Created by creatorfromhell on 06/30/2017.
+ */
+public class CommandsHandler {
+
+  private CommandManager manager;
+  private CommandLoader loader;
+  private CooldownHandler cooldownHandler;
+  private boolean loaded = false;
+  private CommandScheduler scheduler;
+
+  private static CommandsHandler instance;
+
+  private int helpLength = 5;
+
+  //The label of the built-in administration command, or null if it shouldn't be registered.
+  private String adminLabel = null;
+
+  private List<String> developers = new ArrayList<>();
+
+  //The default permission check, which asks the sender for the command's permission node.
+  protected static final CommandPermissionHandler PERMISSION = (information, sender)->sender.hasPermission(information.getPermission());
+
+  public CommandsHandler(CommandPlatform platform, CommentedConfiguration commandsFile) {
+    this(platform, new CuttlefishCommandLoader(commandsFile));
+  }
+
+  public CommandsHandler(CommandPlatform platform, CommentedConfiguration commandsFile, boolean testing) {
+    this(platform, new CuttlefishCommandLoader(commandsFile), (testing)? (information, sender)->true : PERMISSION);
+  }
+
+  public CommandsHandler(CommandPlatform platform, CommandLoader loader) {
+    this(platform, loader, PERMISSION);
+  }
+
+  public CommandsHandler(CommandPlatform platform, CommentedConfiguration commandsFile, CommandPermissionHandler permissionHandler) {
+    this(platform, new CuttlefishCommandLoader(commandsFile), permissionHandler);
+  }
+
+  /**
+   * Creates a new Command Handler instance.
+   * @param platform The {@link CommandPlatform} to schedule, log, store files and register commands with.
+   * @param loader The {@link CommandLoader} instance to use.
+   * @param permissionHandler The {@link CommandPermissionHandler} instance to use.
+   */
+  public CommandsHandler(CommandPlatform platform, CommandLoader loader, CommandPermissionHandler permissionHandler) {
+    instance = this;
+
+    this.loader = loader;
+    manager = new CommandManager(platform, permissionHandler);
+  }
+
+  /**
+   * Used to load everything from the command loader.
+   */
+  public void load() {
+
+    manager.getCompleters().put("player", new PlayerCompleter());
+    manager.getCompleters().put("sub_command", new SubCompleter());
+
+    final Object event = CommandFlightRecorder.begin(FlightPhase.LOAD);
+    loader.load();
+    CommandFlightRecorder.end(event, null, null, 0, manager.getCommands().size());
+
+    if(adminLabel != null) {
+      AdminCommand.register(manager, adminLabel);
+    }
+
+    manager.getRateLimiter().start(manager.getPlatform());
+    manager.getAdmission().start(manager.getPlatform());
+    manager.getWatchdog().start(manager.getPlatform());
+    manager.getExporter().start(manager.getPlatform());
+    manager.getUsage().start(manager.getPlatform());
+    manager.getAudit().start(manager.getPlatform());
+    manager.getCapture().start(manager.getPlatform());
+    if(cooldownHandler != null) cooldownHandler.start(manager.getPlatform());
+    loaded = true;
+    manager.getBatches().setCompletion(invocation->{
+      manager.getUsage().record(invocation.getInformation(), invocation.getSender(),
+                                invocation.isCompleted()? UsageRecord.COMPLETED : UsageRecord.FAILED, 0);
+      manager.getAudit().record(invocation.getInformation(), invocation.getSender(), invocation.getArguments(),
+                                invocation.isCompleted()? "completed" : "failed");
+      settleCooldown(invocation.getSender(), invocation.getInformation(), invocation.isCompleted(), invocation.isReserved());
+    });
+  }
+
+  /**
+   * Used to handle tab completion with registered commands.
+   * @param sender The {@link PlatformSender} running the command.
+   * @param label The String used as a command. Example: test would be the label in /test hi
+   * @param arguments A String array of the arguments provided for the command executed.
+   * @return A list containing the tab completion values.
+   */
+  public List<String> tab(PlatformSender sender, String label, String[] arguments) {
+    manager.getCapture().record(CaptureRecord.TAB, sender, label, arguments);
+
+    final UUID id = (sender.isPlayer())? sender.getUniqueId() : null;
+
+    if(id != null && (!manager.getRateLimiter().tryComplete(id) || manager.getLoad().isHeavy(id))) {
+      return new ArrayList<>();
+    }
+
+    final long start = System.nanoTime();
+    final Object lookup = CommandFlightRecorder.begin(FlightPhase.LOOKUP);
+    Optional<CommandSearchInformation> search = manager.search(label, arguments);
+
+    if(search.isPresent() && search.get().getInformation().isPresent()) {
+      CommandFlightRecorder.end(lookup, search.get().getInformation().get(), sender, arguments.length, "found");
+
+      arguments = search.get().getArguments();
+
+      final CommandInformation information = search.get().getInformation().get();
+      manager.getLoad().complete(id);
+
+      final CommandTracer tracer = manager.getTracer();
+      if(tracer.enabled(TraceCategory.COMPLETION, TraceLevel.DEBUG)) {
+        tracer.trace(TraceCategory.COMPLETION, TraceLevel.DEBUG, "complete", "command", information.getName(),
+                     "argument", arguments.length, "completer", (arguments.length > 0)? information.getCompleter(arguments.length - 1) : "sub_command");
+      }
+
+      final Object event = CommandFlightRecorder.begin(FlightPhase.COMPLETION);
+      final long watched = manager.getWatchdog().enter(information, Phase.COMPLETE);
+      List<String> completions = null;
+      try {
+        completions = complete(sender, search, arguments);
+        return completions;
+      } finally {
+        manager.getWatchdog().exit(information, watched);
+        information.getMetrics().record(Phase.COMPLETE, System.nanoTime() - start);
+        CommandFlightRecorder.end(event, information, sender, arguments.length, (completions == null)? "error" : completions.size());
+      }
+    }
+    CommandFlightRecorder.end(lookup, null, sender, arguments.length, "not_found");
+    manager.getLoad().complete(id);
+    return new ArrayList<>();
+  }
+
+  private List<String> complete(PlatformSender sender, Optional<CommandSearchInformation> search, String[] arguments) {
+    final String argument = (arguments.length > 0)? arguments[arguments.length - 1] : "";
+
+    if(arguments.length > 0) {
+      final Optional<CommandInformation> information = search.get().getInformation();
+      if(manager.getCompleters().containsKey(information.get().getCompleter(arguments.length - 1))) {
+        return manager.getCompleters().get(information.get().getCompleter(arguments.length - 1))
+            .complete(sender, search, argument);
+      }
+    }
+    return manager.getCompleters().get("sub_command").complete(sender, search, argument);
+  }
+
+  /**
+   * Used to handle a command registered with TNCH.
+   * @param sender The {@link PlatformSender} running the command.
+   * @param label The String used as a command. Example: test would be the label in /test hi
+   * @param arguments A String array of the arguments provided for the command executed.
+   * @return True if the command was successful, otherwise false.
+   */
+  public boolean handle(PlatformSender sender, String label, String[] arguments) {
+    manager.getCapture().record(CaptureRecord.EXECUTE, sender, label, arguments);
+
+    final boolean player = sender.isPlayer();
+
+    final UUID id = (player)? sender.getUniqueId() : null;
+
+    if(player && (!manager.getRateLimiter().tryAcquire(id, label) || manager.getLoad().isHeavy(id))) {
+      reject(sender, null, arguments, CommandRejection.RATE_LIMITED);
+      return false;
+    }
+
+    long start = System.nanoTime();
+    final Object lookup = CommandFlightRecorder.begin(FlightPhase.LOOKUP);
+    Optional<CommandSearchInformation> search = manager.search(label, arguments);
+
+    if(search.isPresent() && search.get().getInformation().isPresent()) {
+      final Optional<CommandInformation> information = search.get().getInformation();
+      CommandFlightRecorder.end(lookup, information.get(), sender, arguments.length, "found");
+      manager.getLoad().hit(id, information.get());
+      arguments = search.get().getArguments();
+
+      final CommandMetrics metrics = information.get().getMetrics();
+      metrics.record(Phase.SEARCH, System.nanoTime() - start);
+
+      final CommandTracer tracer = manager.getTracer();
+      if(tracer.enabled(TraceCategory.DISPATCH, TraceLevel.DEBUG)) {
+        tracer.trace(TraceCategory.DISPATCH, TraceLevel.DEBUG, "search", "label", label, "command", information.get().getName(),
+                     "executor", information.get().getExecutor(),
+                     "registered", manager.getExecutors().containsKey(information.get().getExecutor()));
+      }
+
+      if(arguments.length >= 1 && arguments[0].equalsIgnoreCase("help") ||
+         arguments.length >= 1 && arguments[0].equalsIgnoreCase("?") ||
+         !manager.getExecutors().containsKey(information.get().getExecutor())) {
+
+        int page = 0;
+        if(arguments.length > 1) {
+          try {
+            page = Integer.parseInt(arguments[1]);
+          } catch(Exception ignore) { }
+        }
+
+        if(information.get().getSub().size() > 0) {
+          for(String str : information.get().buildHelpSub(sender, page)) {
+            sender.sendMessage(str);
+          }
+          return false;
+        }
+        sender.sendMessage(information.get().buildHelp(sender));
+        return false;
+      }
+
+      start = System.nanoTime();
+      Object event = CommandFlightRecorder.begin(FlightPhase.PERMISSION);
+      Optional<CommandRejection> rejection = checkSender(sender, information.get());
+      metrics.record(Phase.CHECKS, System.nanoTime() - start);
+      CommandFlightRecorder.end(event, information.get(), sender, arguments.length, rejection.isPresent()? rejection.get() : "passed");
+
+      if(!rejection.isPresent()) {
+        start = System.nanoTime();
+        event = CommandFlightRecorder.begin(FlightPhase.VALIDATION);
+        rejection = validate(information.get(), arguments);
+        metrics.record(Phase.VALIDATION, System.nanoTime() - start);
+        CommandFlightRecorder.end(event, information.get(), sender, arguments.length, rejection.isPresent()? rejection.get() : "passed");
+      }
+
+      if(rejection.isPresent()) {
+        reject(sender, information.get(), arguments, rejection.get());
+        return false;
+      }
+
+      final Admission admission = manager.getAdmission().admit(information.get().getCost());
+
+      if(admission == Admission.REJECT) {
+        reject(sender, information.get(), arguments, CommandRejection.OVERLOADED);
+        return false;
+      }
+
+      if(player && !manager.getAdmission().withinBudget(id)) {
+        reject(sender, information.get(), arguments, CommandRejection.BUDGET);
+        return false;
+      }
+
+      if(admission == Admission.DEFER) {
+        final String[] deferredArguments = arguments;
+
+        //Reserve the cooldown now so the command can't be queued again while it waits.
+        final boolean reserved = reserveCooldown(sender, information.get());
+
+        if(manager.getAdmission().defer(()->{
+          if(reserved) releaseCooldown(sender, information.get());
+          executeDeferred(sender, label, deferredArguments, information.get());
+        }, ()->{
+          if(reserved) releaseCooldown(sender, information.get());
+          reject(sender, information.get(), deferredArguments, CommandRejection.OVERLOADED);
+        })) {
+          sender.sendMessage(manager.translate("Messages.Command.Deferred", Optional.of(sender), ColourFormatter.format(MessageSettings.deferred, false)));
+          return true;
+        }
+
+        if(reserved) releaseCooldown(sender, information.get());
+        reject(sender, information.get(), arguments, CommandRejection.OVERLOADED);
+        return false;
+      }
+      return execute(sender, label, arguments, information.get());
+    }
+    CommandFlightRecorder.end(lookup, null, sender, arguments.length, "not_found");
+    manager.getLoad().hit(id, null);
+    manager.getMetrics().reject(CommandRejection.NOT_FOUND);
+
+    final CommandTracer tracer = manager.getTracer();
+    if(tracer.enabled(TraceCategory.DISPATCH, TraceLevel.DEBUG)) {
+      tracer.trace(TraceCategory.DISPATCH, TraceLevel.DEBUG, "not_found", "label", label, "arguments", arguments.length);
+    }
+    return false;
+  }
+
+  /**
+   * Used to check whether a {@link PlatformSender} is able to run a command with the specified
+   * arguments. This doesn't send any messages.
+   * @param sender The {@link PlatformSender} running the command.
+   * @param information The {@link CommandInformation} of the command.
+   * @param arguments The arguments left after the sub command search.
+   * @return An Optional with the reason the command was refused, or an empty Optional if it may run.
+   */
+  public Optional<CommandRejection> check(PlatformSender sender, CommandInformation information, String[] arguments) {
+    final Optional<CommandRejection> rejection = checkSender(sender, information);
+
+    if(rejection.isPresent()) return rejection;
+    return validate(information, arguments);
+  }
+
+  /**
+   * Used to run the cooldown, console, player, permission and developer checks of a command.
+   * @param sender The {@link PlatformSender} running the command.
+   * @param information The {@link CommandInformation} of the command.
+   * @return An Optional with the reason the command was refused, or an empty Optional if it may run.
+   */
+  public Optional<CommandRejection> checkSender(PlatformSender sender, CommandInformation information) {
+    final boolean player = sender.isPlayer();
+
+    if(player && cooldownHandler != null) {
+      final Object event = CommandFlightRecorder.begin(FlightPhase.COOLDOWN);
+      final boolean cooldown = cooldownHandler.hasCooldown(sender.getUniqueId(), information.getName());
+      CommandFlightRecorder.end(event, information, sender, 0, cooldown? "cooldown" : "passed");
+
+      if(cooldown) return Optional.of(CommandRejection.COOLDOWN);
+    }
+
+    if(!player && !information.isConsole()) return Optional.of(CommandRejection.CONSOLE);
+
+    if(player && !information.isPlayer()) return Optional.of(CommandRejection.PLAYER);
+
+    if(!information.isDeveloper() && !manager.getExecutors().get(information.getExecutor()).canExecute(information, sender)) {
+      return Optional.of(CommandRejection.PERMISSION);
+    }
+
+    if(information.isDeveloper()) {
+      if(!player || !developers.contains(sender.getUniqueId().toString())) {
+        return Optional.of(CommandRejection.DEVELOPER);
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /**
+   * Used to validate the arguments of a command against its parameters.
+   * @param information The {@link CommandInformation} of the command.
+   * @param arguments The arguments left after the sub command search.
+   * @return An Optional with the reason the arguments are invalid, or an empty Optional if they're valid.
+   */
+  public Optional<CommandRejection> validate(CommandInformation information, String[] arguments) {
+    if(information.getRequiredArguments() > arguments.length) return Optional.of(CommandRejection.ARGUMENTS);
+
+    for(int i = 0; i < arguments.length; i++) {
+      final CommandRejection invalid = validateParameter(information.getParameters().get(i), arguments[i]);
+
+      if(invalid != null) {
+        final CommandTracer tracer = manager.getTracer();
+        if(tracer.enabled(TraceCategory.VALIDATION, TraceLevel.DEBUG)) {
+          tracer.trace(TraceCategory.VALIDATION, TraceLevel.DEBUG, "invalid", "command", information.getName(),
+                       "parameter", information.getParameters().get(i).getName(), "reason", invalid);
+        }
+        return Optional.of(invalid);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Used to send the message for a {@link CommandRejection} to a {@link PlatformSender}, and count
+   * the rejection in the command's {@link CommandMetrics}.
+   * @param sender The {@link PlatformSender} that ran the command.
+   * @param information The {@link CommandInformation} of the command.
+   * @param arguments The arguments left after the sub command search.
+   * @param rejection The reason the command was refused.
+   */
+  public void reject(PlatformSender sender, CommandInformation information, String[] arguments, CommandRejection rejection) {
+    if(information != null) {
+      information.getMetrics().reject(rejection);
+      manager.getUsage().record(information, sender, UsageRecord.rejected(rejection), 0);
+      manager.getAudit().record(information, sender, arguments, rejection);
+    } else {
+      manager.getMetrics().reject(rejection);
+    }
+
+    final CommandTracer tracer = manager.getTracer();
+    if(tracer.enabled(TraceCategory.DISPATCH, TraceLevel.INFO)) {
+      tracer.trace(TraceCategory.DISPATCH, TraceLevel.INFO, "rejected", "sender", sender.getName(),
+                   "command", (information == null)? "none" : information.getName(), "reason", rejection);
+    }
+
+    switch(rejection) {
+      case COOLDOWN:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.cooldown, false)));
+        break;
+      case CONSOLE:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.console, false)));
+        break;
+      case PLAYER:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.player, false)));
+        break;
+      case PERMISSION:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.invalidPermission, false)));
+        break;
+      case DEVELOPER:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.developer, false)));
+        break;
+      case ARGUMENTS:
+        sender.sendMessage(
+            ColourFormatter.format(
+                manager.translate("Messages.Command." + information.buildCommandNode(sender, true),
+                                  Optional.of(sender),
+                                  information.buildHelp(sender)),
+                false));
+        break;
+      case INVALID_TYPE:
+      case INVALID_LENGTH:
+        for(int i = 0; i < arguments.length; i++) {
+          final CommandParameter param = information.getParameters().get(i);
+
+          if(validateParameter(param, arguments[i]) == rejection) {
+            final String message = (rejection == CommandRejection.INVALID_TYPE)? MessageSettings.invalidType : MessageSettings.invalidLength;
+            sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(message
+                                                                                                                    .replace("$parameter", param.getName())
+                                                                                                                    .replace("$parameter_type", param.getType()), false)));
+            break;
+          }
+        }
+        break;
+      case RATE_LIMITED:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.rateLimited, false)));
+        break;
+      case OVERLOADED:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.overloaded, false)));
+        break;
+      case BUDGET:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.budget, false)));
+        break;
+      case BUSY:
+        sender.sendMessage(manager.translate(rejection.getNode(), Optional.of(sender), ColourFormatter.format(MessageSettings.busy, false)));
+        break;
+      default:
+        break;
+    }
+  }
+
+  private CommandRejection validateParameter(CommandParameter param, String argument) {
+    if(param == null) return null;
+
+    final Optional<ParameterType> type = ParameterType.find(param.getType());
+    if(type.isPresent() && !type.get().getValidator().valid(param.getRegex(), argument)) {
+      return CommandRejection.INVALID_TYPE;
+    }
+
+    if(type.isPresent() && type.get().getName().equalsIgnoreCase("string")
+        && param.getMaxLength() > 0 && argument.length() > param.getMaxLength()) {
+      return CommandRejection.INVALID_LENGTH;
+    }
+    return null;
+  }
+
+  /**
+   * Used to run a command's executor once every check has passed, and apply its cooldown. This
+   * doesn't run any checks itself, see {@link #check(PlatformSender, CommandInformation, String[])}.
+   * @param sender The {@link PlatformSender} running the command.
+   * @param label The String used as a command.
+   * @param arguments The arguments left after the sub command search.
+   * @param information The {@link CommandInformation} of the command being executed.
+   * @return True if the command was successful, otherwise false.
+   */
+  public boolean execute(PlatformSender sender, String label, String[] arguments, CommandInformation information) {
+    final boolean player = sender.isPlayer();
+    final CommandExecution executor = manager.getExecutors().get(information.getExecutor());
+    information.getMetrics().invoke();
+
+    final CommandTracer tracer = manager.getTracer();
+    if(tracer.enabled(TraceCategory.DISPATCH, TraceLevel.TRACE)) {
+      tracer.trace(TraceCategory.DISPATCH, TraceLevel.TRACE, "execute", "sender", sender.getName(), "command", information.getName(),
+                   "executor", information.getExecutor(), "arguments", arguments.length);
+    }
+
+    if(executor instanceof BatchCommandExecution) {
+      final CommandInvocation invocation = new CommandInvocation(information, sender, label, arguments);
+
+      //Reserve the cooldown until the batch runs, so the command can't be queued again this tick.
+      invocation.setReserved(reserveCooldown(sender, information));
+      manager.getBatches().submit((BatchCommandExecution)executor, invocation);
+      return true;
+    }
+
+    if(information.isAsync() || executor instanceof AsyncCommandExecution) {
+      //Reserve the cooldown while the command is in flight, so it can't be started again meanwhile.
+      final boolean reserved = reserveCooldown(sender, information);
+      final long dispatched = System.nanoTime();
+
+      boolean accepted = false;
+      try {
+        accepted = manager.getAsync().dispatch(information, executor, sender, label, arguments,
+                                               completed->{
+          manager.getUsage().record(information, sender, completed? UsageRecord.COMPLETED : UsageRecord.FAILED, System.nanoTime() - dispatched);
+          manager.getAudit().record(information, sender, arguments, completed? "completed" : "failed");
+          settleCooldown(sender, information, completed, reserved);
+        });
+      } finally {
+        if(!accepted && reserved) releaseCooldown(sender, information);
+      }
+
+      if(!accepted) {
+        reject(sender, information, arguments, CommandRejection.BUSY);
+      }
+      return accepted;
+    }
+
+    String cacheKey = null;
+    CommandOutput output = null;
+
+    if(information.getCacheTime() > 0 && executor instanceof CacheableCommandExecution) {
+      cacheKey = manager.getResultCache().key(information, sender, arguments);
+
+      final CachedResult cached = manager.getResultCache().get(information, cacheKey);
+      if(cached != null) {
+        for(String message : cached.getMessages()) {
+          sender.sendMessage(message);
+        }
+        manager.getUsage().record(information, sender, cached.isCompleted()? UsageRecord.COMPLETED : UsageRecord.FAILED, 0);
+        manager.getAudit().record(information, sender, arguments, cached.isCompleted()? "completed" : "failed");
+        applyCooldown(sender, information, cached.isCompleted());
+        return cached.isCompleted();
+      }
+
+      output = new CommandOutput(sender);
+    }
+
+    final long start = manager.getAdmission().cpuTime();
+    final long time = System.nanoTime();
+
+    final CommandWatchdog watchdog = manager.getWatchdog();
+    final long watched = watchdog.enter(information, Phase.EXECUTE);
+    final Object event = CommandFlightRecorder.begin(FlightPhase.EXECUTE);
+
+    boolean completed = false;
+    boolean returned = false;
+    try {
+      if(output != null) {
+        completed = ((CacheableCommandExecution)executor).execute(sender, label, arguments, output);
+      } else {
+        completed = executor.execute(sender, label, arguments);
+      }
+      returned = true;
+    } finally {
+      //Recorded here so that executors that throw are still counted, with an error outcome.
+      final String outcome = (!returned)? "error" : (completed)? "completed" : "failed";
+      final long elapsed = System.nanoTime() - time;
+
+      watchdog.exit(information, watched);
+      CommandFlightRecorder.end(event, information, sender, arguments.length, outcome);
+
+      information.getMetrics().record(Phase.EXECUTE, elapsed);
+      manager.getUsage().record(information, sender, (!returned)? UsageRecord.ERROR : (completed)? UsageRecord.COMPLETED : UsageRecord.FAILED, elapsed);
+      manager.getAudit().record(information, sender, arguments, outcome);
+    }
+
+    if(completed && cacheKey != null) {
+      manager.getResultCache().put(information, cacheKey,
+                                   new CachedResult(output.getMessages(), true, System.currentTimeMillis() + (information.getCacheTime() * 1000)));
+    }
+
+    if(player) {
+      manager.getAdmission().charge(sender.getUniqueId(), manager.getAdmission().cpuTime() - start);
+    }
+
+    applyCooldown(sender, information, completed);
+    return completed;
+  }
+
+  /**
+   * Used to run a command that was deferred by admission control. The sender may have gone offline
+   * or lost permission while the command waited, so the checks are run again first.
+   */
+  private void executeDeferred(PlatformSender sender, String label, String[] arguments, CommandInformation information) {
+    if(!sender.isOnline()) return;
+
+    final Optional<CommandRejection> rejection = check(sender, information, arguments);
+    if(rejection.isPresent()) {
+      reject(sender, information, arguments, rejection.get());
+      return;
+    }
+    execute(sender, label, arguments, information);
+  }
+
+  private void applyCooldown(PlatformSender sender, CommandInformation information, boolean completed) {
+    if(completed && sender.isPlayer() && information.getCooldown() > 0 && cooldownHandler != null) {
+      cooldownHandler.addCooldown(sender.getUniqueId(), information.getName(), information.getCooldown());
+    }
+  }
+
+  /**
+   * Used to put a command on cooldown before it runs, for commands that don't finish right away.
+   * This stops the same player from starting the command again while it's still pending.
+   * @return True if a cooldown was reserved, which should be released if the command doesn't run.
+   */
+  private boolean reserveCooldown(PlatformSender sender, CommandInformation information) {
+    if(!sender.isPlayer() || information.getCooldown() <= 0 || cooldownHandler == null) return false;
+
+    return cooldownHandler.addCooldown(sender.getUniqueId(), information.getName(), information.getCooldown());
+  }
+
+  private void releaseCooldown(PlatformSender sender, CommandInformation information) {
+    cooldownHandler.removeCooldown(sender.getUniqueId(), information.getName());
+  }
+
+  /**
+   * Used once a command with a reserved cooldown finishes. A completed command's cooldown restarts
+   * from now, and a failed command's reservation is released.
+   */
+  private void settleCooldown(PlatformSender sender, CommandInformation information, boolean completed, boolean reserved) {
+    if(completed) {
+      applyCooldown(sender, information, true);
+    } else if(reserved) {
+      releaseCooldown(sender, information);
+    }
+  }
+
+  /**
+   * Used to run a large amount of command lines. Every line is resolved and checked in one pass,
+   * then the valid lines are run in chunks over the following ticks.
+   * @param sender The {@link PlatformSender} to run the commands as, usually the console.
+   * @param commands The command lines to run.
+   * @param chunk The maximum amount of commands to run per tick.
+   * @return The started {@link BulkExecution}, which reports progress and failures.
+   */
+  public BulkExecution bulk(PlatformSender sender, Stream<String> commands, int chunk) {
+    return BulkExecution.resolve(this, sender, commands, chunk).start();
+  }
+
+  /**
+   * Used to run every command line in a file, see {@link #bulk(PlatformSender, Stream, int)}.
+   * @param sender The {@link PlatformSender} to run the commands as, usually the console.
+   * @param file The file containing one command per line.
+   * @param chunk The maximum amount of commands to run per tick.
+   * @return The started {@link BulkExecution}, which reports progress and failures.
+   * @throws IOException If the file couldn't be read.
+   */
+  public BulkExecution bulk(PlatformSender sender, File file, int chunk) throws IOException {
+    try(Stream<String> lines = Files.lines(file.toPath(), StandardCharsets.UTF_8)) {
+      return bulk(sender, lines, chunk);
+    }
+  }
+
+  /**
+   * Used to stop everything started by this {@link CommandsHandler}. This should be called when
+   * the plugin is disabled.
+   */
+  public void shutdown() {
+    manager.getAsync().shutdown();
+    //Run the queued batches while audit and usage still record their completions.
+    manager.getBatches().stop();
+    manager.getAdmission().stop();
+    manager.getRateLimiter().stop();
+    manager.getWatchdog().stop();
+    manager.getExporter().stop();
+    manager.getUsage().stop();
+    manager.getAudit().stop();
+    manager.getCapture().stop();
+    if(cooldownHandler != null) cooldownHandler.stop();
+    if(scheduler != null) scheduler.stop();
+  }
+
+  /**
+   * Used to load everything for this {@link CommandsHandler}.
+   * @return This {@link CommandsHandler}
+   */
+  public CommandsHandler loadEverything() {
+    load();
+    return this;
+  }
+
+  /**
+   * Used to change the list of developer UUIDs used by this {@link CommandsHandler}.
+   * @param developers The list of String-based UUIDs for all developers.
+   * @return This {@link CommandsHandler}
+   */
+  public CommandsHandler withDevelopers(final List<String> developers) {
+    setDevelopers(developers);
+    return this;
+  }
+
+  /**
+   * Used to change the {@link CommandTranslator} used.
+   * @param translator The {@link CommandTranslator} to use.
+   * @return This {@link CommandsHandler}
+   */
+  public CommandsHandler withTranslator(CommandTranslator translator) {
+    manager.setTranslator(translator);
+    return this;
+  }
+
+  /**
+   * Used to change the {@link CommandTranslator} used.
+   * @param translator The {@link CommandTranslator} to use.
+   */
+  public void setTranslator(CommandTranslator translator) {
+    manager.setTranslator(translator);
+  }
+
+  /**
+   * Used to add a new {@link CommandExecution executor} to TNCH.
+   * @param name The name of the command executor
+   * @param executor The instance of the executor
+   * @return This {@link CommandsHandler}
+   */
+  public CommandsHandler withExecutor(String name, CommandExecution executor) {
+    manager.addExecutor(name, executor);
+    return this;
+  }
+
+  /**
+   * Used to register TNCH's built-in administration command, which provides sub commands such as
+   * stats. It requires the tnch.admin permission.
+   * @param label The label to register the administration command under.
+   * @return This {@link CommandsHandler}
+   */
+  public CommandsHandler withAdminCommand(String label) {
+    this.adminLabel = label;
+    return this;
+  }
+
+  public CommandsHandler withCooldown(CooldownHandler cooldown) {
+    setCooldownHandler(cooldown);
+    return this;
+  }
+
+  /**
+   * Used to add a new {@link CommandExecution executor} to TNCH.
+   * @param name The name of the command executor
+   * @param executor The instance of the executor
+   */
+  public void addExecutor(String name, CommandExecution executor) {
+    manager.addExecutor(name, executor);
+  }
+
+  public CommandManager getManager() {
+    return manager;
+  }
+
+  public static CommandManager manager() {
+    return instance().manager;
+  }
+
+  public static CommandsHandler instance() {
+    return instance;
+  }
+
+  public CooldownHandler getCooldownHandler() {
+    return cooldownHandler;
+  }
+
+  public void setCooldownHandler(CooldownHandler cooldownHandler) {
+    if(loaded && this.cooldownHandler != null) this.cooldownHandler.stop();
+    this.cooldownHandler = cooldownHandler;
+    if(loaded && cooldownHandler != null) cooldownHandler.start(manager.getPlatform());
+  }
+
+  public CommandScheduler getScheduler() {
+    if(scheduler == null) scheduler = new CommandScheduler(this);
+    return scheduler;
+  }
+
+  public List<String> getDevelopers() {
+    return developers;
+  }
+
+  public void setDevelopers(List<String> developers) {
+    this.developers = developers;
+  }
+
+  public int getHelpLength() {
+    return helpLength;
+  }
+
+  public void setHelpLength(int helpLength) {
+    this.helpLength = helpLength;
+  }
+}
\ No newline at end of file
@@ -1,6 +1,6 @@
 package net.tnemc.commands.core;
 
-import org.bukkit.command.CommandSender;
+import net.tnemc.commands.core.platform.PlatformSender;
 
 import java.util.LinkedList;
 import java.util.Optional;
@@ -18,5 +18,5 @@ import java.util.Optional;
 @FunctionalInterface
 public interface TabCompleter {
 
-  LinkedList<String> complete(CommandSender sender, Optional<CommandSearchInformation> search, String argument);
+  LinkedList<String> complete(PlatformSender sender, Optional<CommandSearchInformation> search, String argument);
 }
\ No newline at end of file
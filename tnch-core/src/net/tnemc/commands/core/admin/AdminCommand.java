@@ -0,0 +1,66 @@
+package net.tnemc.commands.core.admin;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandManager;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import net.tnemc.commands.core.utils.ColourFormatter;
+
+import java.util.ArrayList;
+
+/**
+ * Used to build TNCH's built-in administration command, which is registered when a label is passed
+ * to {@link net.tnemc.commands.core.CommandsHandler#withAdminCommand(String)}.
+ */
+public final class AdminCommand {
+
+  public static final String PERMISSION = "tnch.admin";
+
+  private AdminCommand() {
+  }
+
+  /**
+   * Used to create and register the administration command and its sub commands.
+   * @param manager The {@link CommandManager} to register with.
+   * @param label The label of the administration command.
+   * @return The root {@link CommandInformation} of the administration command.
+   */
+  public static CommandInformation register(CommandManager manager, String label) {
+    final CommandInformation root = new CommandInformation(new ArrayList<>(), label, "TNCH administration commands.",
+                                                           PERMISSION, "tnch_admin", "TNCH", true, true, false);
+
+    final CommandInformation stats = sub(root, "stats", "Shows latency percentiles for each command.", "tnch_stats");
+    stats.addParameter(new CommandParameter(0, "command", true, false, "unknown"));
+
+    sub(root, "ticks", "Shows the main thread time used by each command.", "tnch_ticks");
+    sub(root, "top", "Shows the players and commands with the most recent usage.", "tnch_top");
+
+    manager.addExecutor("tnch_admin", (sender, commandLabel, arguments)->{
+      for(CommandInformation information : root.getSub().values()) {
+        sender.sendMessage(ColourFormatter.format("&6/" + information.buildCommand(sender) + " &f- " + information.getDescription(), false));
+      }
+      return true;
+    });
+    manager.addExecutor("tnch_stats", new StatsExecution());
+    manager.addExecutor("tnch_ticks", new TicksExecution());
+    manager.addExecutor("tnch_top", new TopExecution());
+
+    manager.register(root.getIdentifiers(), root);
+    return root;
+  }
+
+  /**
+   * Used to add a sub command to the administration command.
+   * @param root The root {@link CommandInformation}.
+   * @param name The name of the sub command.
+   * @param description The description of the sub command.
+   * @param executor The name of the sub command's executor.
+   * @return The sub command's {@link CommandInformation}.
+   */
+  public static CommandInformation sub(CommandInformation root, String name, String description, String executor) {
+    final CommandInformation sub = new CommandInformation(new ArrayList<>(), name, description,
+                                                          PERMISSION, executor, "TNCH", true, true, false);
+    sub.setParent(root);
+    root.addSub(sub);
+    return sub;
+  }
+}
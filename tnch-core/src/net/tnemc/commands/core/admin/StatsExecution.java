@@ -0,0 +1,77 @@
+package net.tnemc.commands.core.admin;
+
+import net.tnemc.commands.core.CommandExecution;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandRejection;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.metrics.CommandMetrics;
+import net.tnemc.commands.core.metrics.LatencyHistogram;
+import net.tnemc.commands.core.metrics.Phase;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.utils.ColourFormatter;
+
+/**
+ * Shows the p50, p99 and max latency of each phase, and the rejection counts, of every command
+ * that has been used.
+ */
+public class StatsExecution implements CommandExecution {
+
+  @Override
+  public boolean execute(PlatformSender sender, String label, String[] arguments) {
+    final String filter = (arguments.length > 0)? arguments[0].toLowerCase() : "";
+
+    int shown = 0;
+    for(CommandInformation information : CommandsHandler.manager().nodes()) {
+      final CommandMetrics metrics = information.getMetrics();
+      if(!metrics.isUsed()) continue;
+
+      final String path = information.buildCommand(sender);
+      if(!path.contains(filter)) continue;
+
+      sender.sendMessage(ColourFormatter.format("&6/" + path, false));
+
+      for(Phase phase : Phase.values()) {
+        final LatencyHistogram histogram = metrics.getHistogram(phase);
+        if(histogram.getCount() == 0) continue;
+
+        sender.sendMessage(ColourFormatter.format("  &f" + phase.name().toLowerCase() + ": &7n=" + histogram.getCount()
+                                                      + " p50=" + millis(histogram.percentile(0.5))
+                                                      + " p99=" + millis(histogram.percentile(0.99))
+                                                      + " max=" + millis(histogram.getMax()), false));
+      }
+
+      final String rejections = rejections(metrics);
+      if(!rejections.isEmpty()) {
+        sender.sendMessage(ColourFormatter.format("  &frejected: &7" + rejections, false));
+      }
+      shown++;
+    }
+
+    final String global = rejections(CommandsHandler.manager().getMetrics());
+    if(!global.isEmpty()) {
+      sender.sendMessage(ColourFormatter.format("&6Before search: &7" + global, false));
+    }
+
+    if(shown == 0) {
+      sender.sendMessage(ColourFormatter.format("&7No command statistics recorded yet.", false));
+    }
+    return true;
+  }
+
+  private static String rejections(CommandMetrics metrics) {
+    final StringBuilder builder = new StringBuilder();
+
+    for(CommandRejection rejection : CommandRejection.values()) {
+      final long count = metrics.getRejections(rejection);
+      if(count == 0) continue;
+
+      if(builder.length() > 0) builder.append(", ");
+      builder.append(rejection.name().toLowerCase()).append('=').append(count);
+    }
+    return builder.toString();
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2fms", nanos / 1000000.0);
+  }
+}
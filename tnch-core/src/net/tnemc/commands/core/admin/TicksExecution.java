@@ -0,0 +1,47 @@
+package net.tnemc.commands.core.admin;
+
+import net.tnemc.commands.core.CommandExecution;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.utils.ColourFormatter;
+import net.tnemc.commands.core.watchdog.CommandWatchdog;
+import net.tnemc.commands.core.watchdog.TickAttribution;
+
+import java.util.Map;
+
+/**
+ * Shows which commands used the most main thread time over the watchdog's tick window, and writes
+ * the full attribution to watchdog.log.
+ */
+public class TicksExecution implements CommandExecution {
+
+  private static final int SHOWN = 10;
+
+  @Override
+  public boolean execute(PlatformSender sender, String label, String[] arguments) {
+    final CommandWatchdog watchdog = CommandsHandler.manager().getWatchdog();
+    final TickAttribution attribution = watchdog.getAttribution();
+
+    if(attribution == null) {
+      sender.sendMessage(ColourFormatter.format("&7The watchdog isn't enabled.", false));
+      return true;
+    }
+
+    sender.sendMessage(ColourFormatter.format("&6Main thread time over the last " + attribution.getWindow()
+                                                  + " ticks, worst tick " + millis(attribution.getWorstTick()) + ":", false));
+
+    int shown = 0;
+    for(Map.Entry<CommandInformation, Long> entry : attribution.snapshot().entrySet()) {
+      if(shown++ >= SHOWN) break;
+      sender.sendMessage(ColourFormatter.format("  &f/" + entry.getKey().buildCommand(sender) + ": &7" + millis(entry.getValue()), false));
+    }
+
+    watchdog.dump();
+    return true;
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2fms", nanos / 1000000.0);
+  }
+}
@@ -0,0 +1,57 @@
+package net.tnemc.commands.core.admin;
+
+import net.tnemc.commands.core.CommandExecution;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.limit.HeavyHitters;
+import net.tnemc.commands.core.limit.LoadTracker;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.utils.ColourFormatter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shows the players and commands that dominate recent command load.
+ */
+public class TopExecution implements CommandExecution {
+
+  private static final int SHOWN = 10;
+
+  @Override
+  public boolean execute(PlatformSender sender, String label, String[] arguments) {
+    final LoadTracker load = CommandsHandler.manager().getLoad();
+
+    if(!load.isEnabled()) {
+      sender.sendMessage(ColourFormatter.format("&7Heavy hitter tracking isn't enabled.", false));
+      return true;
+    }
+
+    final long senders = load.getSenders().getTotal();
+    sender.sendMessage(ColourFormatter.format("&6Top senders of " + senders + " recent commands:", false));
+
+    final List<HeavyHitters.Hitter<UUID>> topSenders = load.topSenders();
+    for(int i = 0; i < Math.min(SHOWN, topSenders.size()); i++) {
+      final HeavyHitters.Hitter<UUID> hitter = topSenders.get(i);
+      final String name = CommandsHandler.manager().getPlatform().getPlayerName(hitter.getKey()).orElse(hitter.getKey().toString());
+
+      sender.sendMessage(ColourFormatter.format("  &f" + name + ": &7" + hitter.getCount() + share(hitter.getCount(), senders), false));
+    }
+
+    final long commands = load.getCommands().getTotal();
+    sender.sendMessage(ColourFormatter.format("&6Top commands of " + commands + " recent commands:", false));
+
+    final List<HeavyHitters.Hitter<CommandInformation>> topCommands = load.topCommands();
+    for(int i = 0; i < Math.min(SHOWN, topCommands.size()); i++) {
+      final HeavyHitters.Hitter<CommandInformation> hitter = topCommands.get(i);
+
+      sender.sendMessage(ColourFormatter.format("  &f/" + hitter.getKey().buildCommand(sender) + ": &7" + hitter.getCount()
+                                                    + share(hitter.getCount(), commands), false));
+    }
+    return true;
+  }
+
+  private static String share(long count, long total) {
+    return (total == 0)? "" : String.format(" (%.1f%%)", Math.min(100.0, count * 100.0 / total));
+  }
+}
@@ -0,0 +1,11 @@
+package net.tnemc.commands.core.admission;
+
+/**
+ * The decision made by the {@link AdmissionController} for a command.
+ */
+public enum Admission {
+
+  ADMIT,
+  DEFER,
+  REJECT
+}
@@ -0,0 +1,334 @@
+package net.tnemc.commands.core.admission;
+
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Used to decide whether commands should run, be deferred or be rejected based on how far the
+ * server is falling behind, and to limit how much main thread CPU time each player may use.
+ */
+public class AdmissionController {
+
+  private final ConcurrentLinkedQueue<DeferredCommand> deferred = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger(0);
+
+  private final ConcurrentHashMap<UUID, SenderBudget> budgets = new ConcurrentHashMap<>();
+
+  //Indexed by CostClass ordinal.
+  private final AtomicLongArray deferredCount = new AtomicLongArray(CostClass.values().length);
+  private final AtomicLongArray rejectedCount = new AtomicLongArray(CostClass.values().length);
+  private final LongAdder budgetRejected = new LongAdder();
+  private final LongAdder expiredCount = new LongAdder();
+
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private final boolean cpuTime = threads.isCurrentThreadCpuTimeSupported();
+
+  private boolean enabled = false;
+
+  //Average tick times, in milliseconds, at which the server counts as overloaded.
+  private int overloaded = 55;
+  private int severe = 80;
+
+  private int queueLimit = 100;
+  private int queueDrain = 5;
+
+  //The time, in milliseconds, a deferred command may wait before it's dropped.
+  private long queueTime = 30000;
+
+  //The CPU time, in milliseconds, each player may use per budget window.
+  private long budgetWindow = 1000;
+  private long budgetTime = 50;
+
+  private TickMonitor monitor = null;
+  private PlatformTask monitorTask = null;
+
+  /**
+   * Used to decide what to do with a command of the specified {@link CostClass}.
+   * @param cost The cost class of the command.
+   * @return The {@link Admission} decision.
+   */
+  public Admission admit(final CostClass cost) {
+    if(!enabled || monitor == null || cost == CostClass.LIGHT) return Admission.ADMIT;
+
+    final double average = monitor.getAverage();
+
+    if(average >= severe) {
+      if(cost == CostClass.HEAVY) {
+        rejectedCount.incrementAndGet(cost.ordinal());
+        return Admission.REJECT;
+      }
+      deferredCount.incrementAndGet(cost.ordinal());
+      return Admission.DEFER;
+    }
+
+    if(average >= overloaded && cost == CostClass.HEAVY) {
+      deferredCount.incrementAndGet(cost.ordinal());
+      return Admission.DEFER;
+    }
+    return Admission.ADMIT;
+  }
+
+  /**
+   * Used to queue a command to run once the server has caught up.
+   * @param command The command to run.
+   * @return True if the command was queued, or false if the queue is full.
+   */
+  public boolean defer(final Runnable command) {
+    return defer(command, ()->{});
+  }
+
+  /**
+   * Used to queue a command to run once the server has caught up.
+   * @param command The command to run.
+   * @param expire Run instead of the command if it waits longer than the queue time, or is still
+   *               waiting when this controller is stopped.
+   * @return True if the command was queued, or false if the queue is full.
+   */
+  public boolean defer(final Runnable command, final Runnable expire) {
+    if(queued.incrementAndGet() > queueLimit) {
+      queued.decrementAndGet();
+      return false;
+    }
+    deferred.add(new DeferredCommand(command, expire, System.currentTimeMillis()));
+    return true;
+  }
+
+  /**
+   * Used to run deferred commands while the server isn't overloaded. This is called every tick by
+   * the {@link TickMonitor}.
+   */
+  public void drain() {
+    expire(System.currentTimeMillis() - queueTime);
+
+    if(monitor == null || monitor.getAverage() >= overloaded) return;
+
+    for(int i = 0; i < queueDrain; i++) {
+      final DeferredCommand command = deferred.poll();
+      if(command == null) break;
+
+      queued.decrementAndGet();
+      command.command.run();
+    }
+  }
+
+  /**
+   * Used to drop the deferred commands queued before a time. The queue is in the order commands
+   * were deferred, so this stops at the first command queued after it.
+   * @param before The time, in epoch milliseconds.
+   */
+  private void expire(final long before) {
+    DeferredCommand command;
+    while((command = deferred.peek()) != null && command.queued - before < 0) {
+      if(!deferred.remove(command)) continue;
+
+      queued.decrementAndGet();
+      expiredCount.increment();
+      command.expire.run();
+    }
+  }
+
+  /**
+   * @param sender The {@link UUID} of the player.
+   * @return True if the player hasn't used their CPU time budget for the current window.
+   */
+  public boolean withinBudget(final UUID sender) {
+    if(!enabled) return true;
+
+    final SenderBudget budget = budgets.get(sender);
+    if(budget == null || budget.expired(System.currentTimeMillis(), budgetWindow)) return true;
+
+    if(budget.used.get() < budgetTime * 1000000L) return true;
+
+    budgetRejected.increment();
+    return false;
+  }
+
+  /**
+   * Used to charge a player for the CPU time used by one of their commands.
+   * @param sender The {@link UUID} of the player.
+   * @param time The CPU time used, in nanoseconds.
+   */
+  public void charge(final UUID sender, final long time) {
+    if(!enabled) return;
+
+    final long now = System.currentTimeMillis();
+
+    //An expired window is replaced rather than reset, so concurrent charges can't be lost.
+    budgets.compute(sender, (id, budget)->{
+      if(budget == null || budget.expired(now, budgetWindow)) return new SenderBudget(now, time);
+
+      budget.used.addAndGet(time);
+      return budget;
+    });
+  }
+
+  /**
+   * @return The CPU time of the current thread in nanoseconds, or 0 if admission control is
+   * disabled.
+   */
+  public long cpuTime() {
+    if(!enabled) return 0;
+    return (cpuTime)? threads.getCurrentThreadCpuTime() : System.nanoTime();
+  }
+
+  /**
+   * Used to discard the budgets of players whose window has expired.
+   */
+  public void purge() {
+    final long now = System.currentTimeMillis();
+    budgets.values().removeIf(budget->budget.expired(now, budgetWindow));
+  }
+
+  /**
+   * Used to start monitoring the tick duration.
+   * @param platform The {@link CommandPlatform} to schedule the {@link TickMonitor} with.
+   */
+  public synchronized void start(CommandPlatform platform) {
+    if(monitor == null && enabled) {
+      monitor = new TickMonitor(this);
+      monitorTask = platform.runTimer(monitor, 1, 1);
+    }
+  }
+
+  /**
+   * Used to stop monitoring the tick duration, and drop every deferred command that's still
+   * waiting. This should be called when the plugin is disabled.
+   */
+  public synchronized void stop() {
+    if(monitorTask != null) {
+      monitorTask.cancel();
+      monitorTask = null;
+    }
+    monitor = null;
+    expire(Long.MAX_VALUE);
+  }
+
+  public long getDeferred(CostClass cost) {
+    return deferredCount.get(cost.ordinal());
+  }
+
+  public long getRejected(CostClass cost) {
+    return rejectedCount.get(cost.ordinal());
+  }
+
+  /**
+   * @return The amount of deferred commands that were dropped before they could run.
+   */
+  public long getExpired() {
+    return expiredCount.sum();
+  }
+
+  public long getBudgetRejected() {
+    return budgetRejected.sum();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+
+  public TickMonitor getMonitor() {
+    return monitor;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getOverloaded() {
+    return overloaded;
+  }
+
+  public void setOverloaded(int overloaded) {
+    this.overloaded = overloaded;
+  }
+
+  public int getSevere() {
+    return severe;
+  }
+
+  public void setSevere(int severe) {
+    this.severe = severe;
+  }
+
+  public int getQueueLimit() {
+    return queueLimit;
+  }
+
+  public void setQueueLimit(int queueLimit) {
+    this.queueLimit = queueLimit;
+  }
+
+  public int getQueueDrain() {
+    return queueDrain;
+  }
+
+  public void setQueueDrain(int queueDrain) {
+    this.queueDrain = queueDrain;
+  }
+
+  public long getQueueTime() {
+    return queueTime;
+  }
+
+  public void setQueueTime(long queueTime) {
+    this.queueTime = queueTime;
+  }
+
+  public long getBudgetWindow() {
+    return budgetWindow;
+  }
+
+  public void setBudgetWindow(long budgetWindow) {
+    this.budgetWindow = budgetWindow;
+  }
+
+  public long getBudgetTime() {
+    return budgetTime;
+  }
+
+  public void setBudgetTime(long budgetTime) {
+    this.budgetTime = budgetTime;
+  }
+
+  private static class DeferredCommand {
+
+    private final Runnable command;
+    private final Runnable expire;
+    private final long queued;
+
+    DeferredCommand(Runnable command, Runnable expire, long queued) {
+      this.command = command;
+      this.expire = expire;
+      this.queued = queued;
+    }
+  }
+
+  private static class SenderBudget {
+
+    private final long start;
+    private final AtomicLong used;
+
+    SenderBudget(long start, long used) {
+      this.start = start;
+      this.used = new AtomicLong(used);
+    }
+
+    boolean expired(long now, long window) {
+      return now - start >= window;
+    }
+  }
+}
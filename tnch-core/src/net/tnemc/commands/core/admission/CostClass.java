@@ -0,0 +1,34 @@
+package net.tnemc.commands.core.admission;
+
+import java.util.Optional;
+
+/**
+ * Represents how expensive a command is to run, which decides how it's treated while the server
+ * is overloaded.
+ */
+public enum CostClass {
+
+  //Always admitted.
+  LIGHT("light"),
+  //Deferred while the server is severely overloaded.
+  MEDIUM("medium"),
+  //Deferred while the server is overloaded, and rejected while it's severely overloaded.
+  HEAVY("heavy");
+
+  private String name;
+
+  CostClass(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public static Optional<CostClass> find(String name) {
+    for(CostClass cost : values()) {
+      if(cost.name.equalsIgnoreCase(name)) return Optional.of(cost);
+    }
+    return Optional.empty();
+  }
+}
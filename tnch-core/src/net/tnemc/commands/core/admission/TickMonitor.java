@@ -0,0 +1,45 @@
+package net.tnemc.commands.core.admission;
+
+/**
+ * Runs every tick on the main thread to track the average tick duration, and to run deferred
+ * commands once the server has caught up.
+ */
+public class TickMonitor implements Runnable {
+
+  //The weight given to the latest tick in the moving average.
+  private static final double WEIGHT = 0.1;
+
+  private final AdmissionController controller;
+
+  private long last = -1;
+  private long ticks = 0;
+  private volatile double average = 50.0;
+
+  public TickMonitor(AdmissionController controller) {
+    this.controller = controller;
+  }
+
+  @Override
+  public void run() {
+    final long now = System.nanoTime();
+
+    if(last != -1) {
+      final double duration = (now - last) / 1000000.0;
+      average = (average * (1 - WEIGHT)) + (duration * WEIGHT);
+    }
+    last = now;
+
+    controller.drain();
+
+    if(++ticks % 1200 == 0) {
+      controller.purge();
+    }
+  }
+
+  /**
+   * @return The moving average of the time between ticks, in milliseconds.
+   */
+  public double getAverage() {
+    return average;
+  }
+}
@@ -0,0 +1,121 @@
+package net.tnemc.commands.core.async;
+
+import net.tnemc.commands.core.AsyncCommandExecution;
+import net.tnemc.commands.core.CommandExecution;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+/**
+ * Used to run commands marked as Async, and {@link AsyncCommandExecution async executors}, on a
+ * separate thread pool instead of the server thread.
+ */
+public class AsyncDispatcher {
+
+  private final ConcurrentHashMap<CommandInformation, AsyncSlot> slots = new ConcurrentHashMap<>();
+
+  private final CommandPlatform platform;
+
+  private int threads = 4;
+  private boolean virtual = true;
+
+  private volatile ExecutorService pool = null;
+
+  public AsyncDispatcher(CommandPlatform platform) {
+    this.platform = platform;
+  }
+
+  /**
+   * Used to run a command asynchronously.
+   * @param information The {@link CommandInformation} of the command.
+   * @param executor The command's {@link CommandExecution executor}.
+   * @param sender The {@link PlatformSender} that ran the command.
+   * @param label The String used as a command.
+   * @param arguments The arguments left after the sub command search.
+   * @param completion Called on the main thread with the command's result once it finishes.
+   * @return True if the command was started or queued, false if the command's queue is full.
+   */
+  public boolean dispatch(final CommandInformation information, final CommandExecution executor,
+                          final PlatformSender sender, final String label,
+                          final String[] arguments, final Consumer<Boolean> completion) {
+
+    final AsyncSlot slot = slots.computeIfAbsent(information,
+                                                 k->new AsyncSlot(information.getAsyncLimit(), information.getAsyncQueue()));
+
+    final Supplier<CompletableFuture<?>> task = ()->{
+      final CompletableFuture<Boolean> future;
+
+      if(executor instanceof AsyncCommandExecution) {
+        future = CompletableFuture.supplyAsync(()->((AsyncCommandExecution)executor).executeAsync(sender, label, arguments), pool())
+                                  .thenCompose(result->result);
+      } else {
+        future = CompletableFuture.supplyAsync(()->executor.execute(sender, label, arguments), pool());
+      }
+
+      return future.whenComplete((completed, error)->{
+        if(error != null) {
+          platform.getLogger().log(Level.SEVERE, "Error while executing command " + information.getName(), error);
+        }
+        MainThread.run(platform, ()->completion.accept(error == null && completed != null && completed));
+      });
+    };
+    return slot.submit(task);
+  }
+
+  /**
+   * @return The pool commands are run on, creating it the first time it's needed.
+   */
+  public ExecutorService pool() {
+    if(pool == null) {
+      synchronized(this) {
+        if(pool == null) {
+          pool = CommandThreads.create(threads, virtual);
+        }
+      }
+    }
+    return pool;
+  }
+
+  /**
+   * Used to stop the pool, giving running commands a few seconds to finish.
+   */
+  public void shutdown() {
+    if(pool == null) return;
+
+    pool.shutdown();
+    try {
+      pool.awaitTermination(5, TimeUnit.SECONDS);
+    } catch(InterruptedException ignore) {
+      Thread.currentThread().interrupt();
+    }
+    pool = null;
+  }
+
+  public AsyncSlot getSlot(CommandInformation information) {
+    return slots.get(information);
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+
+  public void setThreads(int threads) {
+    this.threads = threads;
+  }
+
+  public boolean isVirtual() {
+    return virtual;
+  }
+
+  public void setVirtual(boolean virtual) {
+    this.virtual = virtual;
+  }
+}
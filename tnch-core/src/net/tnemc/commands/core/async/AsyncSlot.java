@@ -0,0 +1,97 @@
+package net.tnemc.commands.core.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits how many invocations of a single asynchronous command may run at once, and how many may
+ * wait for a free slot, so one slow command can't take over the whole pool.
+ */
+public class AsyncSlot {
+
+  private final ConcurrentLinkedQueue<Supplier<CompletableFuture<?>>> waiting = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger running = new AtomicInteger(0);
+  private final AtomicInteger queued = new AtomicInteger(0);
+
+  private final int limit;
+  private final int queueLimit;
+
+  public AsyncSlot(int limit, int queueLimit) {
+    this.limit = Math.max(1, limit);
+    this.queueLimit = Math.max(0, queueLimit);
+  }
+
+  /**
+   * Used to start a task, or queue it if every slot is in use.
+   * @param task The task, which is started by calling the supplier.
+   * @return True if the task was started or queued, false if the queue is full.
+   */
+  public boolean submit(final Supplier<CompletableFuture<?>> task) {
+    if(running.incrementAndGet() <= limit) {
+      launch(task);
+      return true;
+    }
+    running.decrementAndGet();
+
+    if(queued.incrementAndGet() > queueLimit) {
+      queued.decrementAndGet();
+      return false;
+    }
+    waiting.add(task);
+
+    //A running task may have finished before we queued, so make sure we don't strand this one.
+    drain();
+    return true;
+  }
+
+  private void launch(final Supplier<CompletableFuture<?>> task) {
+    CompletableFuture<?> future;
+    try {
+      future = task.get();
+    } catch(Throwable e) {
+      final CompletableFuture<Object> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      future = failed;
+    }
+
+    future.whenComplete((result, error)->{
+      running.decrementAndGet();
+      drain();
+    });
+  }
+
+  private void drain() {
+    while(!waiting.isEmpty()) {
+      if(running.incrementAndGet() > limit) {
+        running.decrementAndGet();
+        return;
+      }
+
+      final Supplier<CompletableFuture<?>> task = waiting.poll();
+      if(task == null) {
+        running.decrementAndGet();
+        return;
+      }
+      queued.decrementAndGet();
+      launch(task);
+    }
+  }
+
+  public int getRunning() {
+    return running.get();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public int getQueueLimit() {
+    return queueLimit;
+  }
+}
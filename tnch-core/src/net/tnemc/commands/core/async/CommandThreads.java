@@ -0,0 +1,46 @@
+package net.tnemc.commands.core.async;
+
+import net.tnemc.commands.core.utils.JavaRuntime;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Used to create the thread pool for asynchronous commands. On Java 21 and newer virtual threads
+ * are created by {@code VirtualThreads}, which is loaded reflectively.
+ */
+public final class CommandThreads {
+
+  @SuppressWarnings("unchecked")
+  private static final Supplier<ExecutorService> VIRTUAL = JavaRuntime.load(21, "net.tnemc.commands.core.async.VirtualThreads",
+                                                                             Supplier.class);
+
+  private CommandThreads() {
+  }
+
+  /**
+   * @param threads The amount of platform threads to use.
+   * @param virtual Whether virtual threads should be used when the runtime supports them.
+   * @return The {@link ExecutorService} to run asynchronous commands with.
+   */
+  public static ExecutorService create(final int threads, final boolean virtual) {
+    if(virtual && VIRTUAL != null) return VIRTUAL.get();
+
+    final AtomicInteger count = new AtomicInteger(0);
+
+    return Executors.newFixedThreadPool(Math.max(1, threads), runnable->{
+      final Thread thread = new Thread(runnable, "TNCH-Async-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * @return True if {@link #create(int, boolean)} is able to use virtual threads.
+   */
+  public static boolean supportsVirtual() {
+    return VIRTUAL != null;
+  }
+}
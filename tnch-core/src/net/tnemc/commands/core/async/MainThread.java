@@ -0,0 +1,70 @@
+package net.tnemc.commands.core.async;
+
+import net.tnemc.commands.core.platform.CommandPlatform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Helpers used by asynchronous commands to get back onto the server thread, for example to send
+ * results or touch the world once their I/O has finished.
+ */
+public final class MainThread {
+
+  private MainThread() {
+  }
+
+  /**
+   * Used to run something on the main thread of a {@link CommandPlatform}. If this is called from
+   * the main thread it runs immediately, otherwise it runs on the next tick.
+   * @param platform The platform to schedule with.
+   * @param runnable The code to run.
+   */
+  public static void run(final CommandPlatform platform, final Runnable runnable) {
+    if(platform.isPrimaryThread()) {
+      runnable.run();
+      return;
+    }
+    platform.runSync(runnable);
+  }
+
+  /**
+   * Used to compute a value on the main thread.
+   * @param platform The platform to schedule with.
+   * @param supplier The code to run.
+   * @param <T> The type of the result.
+   * @return A future that completes with the result once it has been computed on the main thread.
+   */
+  public static <T> CompletableFuture<T> supply(final CommandPlatform platform, final Supplier<T> supplier) {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+
+    run(platform, ()->{
+      try {
+        future.complete(supplier.get());
+      } catch(Throwable e) {
+        future.completeExceptionally(e);
+      }
+    });
+    return future;
+  }
+
+  /**
+   * Used to continue a future on the main thread once it completes.
+   * @param platform The platform to schedule with.
+   * @param future The future to wait for.
+   * @param <T> The type of the result.
+   * @return A future that completes on the main thread with the same result.
+   */
+  public static <T> CompletableFuture<T> hop(final CommandPlatform platform, final CompletableFuture<T> future) {
+    final CompletableFuture<T> hopped = new CompletableFuture<>();
+
+    future.whenComplete((result, error)->run(platform, ()->{
+      if(error != null) {
+        hopped.completeExceptionally(error);
+      } else {
+        hopped.complete(result);
+      }
+    }));
+    return hopped;
+  }
+}
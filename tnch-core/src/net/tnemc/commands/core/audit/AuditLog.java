@@ -0,0 +1,340 @@
+package net.tnemc.commands.core.audit;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Used to log every execution of commands with Audit set to true. Records are handed to a
+ * background writer through a bounded lock-free queue, and written in batches to audit.log in the
+ * audit folder. The log is rotated daily, or once it reaches the maximum size, and rotated files are
+ * compressed with gzip.
+ */
+public class AuditLog {
+
+  private final ConcurrentLinkedQueue<AuditRecord> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger(0);
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder written = new LongAdder();
+
+  private boolean enabled = false;
+  private String folder = "audit";
+  private int queueLimit = 10000;
+  private AuditPolicy policy = AuditPolicy.DROP;
+
+  //The longest time, in milliseconds, the BLOCK policy waits for room in the queue.
+  private long blockTime = 50;
+
+  //The most records written per batch, and how often, in milliseconds, the writer wakes up.
+  private int batchSize = 500;
+  private long flushInterval = 1000;
+
+  //The size, in megabytes, at which the log is rotated, and the amount of rotated files kept.
+  private long maxSize = 10;
+  private int maxFiles = 30;
+
+  private volatile Thread writer = null;
+  private volatile boolean running = false;
+  private Logger logger = null;
+  private Path directory = null;
+
+  private LocalDate day = null;
+
+  /**
+   * Used to audit a command execution, if the command is audited.
+   * @param information The {@link CommandInformation} of the command.
+   * @param sender The {@link PlatformSender} that ran the command.
+   * @param arguments The arguments of the command.
+   * @param outcome The outcome of the command, such as completed, failed or a rejection reason.
+   */
+  public void record(CommandInformation information, PlatformSender sender, String[] arguments, Object outcome) {
+    if(!running || !information.isAudit()) return;
+
+    final String id = (sender.getUniqueId() == null)? "-" : sender.getUniqueId().toString();
+    offer(new AuditRecord(System.currentTimeMillis(), sender.getName(), id, information.buildCommand(sender),
+                          Arrays.copyOf(arguments, arguments.length), String.valueOf(outcome).toLowerCase()));
+  }
+
+  /**
+   * Used to hand a record to the writer, following the {@link AuditPolicy} if the queue is full.
+   * @param record The {@link AuditRecord}.
+   * @return True if the record was queued, otherwise false.
+   */
+  public boolean offer(AuditRecord record) {
+    if(reserve()) {
+      queue.add(record);
+
+      //The log stopped after this record passed the running check, so nothing is left to write it.
+      if(!running && writer == null) discard();
+      return true;
+    }
+
+    if(policy == AuditPolicy.BLOCK) {
+      final long deadline = System.nanoTime() + (blockTime * 1000000L);
+
+      while(System.nanoTime() < deadline) {
+        final Thread current = writer;
+        if(current != null) LockSupport.unpark(current);
+
+        LockSupport.parkNanos(100000L);
+
+        if(reserve()) {
+          queue.add(record);
+          return true;
+        }
+      }
+    }
+    dropped.increment();
+    return false;
+  }
+
+  private boolean reserve() {
+    if(queued.incrementAndGet() > queueLimit) {
+      queued.decrementAndGet();
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Used to start the writer thread, if the audit log is enabled.
+   * @param platform The {@link CommandPlatform} whose data folder contains the audit folder.
+   */
+  public synchronized void start(CommandPlatform platform) {
+    if(!enabled || running) return;
+
+    logger = platform.getLogger();
+    directory = new File(platform.getDataFolder(), folder).toPath();
+    running = true;
+
+    writer = new Thread(this::write, "TNCH Audit");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Used to stop accepting records, and wait for the writer to write everything that's queued.
+   * Records queued while the writer was finishing are written here, and any queued after that are
+   * counted as dropped.
+   */
+  public synchronized void stop() {
+    if(!running) return;
+
+    running = false;
+
+    final Thread current = writer;
+    LockSupport.unpark(current);
+    try {
+      current.join(10000);
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if(!current.isAlive()) {
+      writer = null;
+      drain();
+    }
+  }
+
+  private void discard() {
+    while(queue.poll() != null) {
+      queued.decrementAndGet();
+      dropped.increment();
+    }
+  }
+
+  private void write() {
+    while(true) {
+      final boolean stopping = !running;
+
+      //Wait for a full batch, or the flush interval, before writing.
+      if(!stopping && queued.get() < batchSize) {
+        LockSupport.parkNanos(flushInterval * 1000000L);
+      }
+
+      drain();
+
+      if(stopping) break;
+    }
+  }
+
+  private void drain() {
+    while(!queue.isEmpty()) {
+      final List<AuditRecord> batch = new ArrayList<>(batchSize);
+      AuditRecord record;
+      while(batch.size() < batchSize && (record = queue.poll()) != null) {
+        queued.decrementAndGet();
+        batch.add(record);
+      }
+      if(batch.isEmpty()) return;
+
+      try {
+        writeBatch(batch);
+        written.add(batch.size());
+      } catch(IOException e) {
+        dropped.add(batch.size());
+        logger.log(Level.WARNING, "Unable to write " + batch.size() + " audit records", e);
+      }
+    }
+  }
+
+  private void writeBatch(List<AuditRecord> batch) throws IOException {
+    Files.createDirectories(directory);
+
+    final Path current = directory.resolve("audit.log");
+    final LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+    if(day == null) {
+      day = (Files.exists(current))? Files.getLastModifiedTime(current).toInstant().atZone(ZoneOffset.UTC).toLocalDate() : today;
+    }
+
+    if(Files.exists(current) && (!today.equals(day) || Files.size(current) >= maxSize * 1024 * 1024)) {
+      rotate(current);
+    }
+    day = today;
+
+    try(BufferedWriter out = Files.newBufferedWriter(current, StandardCharsets.UTF_8,
+                                                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      for(AuditRecord record : batch) {
+        out.write(record.format());
+        out.newLine();
+      }
+    }
+  }
+
+  private void rotate(Path current) throws IOException {
+    int index = 1;
+    Path rotated;
+    do {
+      rotated = directory.resolve("audit-" + day + "-" + index++ + ".log.gz");
+    } while(Files.exists(rotated));
+
+    try(InputStream in = Files.newInputStream(current);
+        OutputStream out = new GZIPOutputStream(Files.newOutputStream(rotated))) {
+      final byte[] buffer = new byte[8192];
+      int read;
+      while((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+    }
+    Files.delete(current);
+
+    final File[] files = directory.toFile().listFiles((dir, name)->name.startsWith("audit-") && name.endsWith(".log.gz"));
+    if(files != null && files.length > maxFiles) {
+      Arrays.sort(files, (a, b)->Long.compare(a.lastModified(), b.lastModified()));
+
+      for(int i = 0; i < files.length - maxFiles; i++) {
+        Files.deleteIfExists(files[i].toPath());
+      }
+    }
+  }
+
+  /**
+   * @return The amount of records dropped because the queue was full or couldn't be written.
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  public long getWritten() {
+    return written.sum();
+  }
+
+  public int getQueued() {
+    return queued.get();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getFolder() {
+    return folder;
+  }
+
+  public void setFolder(String folder) {
+    this.folder = folder;
+  }
+
+  public int getQueueLimit() {
+    return queueLimit;
+  }
+
+  public void setQueueLimit(int queueLimit) {
+    this.queueLimit = Math.max(1, queueLimit);
+  }
+
+  public AuditPolicy getPolicy() {
+    return policy;
+  }
+
+  public void setPolicy(AuditPolicy policy) {
+    this.policy = policy;
+  }
+
+  public long getBlockTime() {
+    return blockTime;
+  }
+
+  public void setBlockTime(long blockTime) {
+    this.blockTime = blockTime;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = Math.max(1, batchSize);
+  }
+
+  public long getFlushInterval() {
+    return flushInterval;
+  }
+
+  public void setFlushInterval(long flushInterval) {
+    this.flushInterval = Math.max(10, flushInterval);
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  public int getMaxFiles() {
+    return maxFiles;
+  }
+
+  public void setMaxFiles(int maxFiles) {
+    this.maxFiles = maxFiles;
+  }
+}
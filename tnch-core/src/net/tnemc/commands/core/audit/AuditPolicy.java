@@ -0,0 +1,27 @@
+package net.tnemc.commands.core.audit;
+
+import java.util.Optional;
+
+/**
+ * What the {@link AuditLog} does with a record while its queue is full.
+ */
+public enum AuditPolicy {
+
+  /**
+   * The new record is dropped and counted, so the command thread never waits.
+   */
+  DROP,
+
+  /**
+   * The command thread waits, up to the configured block time, for the writer to make room. The
+   * record is dropped if there still isn't room.
+   */
+  BLOCK;
+
+  public static Optional<AuditPolicy> find(String name) {
+    for(AuditPolicy policy : values()) {
+      if(policy.name().equalsIgnoreCase(name)) return Optional.of(policy);
+    }
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,69 @@
+package net.tnemc.commands.core.audit;
+
+import java.time.Instant;
+
+/**
+ * A single audited command execution.
+ */
+public class AuditRecord {
+
+  private final long timestamp;
+  private final String sender;
+  private final String senderId;
+  private final String command;
+  private final String[] arguments;
+  private final String outcome;
+
+  public AuditRecord(long timestamp, String sender, String senderId, String command, String[] arguments, String outcome) {
+    this.timestamp = timestamp;
+    this.sender = sender;
+    this.senderId = senderId;
+    this.command = command;
+    this.arguments = arguments;
+    this.outcome = outcome;
+  }
+
+  /**
+   * Used to format this record as a single tab separated line. Tabs and line breaks in the
+   * arguments are escaped so every record stays on one line.
+   * @return The formatted record.
+   */
+  public String format() {
+    final StringBuilder builder = new StringBuilder();
+    builder.append(Instant.ofEpochMilli(timestamp)).append('\t')
+           .append(sender).append('\t')
+           .append(senderId).append('\t')
+           .append(command).append('\t')
+           .append(outcome).append('\t');
+
+    for(int i = 0; i < arguments.length; i++) {
+      if(i > 0) builder.append(' ');
+      builder.append(arguments[i].replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n"));
+    }
+    return builder.toString();
+  }
+
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public String getSender() {
+    return sender;
+  }
+
+  public String getSenderId() {
+    return senderId;
+  }
+
+  public String getCommand() {
+    return command;
+  }
+
+  public String[] getArguments() {
+    return arguments;
+  }
+
+  public String getOutcome() {
+    return outcome;
+  }
+}
@@ -0,0 +1,100 @@
+package net.tnemc.commands.core.batch;
+
+import net.tnemc.commands.core.BatchCommandExecution;
+import net.tnemc.commands.core.CommandInvocation;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Collects the invocations of every {@link BatchCommandExecution} during a tick, and hands them to
+ * their executor in one call at the end of the tick.
+ */
+public class BatchCollector {
+
+  private final ConcurrentHashMap<BatchCommandExecution, ConcurrentLinkedQueue<CommandInvocation>> pending = new ConcurrentHashMap<>();
+
+  private final CommandPlatform platform;
+
+  private Consumer<CommandInvocation> completion = invocation->{};
+  private PlatformTask task = null;
+
+  public BatchCollector(CommandPlatform platform) {
+    this.platform = platform;
+  }
+
+  /**
+   * Used to queue an invocation for the next batch of its executor.
+   * @param executor The executor of the command.
+   * @param invocation The validated invocation.
+   */
+  public void submit(final BatchCommandExecution executor, final CommandInvocation invocation) {
+    pending.computeIfAbsent(executor, k->new ConcurrentLinkedQueue<>()).add(invocation);
+    start();
+  }
+
+  /**
+   * Used to run every pending batch. This is called once per tick.
+   */
+  public void flush() {
+    for(Map.Entry<BatchCommandExecution, ConcurrentLinkedQueue<CommandInvocation>> entry : pending.entrySet()) {
+      if(entry.getValue().isEmpty()) continue;
+
+      final List<CommandInvocation> batch = new ArrayList<>();
+
+      CommandInvocation invocation;
+      while((invocation = entry.getValue().poll()) != null) {
+        batch.add(invocation);
+      }
+
+      try {
+        entry.getKey().executeBatch(batch);
+      } catch(Exception e) {
+        platform.getLogger().log(Level.SEVERE, "Error while executing a batch of " + batch.size() + " commands", e);
+      }
+
+      for(CommandInvocation executed : batch) {
+        executed.send();
+        completion.accept(executed);
+      }
+    }
+  }
+
+  /**
+   * Used to stop the flush task and run every batch that's still pending, so invocations that were
+   * already accepted still run and complete. This should be called when the plugin is disabled.
+   */
+  public void stop() {
+    synchronized(this) {
+      if(task != null) {
+        task.cancel();
+        task = null;
+      }
+    }
+    flush();
+  }
+
+  private synchronized void start() {
+    if(task == null) {
+      task = platform.runTimer(this::flush, 1, 1);
+    }
+  }
+
+  public Consumer<CommandInvocation> getCompletion() {
+    return completion;
+  }
+
+  /**
+   * @param completion Called with each invocation after its batch has run and its messages were sent.
+   */
+  public void setCompletion(Consumer<CommandInvocation> completion) {
+    this.completion = completion;
+  }
+}
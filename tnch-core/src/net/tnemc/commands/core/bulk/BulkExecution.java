@@ -0,0 +1,207 @@
+package net.tnemc.commands.core.bulk;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandRejection;
+import net.tnemc.commands.core.CommandSearchInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Represents a set of command lines being run in bulk. Every line is resolved and checked up front
+ * in a single pass, then the valid lines are run in chunks spread over ticks.
+ */
+public class BulkExecution implements Runnable {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  //The most failures kept in memory. Any past this are only counted.
+  private static final int MAX_FAILURES = 1000;
+
+  private final List<BulkLine> lines = new ArrayList<>();
+  private final List<BulkFailure> failures = new ArrayList<>();
+  private final CompletableFuture<BulkExecution> completion = new CompletableFuture<>();
+
+  private final CommandsHandler handler;
+  private final PlatformSender sender;
+  private final int chunk;
+
+  private Consumer<BulkExecution> progress = execution->{};
+  private PlatformTask task = null;
+
+  private int total = 0;
+  private int index = 0;
+  private int processed = 0;
+  private int failed = 0;
+  private int reported = 0;
+
+  private BulkExecution(CommandsHandler handler, PlatformSender sender, int chunk) {
+    this.handler = handler;
+    this.sender = sender;
+    this.chunk = Math.max(1, chunk);
+  }
+
+  /**
+   * Used to resolve and check every command line.
+   * @param handler The {@link CommandsHandler} to run the commands with.
+   * @param sender The {@link PlatformSender} to run the commands as.
+   * @param commands The command lines, with or without a leading slash. Blank lines and lines
+   * starting with # are skipped.
+   * @param chunk The maximum amount of commands to run per tick.
+   * @return The {@link BulkExecution}, ready to be started.
+   */
+  public static BulkExecution resolve(CommandsHandler handler, PlatformSender sender, Stream<String> commands, int chunk) {
+    final BulkExecution execution = new BulkExecution(handler, sender, chunk);
+    final Map<String, Optional<CommandInformation>> roots = new HashMap<>();
+
+    int number = 0;
+    final Iterator<String> it = commands.iterator();
+    while(it.hasNext()) {
+      number++;
+      String text = it.next().trim();
+
+      if(text.isEmpty() || text.startsWith("#")) continue;
+      if(text.startsWith("/")) text = text.substring(1);
+
+      execution.total++;
+
+      final String[] split = WHITESPACE.split(text);
+      final String label = split[0].toLowerCase();
+
+      final Optional<CommandInformation> root = roots.computeIfAbsent(label, handler.getManager()::find);
+      if(!root.isPresent()) {
+        execution.fail(number, text, CommandRejection.NOT_FOUND.name());
+        continue;
+      }
+
+      final CommandSearchInformation search = root.get().findSubInformation(Arrays.copyOfRange(split, 1, split.length));
+      final CommandInformation information = search.getInformation().get();
+
+      if(!handler.getManager().getExecutors().containsKey(information.getExecutor())) {
+        execution.fail(number, text, CommandRejection.NOT_FOUND.name());
+        continue;
+      }
+
+      final Optional<CommandRejection> rejection = handler.check(sender, information, search.getArguments());
+      if(rejection.isPresent()) {
+        execution.fail(number, text, rejection.get().name());
+        continue;
+      }
+
+      execution.lines.add(new BulkLine(number, text, label, search.getArguments(), information));
+    }
+    return execution;
+  }
+
+  /**
+   * Used to start running the resolved lines.
+   * @return This {@link BulkExecution}.
+   */
+  public BulkExecution start() {
+    task = handler.getManager().getPlatform().runTimer(this, 1, 1);
+    return this;
+  }
+
+  @Override
+  public void run() {
+    final int end = Math.min(lines.size(), index + chunk);
+
+    for(; index < end; index++) {
+      final BulkLine line = lines.get(index);
+
+      try {
+        if(!handler.execute(sender, line.label, line.arguments, line.information)) {
+          fail(line.number, line.text, "FAILED");
+        }
+      } catch(Exception e) {
+        fail(line.number, line.text, "ERROR");
+      }
+    }
+    processed = total - lines.size() + index;
+    progress.accept(this);
+
+    if(index >= lines.size()) {
+      task.cancel();
+      handler.getManager().getPlatform().getLogger().info("Bulk execution finished: " + total + " lines, " + failed + " failed.");
+      completion.complete(this);
+      return;
+    }
+
+    final int percent = (processed * 10) / Math.max(1, total);
+    if(percent > reported) {
+      reported = percent;
+      handler.getManager().getPlatform().getLogger().info("Bulk execution: " + processed + "/" + total + " lines, " + failed + " failed.");
+    }
+  }
+
+  private void fail(int line, String text, String reason) {
+    failed++;
+    if(failures.size() < MAX_FAILURES) {
+      failures.add(new BulkFailure(line, text, reason));
+    }
+  }
+
+  /**
+   * @param progress Called on the main thread after every chunk.
+   * @return This {@link BulkExecution}.
+   */
+  public BulkExecution onProgress(Consumer<BulkExecution> progress) {
+    this.progress = progress;
+    return this;
+  }
+
+  /**
+   * @return A future completed once every line has been run.
+   */
+  public CompletableFuture<BulkExecution> getCompletion() {
+    return completion;
+  }
+
+  /**
+   * @return The failures, up to the first 1000.
+   */
+  public List<BulkFailure> getFailures() {
+    return failures;
+  }
+
+  public int getTotal() {
+    return total;
+  }
+
+  public int getProcessed() {
+    return processed;
+  }
+
+  public int getFailed() {
+    return failed;
+  }
+
+  private static class BulkLine {
+
+    private final int number;
+    private final String text;
+    private final String label;
+    private final String[] arguments;
+    private final CommandInformation information;
+
+    BulkLine(int number, String text, String label, String[] arguments, CommandInformation information) {
+      this.number = number;
+      this.text = text;
+      this.label = label;
+      this.arguments = arguments;
+      this.information = information;
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package net.tnemc.commands.core.bulk;
+
+/**
+ * Represents a line of a {@link BulkExecution} that couldn't be run.
+ */
+public class BulkFailure {
+
+  private final int line;
+  private final String text;
+  private final String reason;
+
+  public BulkFailure(int line, String text, String reason) {
+    this.line = line;
+    this.text = text;
+    this.reason = reason;
+  }
+
+  public int getLine() {
+    return line;
+  }
+
+  public String getText() {
+    return text;
+  }
+
+  /**
+   * @return The name of the {@link net.tnemc.commands.core.CommandRejection} for lines that failed
+   * their checks, FAILED for lines whose executor returned false, or ERROR for lines whose executor
+   * threw an exception.
+   */
+  public String getReason() {
+    return reason;
+  }
+
+  @Override
+  public String toString() {
+    return "Line " + line + " (" + reason + "): " + text;
+  }
+}
@@ -0,0 +1,35 @@
+package net.tnemc.commands.core.cache;
+
+import java.util.List;
+
+/**
+ * Represents the output of a command call stored in the {@link CommandResultCache}.
+ */
+public class CachedResult {
+
+  private final List<String> messages;
+  private final boolean completed;
+  private final long expiration;
+
+  public CachedResult(List<String> messages, boolean completed, long expiration) {
+    this.messages = messages;
+    this.completed = completed;
+    this.expiration = expiration;
+  }
+
+  public boolean isExpired(long now) {
+    return expiration <= now;
+  }
+
+  public List<String> getMessages() {
+    return messages;
+  }
+
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  public long getExpiration() {
+    return expiration;
+  }
+}
@@ -0,0 +1,45 @@
+package net.tnemc.commands.core.cache;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The output of a single call of a {@link net.tnemc.commands.core.CacheableCommandExecution}.
+ * Messages sent through this are delivered to the sender straight away, and recorded so that they
+ * can be replayed from the {@link CommandResultCache}.
+ */
+public class CommandOutput {
+
+  private final List<String> messages = new ArrayList<>();
+
+  private final PlatformSender sender;
+
+  public CommandOutput(PlatformSender sender) {
+    this.sender = sender;
+  }
+
+  /**
+   * Used to send messages to the sender, and record them for the cache.
+   * @param messages The messages to send.
+   */
+  public void send(String... messages) {
+    for(String message : messages) {
+      sender.sendMessage(message);
+    }
+    Collections.addAll(this.messages, messages);
+  }
+
+  public PlatformSender getSender() {
+    return sender;
+  }
+
+  /**
+   * @return Every message sent through this output, in order.
+   */
+  public List<String> getMessages() {
+    return messages;
+  }
+}
@@ -0,0 +1,136 @@
+package net.tnemc.commands.core.cache;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the output of read-only commands that have a Cache TTL set, so repeated calls can be
+ * answered without running the executor again.
+ */
+public class CommandResultCache {
+
+  private final ConcurrentHashMap<CommandInformation, ConcurrentHashMap<String, CachedResult>> cache = new ConcurrentHashMap<>();
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  //The most results kept per command before expired results are purged.
+  private int limit = 1000;
+
+  /**
+   * Used to build the cache key of a command call.
+   * @param information The {@link CommandInformation} of the command.
+   * @param sender The {@link PlatformSender} running the command.
+   * @param arguments The arguments left after the sub command search.
+   * @return The key, made of the normalized arguments and, if the command caches per sender, the
+   * sender's identity.
+   */
+  public String key(CommandInformation information, PlatformSender sender, String[] arguments) {
+    final StringBuilder builder = new StringBuilder();
+
+    if(information.isCacheSender()) {
+      builder.append((sender.isPlayer())? sender.getUniqueId().toString() : sender.getName());
+    }
+
+    for(String argument : arguments) {
+      builder.append(' ').append(argument.toLowerCase());
+    }
+    return builder.toString();
+  }
+
+  /**
+   * @param information The {@link CommandInformation} of the command.
+   * @param key The key built by {@link #key(CommandInformation, PlatformSender, String[])}.
+   * @return The cached result, or null if there isn't one or it has expired.
+   */
+  public CachedResult get(CommandInformation information, String key) {
+    final ConcurrentHashMap<String, CachedResult> results = cache.get(information);
+
+    if(results != null) {
+      final CachedResult result = results.get(key);
+
+      if(result != null) {
+        if(!result.isExpired(System.currentTimeMillis())) {
+          hits.increment();
+          return result;
+        }
+        results.remove(key, result);
+      }
+    }
+    misses.increment();
+    return null;
+  }
+
+  public void put(CommandInformation information, String key, CachedResult result) {
+    final ConcurrentHashMap<String, CachedResult> results = cache.computeIfAbsent(information, k->new ConcurrentHashMap<>());
+
+    if(results.size() >= limit) {
+      final long now = System.currentTimeMillis();
+      results.values().removeIf(cached->cached.isExpired(now));
+
+      if(results.size() >= limit) results.clear();
+    }
+    results.put(key, result);
+  }
+
+  /**
+   * Used to remove every cached result of a command.
+   * @param information The {@link CommandInformation} of the command.
+   */
+  public void invalidate(CommandInformation information) {
+    cache.remove(information);
+  }
+
+  /**
+   * Used to remove every cached result of the commands run by an executor. This is the easiest way
+   * for an executor that changes data to invalidate the commands that read it.
+   * @param executor The name of the executor.
+   */
+  public void invalidate(String executor) {
+    cache.keySet().removeIf(information->information.getExecutor().equalsIgnoreCase(executor));
+  }
+
+  public void invalidateAll() {
+    cache.clear();
+  }
+
+  /**
+   * @return The amount of results currently cached.
+   */
+  public long size() {
+    long size = 0;
+    for(Map<String, CachedResult> results : cache.values()) {
+      size += results.size();
+    }
+    return size;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return The ratio of hits to lookups, between 0 and 1.
+   */
+  public double getHitRate() {
+    final long hits = getHits();
+    final long total = hits + getMisses();
+    return (total == 0)? 0.0 : (double)hits / total;
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  public void setLimit(int limit) {
+    this.limit = limit;
+  }
+}
@@ -0,0 +1,102 @@
+package net.tnemc.commands.core.capture;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Used to read the records of a capture file written by {@link CommandCapture}, in order.
+ */
+public class CaptureReader implements Closeable {
+
+  private final List<UUID> senders = new ArrayList<>();
+  private final List<String> strings = new ArrayList<>();
+
+  private final DataInputStream in;
+  private final long started;
+
+  private long time = 0;
+
+  public CaptureReader(Path path) throws IOException {
+    in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 65536));
+
+    if(in.readInt() != CaptureRecord.MAGIC) {
+      in.close();
+      throw new IOException(path.getFileName() + " isn't a command capture");
+    }
+
+    final byte version = in.readByte();
+    if(version != CaptureRecord.VERSION) {
+      in.close();
+      throw new IOException("Unsupported capture version " + version);
+    }
+    started = in.readLong();
+  }
+
+  /**
+   * @return The next {@link CaptureRecord}, or null if the end of the capture was reached.
+   */
+  public CaptureRecord next() throws IOException {
+    final int type;
+    try {
+      type = in.readByte();
+    } catch(EOFException ignore) {
+      return null;
+    }
+
+    try {
+      time += Varints.read(in);
+      final UUID sender = sender();
+      final String label = string();
+
+      final String[] arguments = new String[(int)Varints.read(in)];
+      for(int i = 0; i < arguments.length; i++) {
+        arguments[i] = string();
+      }
+      return new CaptureRecord((byte)type, time, sender, label, arguments);
+    } catch(EOFException ignore) {
+      //The capture was cut off in the middle of a record, for example by a crash.
+      return null;
+    }
+  }
+
+  private UUID sender() throws IOException {
+    final int reference = (int)Varints.read(in);
+    if(reference == 0) return null;
+
+    if(reference == 1) {
+      final UUID sender = new UUID(in.readLong(), in.readLong());
+      senders.add(sender);
+      return sender;
+    }
+    return senders.get(reference - 2);
+  }
+
+  private String string() throws IOException {
+    final int reference = (int)Varints.read(in);
+    if(reference > 0) return strings.get(reference - 1);
+
+    final String value = in.readUTF();
+    if(strings.size() < CaptureRecord.DICTIONARY_SIZE) strings.add(value);
+    return value;
+  }
+
+  /**
+   * @return The time the capture started, in epoch milliseconds.
+   */
+  public long getStarted() {
+    return started;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+}
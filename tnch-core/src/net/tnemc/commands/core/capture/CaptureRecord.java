@@ -0,0 +1,71 @@
+package net.tnemc.commands.core.capture;
+
+import java.util.UUID;
+
+/**
+ * A single captured call to {@code handle} or {@code tab}.
+ * <p>
+ * A capture file starts with a header: the {@link #MAGIC} int, the {@link #VERSION} byte and the
+ * time the capture started in epoch milliseconds as a long. Each record follows as its type byte,
+ * the microseconds since the previous record as a varint, the sender, the label, the argument
+ * count as a varint and the arguments.
+ * <p>
+ * Senders are written as a varint: 0 for a non-player, 1 for a new player followed by their
+ * {@link UUID} as two longs, or 2 + the index of a player seen before. Strings are written as a
+ * varint: 0 for a new string followed by it in modified UTF-8, or 1 + the index of a string seen
+ * before. New strings are only indexed while the dictionary has room.
+ */
+public class CaptureRecord {
+
+  public static final int MAGIC = 0x544E4343;
+  public static final byte VERSION = 1;
+
+  public static final byte EXECUTE = 0;
+  public static final byte TAB = 1;
+
+  //The most strings indexed per capture, after which new strings are always written in full.
+  public static final int DICTIONARY_SIZE = 65536;
+
+  private final byte type;
+  private final long time;
+  private final UUID sender;
+  private final String label;
+  private final String[] arguments;
+
+  public CaptureRecord(byte type, long time, UUID sender, String label, String[] arguments) {
+    this.type = type;
+    this.time = time;
+    this.sender = sender;
+    this.label = label;
+    this.arguments = arguments;
+  }
+
+  /**
+   * @return {@link #EXECUTE} or {@link #TAB}.
+   */
+  public byte getType() {
+    return type;
+  }
+
+  /**
+   * @return The time of this record, in microseconds since the capture started.
+   */
+  public long getTime() {
+    return time;
+  }
+
+  /**
+   * @return The {@link UUID} of the player that sent this, or null if it wasn't a player.
+   */
+  public UUID getSender() {
+    return sender;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public String[] getArguments() {
+    return arguments;
+  }
+}
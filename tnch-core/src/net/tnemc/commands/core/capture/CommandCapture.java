@@ -0,0 +1,326 @@
+package net.tnemc.commands.core.capture;
+
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Used to capture every call to {@code handle} and {@code tab} to a compact binary file, so the
+ * same traffic can be replayed later against another version or configuration. See
+ * {@link CaptureRecord} for the format.
+ * <p>
+ * Records are handed to a background writer through a bounded queue, and dropped while it's full.
+ * Capturing stops once the file reaches the maximum size.
+ * <p>
+ * Each start writes a new file, named after the configured file with the start time added, for
+ * example capture-20240103-101500.tncc, so an earlier capture is never overwritten.
+ */
+public class CommandCapture {
+
+  //The longest argument kept, as longer strings can't be written in modified UTF-8.
+  private static final int MAX_LENGTH = 16384;
+
+  private static final DateTimeFormatter STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private final ConcurrentLinkedQueue<CaptureRecord> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queued = new AtomicInteger(0);
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder written = new LongAdder();
+
+  private final Map<UUID, Integer> senders = new HashMap<>();
+  private final Map<String, Integer> strings = new HashMap<>();
+
+  private boolean enabled = false;
+  private String file = "capture.tncc";
+  private int queueLimit = 100000;
+
+  //The size, in megabytes, at which capturing stops.
+  private long maxSize = 256;
+
+  private volatile boolean running = false;
+  private volatile Thread writer = null;
+  private Logger logger = null;
+  private CaptureOutput out = null;
+  private File current = null;
+
+  private long started = 0;
+  private long last = 0;
+
+  /**
+   * Used to capture a call, if capturing is enabled.
+   * @param type {@link CaptureRecord#EXECUTE} or {@link CaptureRecord#TAB}.
+   * @param sender The {@link PlatformSender} of the call.
+   * @param label The label of the call.
+   * @param arguments The arguments of the call.
+   */
+  public void record(byte type, PlatformSender sender, String label, String[] arguments) {
+    if(!running) return;
+
+    if(queued.incrementAndGet() > queueLimit) {
+      queued.decrementAndGet();
+      dropped.increment();
+      return;
+    }
+
+    final String[] copy = new String[arguments.length];
+    for(int i = 0; i < arguments.length; i++) {
+      copy[i] = truncate(arguments[i]);
+    }
+
+    final UUID id = (sender != null && sender.isPlayer())? sender.getUniqueId() : null;
+    queue.add(new CaptureRecord(type, (System.nanoTime() - started) / 1000, id, truncate(label), copy));
+  }
+
+  /**
+   * Used to open the capture file and start the writer thread, if capturing is enabled.
+   * @param platform The {@link CommandPlatform} whose data folder contains the capture file.
+   */
+  public synchronized void start(CommandPlatform platform) {
+    if(!enabled || running) return;
+
+    logger = platform.getLogger();
+    final File target = stamped(new File(platform.getDataFolder(), file));
+
+    try {
+      if(target.getParentFile() != null) Files.createDirectories(target.getParentFile().toPath());
+
+      //CREATE_NEW refuses to replace an existing capture, for example after two starts in one second.
+      out = new CaptureOutput(new BufferedOutputStream(Files.newOutputStream(target.toPath(), StandardOpenOption.CREATE_NEW,
+                                                                             StandardOpenOption.WRITE), 65536));
+      out.writeInt(CaptureRecord.MAGIC);
+      out.writeByte(CaptureRecord.VERSION);
+      out.writeLong(System.currentTimeMillis());
+    } catch(FileAlreadyExistsException e) {
+      logger.warning("The capture file " + target.getName() + " already exists, capturing wasn't started.");
+      return;
+    } catch(IOException e) {
+      logger.warning("Unable to open the capture file " + target.getName() + ": " + e.getMessage());
+      return;
+    }
+
+    current = target;
+
+    //Every file has its own sender and string dictionaries.
+    senders.clear();
+    strings.clear();
+    started = System.nanoTime();
+    last = 0;
+    running = true;
+
+    writer = new Thread(this::write, "TNCH Capture");
+    writer.setDaemon(true);
+    writer.start();
+  }
+
+  /**
+   * Used to stop capturing, and wait for the writer to write everything that's queued.
+   */
+  public synchronized void stop() {
+    if(writer == null) return;
+
+    running = false;
+
+    final Thread current = writer;
+    LockSupport.unpark(current);
+    try {
+      current.join(10000);
+    } catch(InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    writer = null;
+
+    try {
+      out.close();
+    } catch(IOException e) {
+      logger.log(Level.WARNING, "Unable to close the capture file", e);
+    }
+  }
+
+  private void write() {
+    final long limit = maxSize * 1048576L;
+
+    while(true) {
+      final boolean stopping = !running;
+
+      CaptureRecord record;
+      try {
+        while((record = queue.poll()) != null) {
+          queued.decrementAndGet();
+
+          if(out.bytes() >= limit) {
+            dropped.increment();
+            continue;
+          }
+          encode(record);
+          written.increment();
+        }
+        out.flush();
+      } catch(IOException e) {
+        logger.log(Level.WARNING, "Unable to write to the capture file, capturing stopped", e);
+        running = false;
+        return;
+      }
+
+      if(stopping) return;
+
+      if(out.bytes() >= limit && running) {
+        logger.info("The capture file reached " + maxSize + "MB, capturing stopped.");
+        running = false;
+      }
+      LockSupport.parkNanos(100000000L);
+    }
+  }
+
+  private void encode(CaptureRecord record) throws IOException {
+    out.writeByte(record.getType());
+
+    //Records from different threads may be queued slightly out of order.
+    Varints.write(out, Math.max(0, record.getTime() - last));
+    last = Math.max(last, record.getTime());
+
+    final UUID sender = record.getSender();
+    if(sender == null) {
+      Varints.write(out, 0);
+    } else {
+      final Integer index = senders.get(sender);
+      if(index == null) {
+        senders.put(sender, senders.size());
+        Varints.write(out, 1);
+        out.writeLong(sender.getMostSignificantBits());
+        out.writeLong(sender.getLeastSignificantBits());
+      } else {
+        Varints.write(out, index + 2);
+      }
+    }
+
+    string(record.getLabel());
+    Varints.write(out, record.getArguments().length);
+    for(String argument : record.getArguments()) {
+      string(argument);
+    }
+  }
+
+  private void string(String value) throws IOException {
+    final Integer index = strings.get(value);
+    if(index != null) {
+      Varints.write(out, index + 1);
+      return;
+    }
+
+    if(strings.size() < CaptureRecord.DICTIONARY_SIZE) strings.put(value, strings.size());
+    Varints.write(out, 0);
+    out.writeUTF(value);
+  }
+
+  /**
+   * @param target The configured capture file.
+   * @return The file with the current time added before its extension.
+   */
+  private static File stamped(File target) {
+    final String name = target.getName();
+    final String stamp = LocalDateTime.now().format(STAMP);
+    final int dot = name.lastIndexOf('.');
+
+    final String stamped = (dot > 0)? name.substring(0, dot) + "-" + stamp + name.substring(dot) : name + "-" + stamp;
+    return new File(target.getParentFile(), stamped);
+  }
+
+  private static String truncate(String value) {
+    return (value.length() > MAX_LENGTH)? value.substring(0, MAX_LENGTH) : value;
+  }
+
+  /**
+   * @return The amount of records dropped because the queue was full or the file was too large.
+   */
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  public long getWritten() {
+    return written.sum();
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getFile() {
+    return file;
+  }
+
+  /**
+   * @return The file of the current or last capture, or null if capturing was never started.
+   */
+  public File getCurrent() {
+    return current;
+  }
+
+  public void setFile(String file) {
+    this.file = file;
+  }
+
+  public int getQueueLimit() {
+    return queueLimit;
+  }
+
+  public void setQueueLimit(int queueLimit) {
+    this.queueLimit = Math.max(1, queueLimit);
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(long maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * A {@link DataOutputStream} that counts its bytes in a long, as {@link DataOutputStream#size()}
+   * stops counting at 2GB.
+   */
+  private static final class CaptureOutput extends DataOutputStream {
+
+    private long total = 0;
+
+    CaptureOutput(OutputStream out) {
+      super(out);
+    }
+
+    /**
+     * @return The amount of bytes written so far.
+     */
+    long bytes() {
+      total += written;
+      written = 0;
+      return total;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package net.tnemc.commands.core.capture;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Unsigned LEB128 variable length longs, as used by the capture format.
+ */
+final class Varints {
+
+  private Varints() {
+  }
+
+  static void write(DataOutput out, long value) throws IOException {
+    while((value & ~0x7FL) != 0) {
+      out.writeByte((int)((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int)value);
+  }
+
+  static long read(DataInput in) throws IOException {
+    long value = 0;
+    for(int shift = 0; shift < 64; shift += 7) {
+      final byte b = in.readByte();
+      value |= (long)(b & 0x7F) << shift;
+      if((b & 0x80) == 0) return value;
+    }
+    throw new IOException("Malformed varint");
+  }
+}
@@ -2,7 +2,7 @@ package net.tnemc.commands.core.completer;
 
 import net.tnemc.commands.core.CommandSearchInformation;
 import net.tnemc.commands.core.TabCompleter;
-import org.bukkit.command.CommandSender;
+import net.tnemc.commands.core.platform.PlatformSender;
 
 import java.util.LinkedList;
 import java.util.Optional;
@@ -22,7 +22,7 @@ public class ConfigCompleter implements TabCompleter {
   }
 
   @Override
-  public LinkedList<String> complete(CommandSender sender, Optional<CommandSearchInformation> search, String argument) {
+  public LinkedList<String> complete(PlatformSender sender, Optional<CommandSearchInformation> search, String argument) {
     return completer.complete(sender, search, argument);
   }
 
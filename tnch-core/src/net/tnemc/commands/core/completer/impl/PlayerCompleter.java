@@ -1,10 +1,8 @@
 package net.tnemc.commands.core.completer.impl;
 
 import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
 import net.tnemc.commands.core.completer.ConfigCompleter;
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.entity.Player;
 
 import java.util.LinkedList;
 
@@ -17,10 +15,7 @@ public class PlayerCompleter extends ConfigCompleter {
 
       LinkedList<String> players = new LinkedList<>();
 
-      for(Player player : Bukkit.getOnlinePlayers()) {
-
-        final String name = ChatColor.stripColor(player.getDisplayName());
-
+      for(String name : CommandsHandler.instance().getManager().getPlatform().getOnlinePlayers()) {
         if(!argument.equalsIgnoreCase("")) {
           if(name.startsWith(argument)) {
             players.add(name);
@@ -0,0 +1,59 @@
+package net.tnemc.commands.core.cooldown;
+
+import net.tnemc.commands.core.platform.CommandPlatform;
+
+import java.util.UUID;
+
+/**
+ * The New Commands Handler Library
+ * <p>
+ * Created by creatorfromhell on 10/9/2019.
+ * <p>
+ * This work is licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License.
+ * To view a copy of this license, visit http://creativecommons.org/licenses/by-nc-nd/4.0/ or send a letter to
+ * Creative Commons, PO Box 1866, Mountain View, CA 94042, USA.
+ * Created by creatorfromhell on 06/30/2017.
+ */
+public interface CooldownHandler {
+
+  boolean addCooldown(UUID player, String command, long cooldown);
+
+  boolean hasCooldown(UUID player, String command);
+
+  void removeCooldown(UUID player, String command);
+
+  /**
+   * Used to start any background work this handler needs. This is called once, on the main thread,
+   * when the handler is set up.
+   * @param platform The {@link CommandPlatform} used to schedule tasks and listen for players.
+   */
+  default void start(CommandPlatform platform) {
+  }
+
+  /**
+   * Used to stop any background work started by {@link #start(CommandPlatform)}.
+   */
+  default void stop() {
+  }
+
+  /**
+   * @return The amount of players this handler is currently holding cooldown data for.
+   */
+  default int size() {
+    return 0;
+  }
+
+  /**
+   * @return The amount of individual cooldowns this handler is currently holding in memory.
+   */
+  default long entries() {
+    return 0;
+  }
+
+  /**
+   * @return A rough estimate, in bytes, of the memory used by this handler's cooldown data.
+   */
+  default long memory() {
+    return 0;
+  }
+}
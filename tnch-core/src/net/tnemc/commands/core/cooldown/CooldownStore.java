@@ -0,0 +1,46 @@
+package net.tnemc.commands.core.cooldown;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * The New Commands Handler Library
+ * <p>
+ * This work is licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License.
+ * To view a copy of this license, visit http://creativecommons.org/licenses/by-nc-nd/4.0/ or send a letter to
+ * Creative Commons, PO Box 1866, Mountain View, CA 94042, USA.
+ * <p>
+ * Represents a backend that cooldowns may be shared through when multiple servers need to see
+ * the same cooldowns. All values are expiration timestamps in epoch milliseconds.
+ */
+public interface CooldownStore {
+
+  /**
+   * Used to fetch every cooldown stored for a player. This must not block the calling thread.
+   * @param player The {@link UUID} of the player.
+   * @return A future that completes with a map of command name to expiration time.
+   */
+  CompletableFuture<Map<String, Long>> fetch(UUID player);
+
+  /**
+   * Used to write a batch of cooldowns to the backend. This is only called off of the main thread.
+   * @param batch The batch to write, keyed by player then command name. An expiration time of zero
+   * or less means that cooldown should be removed.
+   */
+  void write(Map<UUID, Map<String, Long>> batch);
+
+  /**
+   * Used to tell every other node that a player's cooldowns have changed.
+   * @param node The identifier of the node that made the change.
+   * @param player The {@link UUID} of the player whose cooldowns changed.
+   */
+  void publish(String node, UUID player);
+
+  /**
+   * Used to listen for invalidation messages sent with {@link #publish(String, UUID)}.
+   * @param listener The listener, which is passed the origin node and player.
+   */
+  void subscribe(BiConsumer<String, UUID> listener);
+}
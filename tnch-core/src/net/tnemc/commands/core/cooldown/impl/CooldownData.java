@@ -0,0 +1,79 @@
+package net.tnemc.commands.core.cooldown.impl;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CooldownData {
+
+  //Rough per-object sizes used for memory estimates, based on a 64-bit JVM with compressed oops.
+  public static final long RECORD_SIZE = 160;
+  public static final long ENTRY_SIZE = 96;
+
+  //Command name to expiration time in epoch milliseconds.
+  private ConcurrentHashMap<String, Long> cooldowns = new ConcurrentHashMap<>();
+
+  private UUID player;
+
+  public CooldownData(UUID player) {
+    this.player = player;
+  }
+
+  public void addCooldown(String command, long cooldown) {
+    addExpiration(command, System.currentTimeMillis() + (cooldown * 1000));
+  }
+
+  public void addExpiration(String command, long expiration) {
+    cooldowns.merge(command, expiration, Math::max);
+  }
+
+  public boolean hasCooldown(String command) {
+    final Long expiration = cooldowns.get(command);
+    if(expiration == null) return false;
+
+    if(expiration <= System.currentTimeMillis()) {
+      cooldowns.remove(command, expiration);
+      return false;
+    }
+    return true;
+  }
+
+  public void removeCooldown(String command) {
+    cooldowns.remove(command);
+  }
+
+  /**
+   * Used to remove every cooldown that has already expired.
+   */
+  public void purge() {
+    final long now = System.currentTimeMillis();
+    cooldowns.values().removeIf(expiration->expiration <= now);
+  }
+
+  /**
+   * @return The time in milliseconds until the longest cooldown expires.
+   */
+  public long longest() {
+    long longest = 0;
+    for(Long expiration : cooldowns.values()) {
+      longest = Math.max(longest, expiration);
+    }
+    return Math.max(0, longest - System.currentTimeMillis());
+  }
+
+  public boolean isEmpty() {
+    return cooldowns.isEmpty();
+  }
+
+  public int size() {
+    return cooldowns.size();
+  }
+
+  public Map<String, Long> getCooldowns() {
+    return cooldowns;
+  }
+
+  public UUID getPlayer() {
+    return player;
+  }
+}
@@ -0,0 +1,278 @@
+package net.tnemc.commands.core.cooldown.impl;
+
+import net.tnemc.commands.core.cooldown.CooldownHandler;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.ConnectionListener;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DefaultCooldownHandler implements CooldownHandler {
+
+  ConcurrentHashMap<UUID, CooldownData> cooldowns = new ConcurrentHashMap<>();
+
+  //Records of players that have left, which are still being written to disk.
+  private final ConcurrentHashMap<UUID, CooldownData> spilling = new ConcurrentHashMap<>();
+
+  //The directory used to spill cooldowns of offline players to, or null to keep them in memory.
+  private File spillDirectory = null;
+
+  //The minimum remaining time, in seconds, a cooldown must have for it to be spilled to disk.
+  private long spillThreshold = 300;
+
+  //How often, in ticks, expired cooldowns and empty player records are evicted.
+  private long sweepInterval = 1200;
+
+  private PlatformTask sweepTask = null;
+  private PlatformTask listener = null;
+  private CommandPlatform platform = null;
+
+  @Override
+  public boolean addCooldown(UUID player, String command, long cooldown) {
+    cooldowns.compute(player, (id, data)->{
+      if(data == null) data = new CooldownData(id);
+
+      data.addCooldown(command, cooldown);
+      return data;
+    });
+    return true;
+  }
+
+  @Override
+  public boolean hasCooldown(UUID player, String command) {
+    final CooldownData data = cooldowns.get(player);
+
+    if(data != null) {
+      if(data.hasCooldown(command)) return true;
+
+      cooldowns.computeIfPresent(player, (id, existing)->(existing.isEmpty())? null : existing);
+    }
+    return false;
+  }
+
+  @Override
+  public void removeCooldown(UUID player, String command) {
+    cooldowns.computeIfPresent(player, (id, data)->{
+      data.removeCooldown(command);
+      return (data.isEmpty())? null : data;
+    });
+  }
+
+  @Override
+  public int size() {
+    return cooldowns.size();
+  }
+
+  @Override
+  public long entries() {
+    long entries = 0;
+    for(CooldownData data : cooldowns.values()) {
+      entries += data.size();
+    }
+    return entries;
+  }
+
+  @Override
+  public long memory() {
+    return (cooldowns.size() * CooldownData.RECORD_SIZE) + (entries() * CooldownData.ENTRY_SIZE);
+  }
+
+  /**
+   * Used to evict every expired cooldown, and every player record left without cooldowns.
+   */
+  public void sweep() {
+    for(UUID player : cooldowns.keySet()) {
+      cooldowns.computeIfPresent(player, (id, data)->{
+        data.purge();
+        return (data.isEmpty())? null : data;
+      });
+    }
+  }
+
+  /**
+   * Used when a player leaves the server. Their record is dropped if it's empty, spilled to disk if
+   * spilling is enabled and it holds a cooldown longer than the spill threshold, or otherwise kept
+   * in memory until its cooldowns expire. A spilled record is kept until the write completes, so
+   * that a player rejoining before then keeps their cooldowns, and is put back in memory if the
+   * write fails.
+   * @param player The {@link UUID} of the player.
+   */
+  public void offline(UUID player) {
+    final CooldownData data = cooldowns.get(player);
+    if(data == null) return;
+
+    data.purge();
+    if(data.isEmpty()) {
+      cooldowns.remove(player, data);
+      return;
+    }
+
+    if(spillDirectory == null || data.longest() < spillThreshold * 1000) return;
+
+    if(cooldowns.remove(player, data)) {
+      spilling.put(player, data);
+      if(platform != null) {
+        platform.runAsync(()->spill(data));
+      } else {
+        spill(data);
+      }
+    }
+  }
+
+  /**
+   * Used when a player joins the server to restore their cooldowns. A record that's still being
+   * spilled is taken back from memory, otherwise any spilled file is read before this returns so
+   * that the player can't run a command before their cooldowns are back.
+   * @param player The {@link UUID} of the player.
+   */
+  public void online(UUID player) {
+    final CooldownData pending = spilling.remove(player);
+    if(pending != null) {
+      for(Map.Entry<String, Long> entry : pending.getCooldowns().entrySet()) {
+        restore(player, entry.getKey(), entry.getValue());
+      }
+    }
+
+    if(spillDirectory == null) return;
+
+    final File file = spillFile(player);
+    if(file.exists()) restore(player, file);
+  }
+
+  private void spill(CooldownData data) {
+    final File file = spillFile(data.getPlayer());
+    spillDirectory.mkdirs();
+
+    try(DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      out.writeInt(data.size());
+      for(Map.Entry<String, Long> entry : data.getCooldowns().entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue());
+      }
+    } catch(IOException e) {
+      warn("Unable to spill cooldowns for " + data.getPlayer() + ": " + e.getMessage());
+      file.delete();
+
+      //Keep the record in memory instead, unless the player has already taken it back.
+      if(spilling.remove(data.getPlayer(), data)) {
+        for(Map.Entry<String, Long> entry : data.getCooldowns().entrySet()) {
+          restore(data.getPlayer(), entry.getKey(), entry.getValue());
+        }
+      }
+      return;
+    }
+
+    //The player rejoined while this was being written, and has already taken the record back.
+    if(!spilling.remove(data.getPlayer(), data)) {
+      file.delete();
+    }
+  }
+
+  private void restore(UUID player, File file) {
+    final long now = System.currentTimeMillis();
+
+    try(DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      final int count = in.readInt();
+
+      for(int i = 0; i < count; i++) {
+        final String command = in.readUTF();
+        final long expiration = in.readLong();
+
+        if(expiration > now) restore(player, command, expiration);
+      }
+    } catch(IOException e) {
+      warn("Unable to restore cooldowns for " + player + ": " + e.getMessage());
+    }
+    file.delete();
+  }
+
+  private void restore(UUID player, String command, long expiration) {
+    cooldowns.compute(player, (id, data)->{
+      if(data == null) data = new CooldownData(id);
+
+      data.addExpiration(command, expiration);
+      return data;
+    });
+  }
+
+  private File spillFile(UUID player) {
+    return new File(spillDirectory, player.toString() + ".cooldown");
+  }
+
+  private void warn(String message) {
+    if(platform != null) platform.getLogger().warning(message);
+  }
+
+  /**
+   * Used to start the sweep task, listen for players joining and leaving, and restore the cooldowns
+   * of players that are already online.
+   * @param platform The {@link CommandPlatform} used to schedule tasks and listen for players.
+   */
+  @Override
+  public synchronized void start(CommandPlatform platform) {
+    if(sweepTask != null) return;
+
+    this.platform = platform;
+    sweepTask = platform.runTimerAsync(this::sweep, sweepInterval, sweepInterval);
+    listener = platform.listen(new ConnectionListener() {
+      @Override
+      public void join(UUID player) {
+        online(player);
+      }
+
+      @Override
+      public void quit(UUID player) {
+        offline(player);
+      }
+    });
+
+    for(UUID player : platform.getOnlinePlayerIds()) {
+      online(player);
+    }
+  }
+
+  @Override
+  public synchronized void stop() {
+    if(sweepTask != null) {
+      sweepTask.cancel();
+      sweepTask = null;
+    }
+
+    if(listener != null) {
+      listener.cancel();
+      listener = null;
+    }
+  }
+
+  public File getSpillDirectory() {
+    return spillDirectory;
+  }
+
+  public void setSpillDirectory(File spillDirectory) {
+    this.spillDirectory = spillDirectory;
+  }
+
+  public long getSpillThreshold() {
+    return spillThreshold;
+  }
+
+  public void setSpillThreshold(long spillThreshold) {
+    this.spillThreshold = spillThreshold;
+  }
+
+  public long getSweepInterval() {
+    return sweepInterval;
+  }
+
+  public void setSweepInterval(long sweepInterval) {
+    this.sweepInterval = sweepInterval;
+  }
+}
@@ -0,0 +1,292 @@
+package net.tnemc.commands.core.cooldown.impl;
+
+import net.tnemc.commands.core.cooldown.CooldownHandler;
+import net.tnemc.commands.core.cooldown.CooldownStore;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.ConnectionListener;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The New Commands Handler Library
+ * <p>
+ * This work is licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License.
+ * To view a copy of this license, visit http://creativecommons.org/licenses/by-nc-nd/4.0/ or send a letter to
+ * Creative Commons, PO Box 1866, Mountain View, CA 94042, USA.
+ * <p>
+ * A {@link CooldownHandler} that shares cooldowns between servers through a {@link CooldownStore}.
+ * <p>
+ * Every check is answered from a local near-cache, so the main thread never waits on the store.
+ * Players are fetched in the background when they join and dropped when they leave, and new
+ * cooldowns are written to the store in batches every {@link #getFlushInterval() flush interval}.
+ */
+public class DistributedCooldownHandler implements CooldownHandler {
+
+  private final ConcurrentHashMap<UUID, ConcurrentHashMap<String, Long>> cache = new ConcurrentHashMap<>();
+  private final Set<UUID> fetching = ConcurrentHashMap.newKeySet();
+  private final ConcurrentLinkedQueue<PendingWrite> pending = new ConcurrentLinkedQueue<>();
+
+  //Writes taken from pending that the store may not have yet, guarded by itself along with written.
+  private final List<PendingWrite> inflight = new ArrayList<>();
+
+  //The number of batches the store has finished writing.
+  private long written = 0;
+
+  private final String node = UUID.randomUUID().toString();
+  private final CooldownStore store;
+
+  private long flushInterval = 20;
+  private PlatformTask flushTask = null;
+  private PlatformTask listener = null;
+
+  public DistributedCooldownHandler(CooldownStore store) {
+    this.store = store;
+    store.subscribe(this::invalidate);
+  }
+
+  @Override
+  public boolean addCooldown(UUID player, String command, long cooldown) {
+    final long expiration = System.currentTimeMillis() + (cooldown * 1000);
+
+    //Queued first so that a concurrent refresh either sees the write or replaces the map before it.
+    pending.add(new PendingWrite(player, command, expiration));
+    cache.computeIfAbsent(player, k->new ConcurrentHashMap<>()).put(command, expiration);
+    return true;
+  }
+
+  @Override
+  public boolean hasCooldown(UUID player, String command) {
+    final ConcurrentHashMap<String, Long> cooldowns = cache.get(player);
+
+    if(cooldowns == null) {
+      prefetch(player);
+      return false;
+    }
+
+    final Long expiration = cooldowns.get(command);
+    if(expiration == null) return false;
+
+    if(expiration <= System.currentTimeMillis()) {
+      cooldowns.remove(command, expiration);
+      return false;
+    }
+    return true;
+  }
+
+  @Override
+  public void removeCooldown(UUID player, String command) {
+    final ConcurrentHashMap<String, Long> cooldowns = cache.get(player);
+
+    pending.add(new PendingWrite(player, command, 0));
+
+    if(cooldowns != null) {
+      cooldowns.remove(command);
+    }
+  }
+
+  @Override
+  public int size() {
+    return cache.size();
+  }
+
+  @Override
+  public long entries() {
+    long entries = 0;
+    for(ConcurrentHashMap<String, Long> cooldowns : cache.values()) {
+      entries += cooldowns.size();
+    }
+    return entries;
+  }
+
+  @Override
+  public long memory() {
+    return (cache.size() * CooldownData.RECORD_SIZE) + (entries() * CooldownData.ENTRY_SIZE);
+  }
+
+  /**
+   * Used to load a player's cooldowns into the near-cache in the background. Calling this when a
+   * player joins avoids the first check after a server switch missing their cooldowns.
+   * <p>
+   * The player's cached cooldowns are replaced with the ones in the {@link CooldownStore}, so that
+   * cooldowns removed or shortened on another node are removed or shortened here too. Changes made
+   * on this node that haven't been written yet are kept, including a batch that is being written.
+   * @param player The {@link UUID} of the player.
+   */
+  public void prefetch(UUID player) {
+    if(!fetching.add(player)) return;
+
+    final long seen;
+    synchronized(inflight) {
+      seen = written;
+    }
+
+    store.fetch(player).whenComplete((values, error)->{
+      fetching.remove(player);
+
+      if(error != null || values == null) return;
+
+      synchronized(inflight) {
+        //A batch finished while fetching, so the values may or may not include it. Fetch again.
+        if(written != seen) {
+          prefetch(player);
+          return;
+        }
+
+        final ConcurrentHashMap<String, Long> cooldowns = new ConcurrentHashMap<>(values);
+        apply(cooldowns, player, inflight);
+        apply(cooldowns, player, pending);
+        cache.put(player, cooldowns);
+      }
+    });
+  }
+
+  private void apply(Map<String, Long> cooldowns, UUID player, Iterable<PendingWrite> writes) {
+    for(PendingWrite write : writes) {
+      if(!write.player.equals(player)) continue;
+
+      if(write.expiration <= 0) {
+        cooldowns.remove(write.command);
+      } else {
+        cooldowns.put(write.command, write.expiration);
+      }
+    }
+  }
+
+  /**
+   * Used to drop a player from the near-cache, for example when they leave this server.
+   * @param player The {@link UUID} of the player.
+   */
+  public void evict(UUID player) {
+    cache.remove(player);
+  }
+
+  /**
+   * Used to write every pending cooldown change to the {@link CooldownStore} in one batch, and
+   * notify the other nodes about the players that changed.
+   */
+  public void flush() {
+    final Map<UUID, Map<String, Long>> batch = new HashMap<>();
+    final List<PendingWrite> writes = new ArrayList<>();
+
+    //Moved to inflight under its lock, so a refresh sees each write in one of the two.
+    synchronized(inflight) {
+      PendingWrite write;
+      while((write = pending.poll()) != null) {
+        batch.computeIfAbsent(write.player, k->new HashMap<>()).put(write.command, write.expiration);
+        writes.add(write);
+      }
+      inflight.addAll(writes);
+    }
+
+    if(batch.isEmpty()) return;
+
+    try {
+      store.write(batch);
+    } finally {
+      synchronized(inflight) {
+        inflight.removeAll(writes);
+        written++;
+      }
+    }
+
+    for(UUID player : batch.keySet()) {
+      store.publish(node, player);
+    }
+  }
+
+  /**
+   * Used to stop the write-behind task, and write anything that's still pending.
+   */
+  @Override
+  public void stop() {
+    shutdown();
+  }
+
+  /**
+   * Used to stop the write-behind task and the join listener, and write anything that's still pending.
+   */
+  public synchronized void shutdown() {
+    if(flushTask != null) {
+      flushTask.cancel();
+      flushTask = null;
+    }
+
+    if(listener != null) {
+      listener.cancel();
+      listener = null;
+    }
+    flush();
+  }
+
+  private void invalidate(String origin, UUID player) {
+    if(node.equals(origin) || !cache.containsKey(player)) return;
+
+    prefetch(player);
+  }
+
+  /**
+   * Used to start the write-behind task, fetch players as they join and drop them as they leave,
+   * and fetch the players that are already online. Until this is called, changes are only written
+   * by {@link #flush()}.
+   * @param platform The {@link CommandPlatform} used to schedule the write-behind task and listen
+   *                 for players.
+   */
+  @Override
+  public synchronized void start(CommandPlatform platform) {
+    if(flushTask != null) return;
+
+    flushTask = platform.runTimerAsync(this::flush, flushInterval, flushInterval);
+    listener = platform.listen(new ConnectionListener() {
+      @Override
+      public void join(UUID player) {
+        prefetch(player);
+      }
+
+      @Override
+      public void quit(UUID player) {
+        evict(player);
+      }
+    });
+
+    for(UUID player : platform.getOnlinePlayerIds()) {
+      prefetch(player);
+    }
+  }
+
+  public String getNode() {
+    return node;
+  }
+
+  public CooldownStore getStore() {
+    return store;
+  }
+
+  public long getFlushInterval() {
+    return flushInterval;
+  }
+
+  public void setFlushInterval(long flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  private static class PendingWrite {
+
+    private final UUID player;
+    private final String command;
+    private final long expiration;
+
+    PendingWrite(UUID player, String command, long expiration) {
+      this.player = player;
+      this.command = command;
+      this.expiration = expiration;
+    }
+  }
+}
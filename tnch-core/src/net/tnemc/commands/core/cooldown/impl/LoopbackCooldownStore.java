@@ -0,0 +1,63 @@
+package net.tnemc.commands.core.cooldown.impl;
+
+import net.tnemc.commands.core.cooldown.CooldownStore;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * The New Commands Handler Library
+ * <p>
+ * This work is licensed under the Creative Commons Attribution-NonCommercial-NoDerivatives 4.0 International License.
+ * To view a copy of this license, visit http://creativecommons.org/licenses/by-nc-nd/4.0/ or send a letter to
+ * Creative Commons, PO Box 1866, Mountain View, CA 94042, USA.
+ * <p>
+ * An in-process {@link CooldownStore}. Every {@link DistributedCooldownHandler} sharing an instance
+ * of this store behaves like a separate node in a cluster, which makes it useful for testing.
+ */
+public class LoopbackCooldownStore implements CooldownStore {
+
+  private final ConcurrentHashMap<UUID, ConcurrentHashMap<String, Long>> data = new ConcurrentHashMap<>();
+  private final List<BiConsumer<String, UUID>> listeners = new CopyOnWriteArrayList<>();
+
+  @Override
+  public CompletableFuture<Map<String, Long>> fetch(UUID player) {
+    final Map<String, Long> stored = data.get(player);
+    return CompletableFuture.completedFuture((stored == null)? new HashMap<>() : new HashMap<>(stored));
+  }
+
+  @Override
+  public void write(Map<UUID, Map<String, Long>> batch) {
+    for(Map.Entry<UUID, Map<String, Long>> entry : batch.entrySet()) {
+      final ConcurrentHashMap<String, Long> stored = data.computeIfAbsent(entry.getKey(), k->new ConcurrentHashMap<>());
+
+      for(Map.Entry<String, Long> cooldown : entry.getValue().entrySet()) {
+        if(cooldown.getValue() <= 0) {
+          stored.remove(cooldown.getKey());
+        } else {
+          stored.put(cooldown.getKey(), cooldown.getValue());
+        }
+      }
+
+      if(stored.isEmpty()) data.remove(entry.getKey(), stored);
+    }
+  }
+
+  @Override
+  public void publish(String node, UUID player) {
+    for(BiConsumer<String, UUID> listener : listeners) {
+      listener.accept(node, player);
+    }
+  }
+
+  @Override
+  public void subscribe(BiConsumer<String, UUID> listener) {
+    listeners.add(listener);
+  }
+}
@@ -0,0 +1,49 @@
+package net.tnemc.commands.core.jfr;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.utils.JavaRuntime;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+/**
+ * Used to record TNCH's phases as Java Flight Recorder events. On Java 11 or newer this delegates
+ * to {@code JfrFlightRecorder}, which commits a jdk.jfr event for each phase while recording is
+ * enabled. On Java 8 nothing is recorded.
+ */
+public final class CommandFlightRecorder {
+
+  private static final FlightRecorder RECORDER = JavaRuntime.load(11, "net.tnemc.commands.core.jfr.JfrFlightRecorder",
+                                                                  FlightRecorder.class);
+
+  private CommandFlightRecorder() {
+  }
+
+  /**
+   * Used to start timing a phase.
+   * @param phase The {@link FlightPhase} being timed.
+   * @return The event to pass to {@link #end(Object, CommandInformation, PlatformSender, int, Object)},
+   * or null if the phase isn't being recorded.
+   */
+  public static Object begin(final FlightPhase phase) {
+    return (RECORDER == null)? null : RECORDER.begin(phase);
+  }
+
+  /**
+   * Used to finish timing a phase, and commit its event.
+   * @param event The value returned by {@link #begin(FlightPhase)}.
+   * @param information The {@link CommandInformation} of the command, or null if none was found.
+   * @param sender The {@link PlatformSender}, or null if there isn't one.
+   * @param arguments The amount of arguments.
+   * @param outcome The outcome of the phase.
+   */
+  public static void end(final Object event, final CommandInformation information, final PlatformSender sender,
+                         final int arguments, final Object outcome) {
+    if(event != null) RECORDER.end(event, information, sender, arguments, outcome);
+  }
+
+  /**
+   * @return True if this version is able to record events.
+   */
+  public static boolean supported() {
+    return RECORDER != null;
+  }
+}
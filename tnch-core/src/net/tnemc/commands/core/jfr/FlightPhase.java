@@ -0,0 +1,15 @@
+package net.tnemc.commands.core.jfr;
+
+/**
+ * The phases of TNCH that are recorded as Java Flight Recorder events.
+ */
+public enum FlightPhase {
+
+  LOOKUP,
+  COOLDOWN,
+  PERMISSION,
+  VALIDATION,
+  EXECUTE,
+  COMPLETION,
+  LOAD
+}
@@ -0,0 +1,15 @@
+package net.tnemc.commands.core.jfr;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.PlatformSender;
+
+/**
+ * The Java Flight Recorder events of TNCH. The implementation needs Java 11, so it's loaded by
+ * {@link CommandFlightRecorder} only when the running Java supports it.
+ */
+public interface FlightRecorder {
+
+  Object begin(FlightPhase phase);
+
+  void end(Object event, CommandInformation information, PlatformSender sender, int arguments, Object outcome);
+}
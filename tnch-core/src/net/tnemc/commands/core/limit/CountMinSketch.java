@@ -0,0 +1,77 @@
+package net.tnemc.commands.core.limit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A count-min sketch, which estimates how often each key was seen in a fixed amount of memory. An
+ * estimate is never lower than the true count, and is higher by at most a small fraction of the
+ * total count.
+ */
+public class CountMinSketch {
+
+  private static final long[] SEEDS = {
+      0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+      0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x94D049BB133111EBL, 0xBF58476D1CE4E5B9L
+  };
+
+  private final int depth;
+  private final int mask;
+  private final AtomicLongArray counts;
+
+  /**
+   * @param depth The amount of rows, at most 8. More rows lower the chance of a bad estimate.
+   * @param width The amount of counters per row, rounded up to a power of two. Wider rows lower the
+   * size of the error.
+   */
+  public CountMinSketch(int depth, int width) {
+    int size = 1;
+    while(size < width) size <<= 1;
+
+    this.depth = Math.max(1, Math.min(depth, SEEDS.length));
+    this.mask = size - 1;
+    this.counts = new AtomicLongArray(this.depth * size);
+  }
+
+  /**
+   * Used to count a key.
+   * @param hash The hash of the key.
+   * @return The estimated count of the key after it was added.
+   */
+  public long add(final int hash) {
+    long estimate = Long.MAX_VALUE;
+
+    for(int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counts.incrementAndGet(index(row, hash)));
+    }
+    return estimate;
+  }
+
+  /**
+   * @param hash The hash of the key.
+   * @return The estimated count of the key.
+   */
+  public long estimate(final int hash) {
+    long estimate = Long.MAX_VALUE;
+
+    for(int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counts.get(index(row, hash)));
+    }
+    return estimate;
+  }
+
+  /**
+   * Used to halve every counter, so older counts fade away.
+   */
+  public void decay() {
+    for(int i = 0; i < counts.length(); i++) {
+      final long count = counts.get(i);
+      if(count > 0) counts.set(i, count >> 1);
+    }
+  }
+
+  private int index(final int row, final int hash) {
+    long mixed = (hash * SEEDS[row]);
+    mixed ^= (mixed >>> 32);
+    return (row * (mask + 1)) + (int)(mixed & mask);
+  }
+}
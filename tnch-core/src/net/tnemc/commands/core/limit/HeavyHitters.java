@@ -0,0 +1,153 @@
+package net.tnemc.commands.core.limit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Used to track the most frequent keys in a fixed amount of memory. Every key is counted in a
+ * {@link CountMinSketch}, and only the top keys are kept, in a space-saving table of a fixed size.
+ * <p>
+ * Counting is lock-free. A lock is only taken when an untracked key's estimate rises above the
+ * lowest tracked estimate, so it may take that key's place in the table.
+ * @param <K> The type of key being tracked.
+ */
+public class HeavyHitters<K> {
+
+  private final CountMinSketch sketch;
+  private final ConcurrentHashMap<K, Boolean> tracked = new ConcurrentHashMap<>();
+  private final int size;
+
+  private final AtomicLong total = new AtomicLong(0);
+
+  //The lowest estimate of a tracked key, or 0 while the table isn't full.
+  private volatile long floor = 0;
+
+  /**
+   * @param top The amount of top keys to keep.
+   * @param depth The depth of the {@link CountMinSketch}.
+   * @param width The width of the {@link CountMinSketch}.
+   */
+  public HeavyHitters(int top, int depth, int width) {
+    this.sketch = new CountMinSketch(depth, width);
+    this.size = Math.max(1, top);
+  }
+
+  /**
+   * Used to count a key.
+   * @param key The key.
+   * @return The estimated count of the key.
+   */
+  public long add(final K key) {
+    total.incrementAndGet();
+
+    final long estimate = sketch.add(key.hashCode());
+
+    if(estimate > floor && !tracked.containsKey(key)) admit(key, estimate);
+    return estimate;
+  }
+
+  /**
+   * @param key The key.
+   * @return The estimated count of the key.
+   */
+  public long estimate(final K key) {
+    return sketch.estimate(key.hashCode());
+  }
+
+  /**
+   * @param key The key.
+   * @return The estimated share of every count that belongs to the key, between 0 and 1.
+   */
+  public double share(final K key) {
+    final long count = total.get();
+    return (count == 0)? 0 : Math.min(1.0, sketch.estimate(key.hashCode()) / (double)count);
+  }
+
+  /**
+   * Used to halve every count, so the tracker follows recent load rather than all time load.
+   */
+  public synchronized void decay() {
+    sketch.decay();
+    total.updateAndGet(count->count >> 1);
+
+    tracked.keySet().removeIf(key->estimate(key) == 0);
+    floor = lowest();
+  }
+
+  /**
+   * @return The tracked keys and their estimated counts, highest first.
+   */
+  public List<Hitter<K>> top() {
+    final List<Hitter<K>> top = new ArrayList<>();
+
+    for(K key : tracked.keySet()) {
+      top.add(new Hitter<>(key, estimate(key)));
+    }
+    top.sort((a, b)->Long.compare(b.getCount(), a.getCount()));
+    return top;
+  }
+
+  public long getTotal() {
+    return total.get();
+  }
+
+  /**
+   * Used to add an untracked key to the table, in place of the lowest key if the table is full.
+   */
+  private synchronized void admit(final K key, final long estimate) {
+    if(tracked.containsKey(key)) return;
+
+    if(tracked.size() >= size) {
+      K lowest = null;
+      long lowestCount = Long.MAX_VALUE;
+
+      for(K existing : tracked.keySet()) {
+        final long count = estimate(existing);
+        if(count < lowestCount) {
+          lowest = existing;
+          lowestCount = count;
+        }
+      }
+
+      if(lowest == null || estimate <= lowestCount) {
+        floor = lowestCount;
+        return;
+      }
+      tracked.remove(lowest);
+    }
+    tracked.put(key, Boolean.TRUE);
+    floor = lowest();
+  }
+
+  private long lowest() {
+    if(tracked.size() < size) return 0;
+
+    long lowest = Long.MAX_VALUE;
+    for(Map.Entry<K, Boolean> entry : tracked.entrySet()) {
+      lowest = Math.min(lowest, estimate(entry.getKey()));
+    }
+    return lowest;
+  }
+
+  public static class Hitter<K> {
+
+    private final K key;
+    private final long count;
+
+    public Hitter(K key, long count) {
+      this.key = key;
+      this.count = count;
+    }
+
+    public K getKey() {
+      return key;
+    }
+
+    public long getCount() {
+      return count;
+    }
+  }
+}
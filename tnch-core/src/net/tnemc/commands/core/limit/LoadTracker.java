@@ -0,0 +1,151 @@
+package net.tnemc.commands.core.limit;
+
+import net.tnemc.commands.core.CommandInformation;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Used to find the players and commands that dominate command load, in a fixed amount of memory
+ * no matter how many players are online. Counts are halved every {@link #getWindow() window}, so
+ * the tracker follows recent load.
+ * <p>
+ * When a {@link #getLimitShare() limit share} is set, players whose estimated share of recent
+ * commands is higher than it are rate limited until their counts decay. Tab completions are
+ * counted separately, so typing doesn't count towards that share.
+ */
+public class LoadTracker {
+
+  private HeavyHitters<UUID> senders = new HeavyHitters<>(20, 4, 2048);
+  private HeavyHitters<CommandInformation> commands = new HeavyHitters<>(20, 4, 1024);
+  private HeavyHitters<UUID> completions = new HeavyHitters<>(20, 4, 2048);
+
+  private final AtomicLong nextDecay = new AtomicLong(0);
+
+  private boolean enabled = false;
+
+  //The time, in milliseconds, after which counts are halved.
+  private long window = 60000;
+
+  //The share of recent commands above which a player is rate limited, 0 disables it.
+  private double limitShare = 0.0;
+
+  //The minimum amount of recent commands before a player may be rate limited.
+  private long limitMinimum = 100;
+
+  /**
+   * Used to count a command from a sender.
+   * @param sender The {@link UUID} of the player, or null for other senders.
+   * @param information The {@link CommandInformation} of the command, or null if none was found.
+   */
+  public void hit(final UUID sender, final CommandInformation information) {
+    if(!enabled) return;
+
+    decay();
+
+    if(sender != null) senders.add(sender);
+    if(information != null) commands.add(information);
+  }
+
+  /**
+   * Used to count a tab completion from a sender. These don't count towards {@link #isHeavy(UUID)}.
+   * @param sender The {@link UUID} of the player, or null for other senders.
+   */
+  public void complete(final UUID sender) {
+    if(!enabled || sender == null) return;
+
+    decay();
+    completions.add(sender);
+  }
+
+  /**
+   * @param sender The {@link UUID} of the player.
+   * @return True if the player should be rate limited for dominating recent command load.
+   */
+  public boolean isHeavy(final UUID sender) {
+    if(!enabled || limitShare <= 0 || senders.getTotal() < limitMinimum) return false;
+
+    return senders.share(sender) > limitShare;
+  }
+
+  public List<HeavyHitters.Hitter<UUID>> topSenders() {
+    return senders.top();
+  }
+
+  public List<HeavyHitters.Hitter<CommandInformation>> topCommands() {
+    return commands.top();
+  }
+
+  public List<HeavyHitters.Hitter<UUID>> topCompletions() {
+    return completions.top();
+  }
+
+  private void decay() {
+    final long now = System.currentTimeMillis();
+    final long next = nextDecay.get();
+
+    if(now >= next && nextDecay.compareAndSet(next, now + window)) {
+      if(next != 0) {
+        senders.decay();
+        commands.decay();
+        completions.decay();
+      }
+    }
+  }
+
+  /**
+   * Used to change the amount of memory used by the tracker. This resets the counts.
+   * @param top The amount of top senders and commands to keep.
+   * @param width The width of the count-min sketches.
+   */
+  public void resize(int top, int width) {
+    senders = new HeavyHitters<>(top, 4, width);
+    commands = new HeavyHitters<>(top, 4, width);
+    completions = new HeavyHitters<>(top, 4, width);
+  }
+
+  public HeavyHitters<UUID> getSenders() {
+    return senders;
+  }
+
+  public HeavyHitters<CommandInformation> getCommands() {
+    return commands;
+  }
+
+  public HeavyHitters<UUID> getCompletions() {
+    return completions;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getWindow() {
+    return window;
+  }
+
+  public void setWindow(long window) {
+    this.window = Math.max(1000, window);
+  }
+
+  public double getLimitShare() {
+    return limitShare;
+  }
+
+  public void setLimitShare(double limitShare) {
+    this.limitShare = limitShare;
+  }
+
+  public long getLimitMinimum() {
+    return limitMinimum;
+  }
+
+  public void setLimitMinimum(long limitMinimum) {
+    this.limitMinimum = limitMinimum;
+  }
+}
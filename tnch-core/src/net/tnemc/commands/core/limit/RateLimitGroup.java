@@ -0,0 +1,74 @@
+package net.tnemc.commands.core.limit;
+
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents a set of {@link TokenBucket token buckets}, one per sender, that share the same
+ * capacity and refill rate.
+ */
+public class RateLimitGroup {
+
+  private final ConcurrentHashMap<UUID, TokenBucket> buckets = new ConcurrentHashMap<>();
+  private final LongAdder rejected = new LongAdder();
+
+  private final String name;
+  private final int capacity;
+  private final int refill;
+
+  private final long interval;
+  private final long window;
+
+  /**
+   * @param name The name of this group.
+   * @param capacity The amount of commands a sender may burst.
+   * @param refill The amount of commands per second a sender may sustain.
+   */
+  public RateLimitGroup(String name, int capacity, int refill) {
+    this.name = name;
+    this.capacity = Math.max(1, capacity);
+    this.refill = Math.max(1, refill);
+
+    this.interval = 1000000000L / this.refill;
+    this.window = this.capacity * interval;
+  }
+
+  public boolean tryAcquire(final UUID sender, final long now) {
+    TokenBucket bucket = buckets.get(sender);
+    if(bucket == null) bucket = buckets.computeIfAbsent(sender, k->new TokenBucket());
+
+    if(bucket.tryAcquire(now, interval, window)) return true;
+
+    rejected.increment();
+    return false;
+  }
+
+  /**
+   * Used to discard the buckets of every sender that has fully refilled.
+   */
+  public void purge() {
+    final long now = System.nanoTime();
+    buckets.values().removeIf(bucket->bucket.isFull(now));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int getRefill() {
+    return refill;
+  }
+
+  public int getSenders() {
+    return buckets.size();
+  }
+
+  public long getRejected() {
+    return rejected.sum();
+  }
+}
@@ -0,0 +1,152 @@
+package net.tnemc.commands.core.limit;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Used to throttle how quickly players may run commands. Every player has a bucket in the global
+ * {@link RateLimitGroup}, and a bucket in the group of each command label they use, if it has one.
+ * Tab completions are throttled separately by the complete group.
+ */
+public class RateLimiter {
+
+  private Map<String, RateLimitGroup> groups = new HashMap<>();
+  private Map<String, RateLimitGroup> labels = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+  private boolean enabled = false;
+  private RateLimitGroup global = null;
+  private RateLimitGroup complete = null;
+
+  private PlatformTask purgeTask = null;
+
+  /**
+   * Used to take a token for a command from the global bucket, and the label's group bucket.
+   * @param sender The {@link UUID} of the player running the command.
+   * @param label The label the command was run with.
+   * @return True if the command may run, otherwise false.
+   */
+  public boolean tryAcquire(final UUID sender, final String label) {
+    if(!enabled) return true;
+
+    final long now = System.nanoTime();
+
+    if(global != null && !global.tryAcquire(sender, now)) return false;
+
+    final RateLimitGroup group = labels.get(label);
+    return group == null || group.tryAcquire(sender, now);
+  }
+
+  /**
+   * Used to take a token for a tab completion from the complete bucket. Completions don't draw from
+   * the buckets used to run commands.
+   * @param sender The {@link UUID} of the player requesting completions.
+   * @return True if the completion may run, otherwise false.
+   */
+  public boolean tryComplete(final UUID sender) {
+    if(!enabled || complete == null) return true;
+
+    return complete.tryAcquire(sender, System.nanoTime());
+  }
+
+  /**
+   * Used to add a {@link RateLimitGroup}, and assign it to every identifier of the listed commands.
+   * @param group The group to add.
+   * @param commands The names of the root commands in this group.
+   * @param registered The registered commands, used to look up each command's aliases.
+   */
+  public void addGroup(RateLimitGroup group, List<String> commands, Map<List<String>, CommandInformation> registered) {
+    groups.put(group.getName(), group);
+
+    for(String command : commands) {
+      labels.put(command, group);
+
+      for(Map.Entry<List<String>, CommandInformation> entry : registered.entrySet()) {
+        if(entry.getValue().getName().equalsIgnoreCase(command)) {
+          for(String identifier : entry.getKey()) {
+            labels.put(identifier, group);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Used to start discarding idle buckets periodically.
+   * @param platform The {@link CommandPlatform} to schedule the task with.
+   */
+  public synchronized void start(CommandPlatform platform) {
+    if(purgeTask == null && enabled) {
+      purgeTask = platform.runTimerAsync(this::purge, 1200, 1200);
+    }
+  }
+
+  /**
+   * Used to stop discarding idle buckets. This should be called when the plugin is disabled.
+   */
+  public synchronized void stop() {
+    if(purgeTask != null) {
+      purgeTask.cancel();
+      purgeTask = null;
+    }
+  }
+
+  public void purge() {
+    if(global != null) global.purge();
+    if(complete != null) complete.purge();
+
+    for(RateLimitGroup group : groups.values()) {
+      group.purge();
+    }
+  }
+
+  /**
+   * @return The total amount of commands rejected across the global and command groups.
+   */
+  public long getRejected() {
+    long rejected = (global == null)? 0 : global.getRejected();
+
+    for(RateLimitGroup group : groups.values()) {
+      rejected += group.getRejected();
+    }
+    return rejected;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public RateLimitGroup getGlobal() {
+    return global;
+  }
+
+  public void setGlobal(RateLimitGroup global) {
+    this.global = global;
+  }
+
+  public RateLimitGroup getComplete() {
+    return complete;
+  }
+
+  public void setComplete(RateLimitGroup complete) {
+    this.complete = complete;
+  }
+
+  public Map<String, RateLimitGroup> getGroups() {
+    return groups;
+  }
+
+  public Map<String, RateLimitGroup> getLabels() {
+    return labels;
+  }
+}
@@ -0,0 +1,45 @@
+package net.tnemc.commands.core.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free token bucket. Rather than storing a token count and refill time separately, this
+ * tracks the theoretical time the bucket would be full again, which lets both be updated with a
+ * single compare-and-set.
+ * <p>
+ * Times come from {@link System#nanoTime()}, whose origin is arbitrary and may be negative, so
+ * they're only ever compared by their difference.
+ */
+public class TokenBucket {
+
+  //The value of full before the first token is taken, when the bucket is full at any time.
+  private static final long UNUSED = Long.MIN_VALUE;
+
+  private final AtomicLong full = new AtomicLong(UNUSED);
+
+  /**
+   * Used to take a token from this bucket.
+   * @param now The current time in nanoseconds.
+   * @param interval The time in nanoseconds it takes to refill one token.
+   * @param capacity The time in nanoseconds it takes to refill the whole bucket.
+   * @return True if a token was available, otherwise false.
+   */
+  public boolean tryAcquire(final long now, final long interval, final long capacity) {
+    while(true) {
+      final long current = full.get();
+      final long next = ((current == UNUSED || current - now < 0)? now : current) + interval;
+
+      if(next - now > capacity) return false;
+      if(full.compareAndSet(current, next)) return true;
+    }
+  }
+
+  /**
+   * @param now The current time in nanoseconds.
+   * @return True if this bucket has refilled completely, which means it may be discarded.
+   */
+  public boolean isFull(final long now) {
+    final long current = full.get();
+    return current == UNUSED || current - now <= 0;
+  }
+}
@@ -0,0 +1,94 @@
+package net.tnemc.commands.core.loader;
+
+import net.tnemc.commands.core.parameter.CommandParameter;
+
+import java.util.LinkedList;
+
+public interface CommandLoader {
+
+  default void load() {
+    loadTrace();
+    loadMessages();
+    loadCommands();
+    loadCompleters();
+    loadRateLimits();
+    loadAdmission();
+    loadAsync();
+    loadWatchdog();
+    loadMetrics();
+    loadUsage();
+    loadAudit();
+    loadCapture();
+    loadSchedules();
+  }
+
+  /**
+   * Used to load the trace levels. This is called first so that loading may be traced.
+   */
+  default void loadTrace() {
+  }
+
+  LinkedList<CommandParameter> loadParameters(String command, String configBase);
+
+  void loadMessages();
+
+  void loadCommands();
+
+  void loadCompleters();
+
+  /**
+   * Used to load the rate limit groups. This is called after the commands are loaded so that
+   * each group may be assigned to every alias of its commands.
+   */
+  default void loadRateLimits() {
+  }
+
+  /**
+   * Used to load the admission control settings.
+   */
+  default void loadAdmission() {
+  }
+
+  /**
+   * Used to load the asynchronous command pool settings.
+   */
+  default void loadAsync() {
+  }
+
+  /**
+   * Used to load the slow command watchdog settings.
+   */
+  default void loadWatchdog() {
+  }
+
+  /**
+   * Used to load the metrics export settings.
+   */
+  default void loadMetrics() {
+  }
+
+  /**
+   * Used to load the usage recorder settings.
+   */
+  default void loadUsage() {
+  }
+
+  /**
+   * Used to load the audit log settings.
+   */
+  default void loadAudit() {
+  }
+
+  /**
+   * Used to load the traffic capture settings.
+   */
+  default void loadCapture() {
+  }
+
+  /**
+   * Used to load the scheduled commands. This is called after the commands are loaded so that
+   * each schedule may be resolved to its command.
+   */
+  default void loadSchedules() {
+  }
+}
\ No newline at end of file
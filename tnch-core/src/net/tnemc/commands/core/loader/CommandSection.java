@@ -0,0 +1,34 @@
+package net.tnemc.commands.core.loader;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A single section of a commands configuration. Keys are relative to this section, and should be
+ * read from the section itself rather than resolved again from the root of the configuration.
+ */
+public interface CommandSection {
+
+  /**
+   * @return The keys directly below this section, in the order they appear in the configuration.
+   */
+  Set<String> getKeys();
+
+  /**
+   * @param key The relative key of the section.
+   * @return The section at the specified key, or null if there's no section there.
+   */
+  CommandSection getSection(String key);
+
+  boolean contains(String key);
+
+  String getString(String key, String defaultValue);
+
+  boolean getBool(String key, boolean defaultValue);
+
+  int getInt(String key, int defaultValue);
+
+  long getLong(String key, long defaultValue);
+
+  List<String> getStringList(String key);
+}
@@ -0,0 +1,314 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.admission.CostClass;
+import net.tnemc.commands.core.parameter.CommandParameter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A compiled snapshot of a commands file: the loaded {@link CommandInformation} tree, and every
+ * other setting as a flat map of paths to values.
+ * <p>
+ * The file starts with a magic int, a version byte and the SHA-256 hash of the source file, so a
+ * snapshot is only used while the source is unchanged. {@link #VERSION} must be increased whenever
+ * the loaders read a new command or parameter field.
+ */
+public class CompiledTree {
+
+  public static final int MAGIC = 0x544E4354;
+  public static final byte VERSION = 1;
+
+  //Setting value types.
+  private static final byte STRING = 0;
+  private static final byte INT = 1;
+  private static final byte LONG = 2;
+  private static final byte DOUBLE = 3;
+  private static final byte BOOLEAN = 4;
+  private static final byte LIST = 5;
+  private static final byte SECTION = 6;
+
+  /**
+   * The value stored for an empty configuration section, which has no values of its own but must
+   * still exist, for example a completer without any settings.
+   */
+  public static final Object SECTION_MARKER = new Object();
+
+  private final Map<String, Object> settings;
+  private final List<CommandInformation> commands;
+
+  public CompiledTree(Map<String, Object> settings, List<CommandInformation> commands) {
+    this.settings = settings;
+    this.commands = commands;
+  }
+
+  /**
+   * @param source The source file.
+   * @return The SHA-256 hash of the source file.
+   */
+  public static byte[] hash(Path source) throws IOException {
+    try {
+      return MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(source));
+    } catch(NoSuchAlgorithmException e) {
+      throw new IOException("SHA-256 isn't available", e);
+    }
+  }
+
+  /**
+   * Used to read a snapshot, if it was compiled from a source with the given hash.
+   * @param cache The snapshot file.
+   * @param hash The hash of the current source file.
+   * @return The snapshot, or an empty Optional if it's missing, outdated or from another version.
+   */
+  public static Optional<CompiledTree> read(Path cache, byte[] hash) throws IOException {
+    if(!Files.isRegularFile(cache)) return Optional.empty();
+
+    try(DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cache), 65536))) {
+      if(in.readInt() != MAGIC || in.readByte() != VERSION) return Optional.empty();
+
+      final byte[] stored = new byte[hash.length];
+      in.readFully(stored);
+      if(!Arrays.equals(stored, hash)) return Optional.empty();
+
+      final Map<String, Object> settings = new LinkedHashMap<>();
+      final int count = in.readInt();
+      for(int i = 0; i < count; i++) {
+        final String key = in.readUTF();
+        settings.put(key, readValue(in));
+      }
+
+      final List<CommandInformation> commands = new ArrayList<>();
+      final int roots = in.readInt();
+      for(int i = 0; i < roots; i++) {
+        commands.add(readCommand(in, null));
+      }
+      return Optional.of(new CompiledTree(settings, commands));
+    }
+  }
+
+  /**
+   * Used to write this snapshot. It's written to a temporary file first, so a crash never leaves a
+   * partial snapshot behind.
+   * @param cache The snapshot file.
+   * @param hash The hash of the source file it was compiled from.
+   */
+  public void write(Path cache, byte[] hash) throws IOException {
+    if(cache.getParent() != null) Files.createDirectories(cache.getParent());
+    final Path temporary = cache.resolveSibling(cache.getFileName() + ".tmp");
+
+    try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary), 65536))) {
+      out.writeInt(MAGIC);
+      out.writeByte(VERSION);
+      out.write(hash);
+
+      out.writeInt(settings.size());
+      for(Map.Entry<String, Object> entry : settings.entrySet()) {
+        out.writeUTF(entry.getKey());
+        writeValue(out, entry.getValue());
+      }
+
+      out.writeInt(commands.size());
+      for(CommandInformation command : commands) {
+        writeCommand(out, command);
+      }
+    }
+
+    try {
+      Files.move(temporary, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch(AtomicMoveNotSupportedException e) {
+      Files.move(temporary, cache, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  //The fields are written in the order SectionCommandLoader loads them.
+  private static void writeCommand(DataOutputStream out, CommandInformation information) throws IOException {
+    out.writeUTF(information.getName());
+    writeList(out, information.getAliases());
+    writeString(out, information.getAuthor());
+    writeString(out, information.getPermission());
+    out.writeBoolean(information.isConsole());
+    out.writeBoolean(information.isPlayer());
+    out.writeBoolean(information.isDeveloper());
+    out.writeLong(information.getCooldown());
+    writeString(out, information.getDescription());
+    writeString(out, information.getExecutor());
+    out.writeUTF(information.getCost().name());
+    out.writeBoolean(information.isAsync());
+    out.writeInt(information.getAsyncLimit());
+    out.writeInt(information.getAsyncQueue());
+    out.writeLong(information.getCacheTime());
+    out.writeBoolean(information.isCacheSender());
+    out.writeBoolean(information.isAudit());
+    writeList(out, information.getSubShort());
+
+    out.writeInt(information.getParameters().size());
+    for(CommandParameter parameter : information.getParameters().values()) {
+      out.writeUTF(parameter.getName());
+      out.writeInt(parameter.getOrder());
+      out.writeUTF(parameter.getType());
+      out.writeInt(parameter.getMaxLength());
+      out.writeBoolean(parameter.isUseRegex());
+      writeString(out, parameter.getRegex());
+      out.writeBoolean(parameter.isOptional());
+      out.writeBoolean(parameter.isTabComplete());
+      writeString(out, parameter.getCompleteType());
+    }
+
+    out.writeInt(information.getSub().size());
+    for(CommandInformation sub : information.getSub().values()) {
+      writeCommand(out, sub);
+    }
+  }
+
+  private static CommandInformation readCommand(DataInputStream in, CommandInformation parent) throws IOException {
+    final CommandInformation information = new CommandInformation(in.readUTF());
+    information.setParent(parent);
+
+    information.setAliases(readList(in));
+    information.setAuthor(in.readUTF());
+    information.setPermission(in.readUTF());
+    information.setConsole(in.readBoolean());
+    information.setPlayer(in.readBoolean());
+    information.setDeveloper(in.readBoolean());
+    information.setCooldown(in.readLong());
+    information.setDescription(in.readUTF());
+    information.setExecutor(in.readUTF());
+    information.setCost(CostClass.valueOf(in.readUTF()));
+    information.setAsync(in.readBoolean());
+    information.setAsyncLimit(in.readInt());
+    information.setAsyncQueue(in.readInt());
+    information.setCacheTime(in.readLong());
+    information.setCacheSender(in.readBoolean());
+    information.setAudit(in.readBoolean());
+    information.setSubShort(readList(in));
+
+    final LinkedList<CommandParameter> parameters = new LinkedList<>();
+    final int count = in.readInt();
+    for(int i = 0; i < count; i++) {
+      final CommandParameter parameter = new CommandParameter(in.readUTF());
+      parameter.setOrder(in.readInt());
+      parameter.setType(in.readUTF());
+      parameter.setMaxLength(in.readInt());
+      parameter.setUseRegex(in.readBoolean());
+      parameter.setRegex(in.readUTF());
+      parameter.setOptional(in.readBoolean());
+      parameter.setTabComplete(in.readBoolean());
+      parameter.setCompleteType(in.readUTF());
+      parameters.add(parameter);
+    }
+    information.addParameters(parameters);
+
+    final int subs = in.readInt();
+    for(int i = 0; i < subs; i++) {
+      information.addSub(readCommand(in, information));
+    }
+    return information;
+  }
+
+  private static void writeValue(DataOutputStream out, Object value) throws IOException {
+    if(value instanceof Integer) {
+      out.writeByte(INT);
+      out.writeInt((Integer)value);
+    } else if(value instanceof Long) {
+      out.writeByte(LONG);
+      out.writeLong((Long)value);
+    } else if(value instanceof Double) {
+      out.writeByte(DOUBLE);
+      out.writeDouble((Double)value);
+    } else if(value instanceof Boolean) {
+      out.writeByte(BOOLEAN);
+      out.writeBoolean((Boolean)value);
+    } else if(value instanceof List) {
+      out.writeByte(LIST);
+      final List<String> strings = new ArrayList<>();
+      for(Object entry : (List<?>)value) {
+        strings.add(String.valueOf(entry));
+      }
+      writeList(out, strings);
+    } else if(value == SECTION_MARKER) {
+      out.writeByte(SECTION);
+    } else {
+      out.writeByte(STRING);
+      out.writeUTF(String.valueOf(value));
+    }
+  }
+
+  private static Object readValue(DataInputStream in) throws IOException {
+    final byte type = in.readByte();
+    switch(type) {
+      case INT:
+        return in.readInt();
+      case LONG:
+        return in.readLong();
+      case DOUBLE:
+        return in.readDouble();
+      case BOOLEAN:
+        return in.readBoolean();
+      case LIST:
+        return readList(in);
+      case SECTION:
+        return SECTION_MARKER;
+      case STRING:
+        return in.readUTF();
+      default:
+        throw new IOException("Unknown setting type " + type);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    out.writeUTF((value == null)? "" : value);
+  }
+
+  private static void writeList(DataOutputStream out, Collection<String> values) throws IOException {
+    if(values == null) {
+      out.writeInt(0);
+      return;
+    }
+
+    out.writeInt(values.size());
+    for(String value : values) {
+      writeString(out, value);
+    }
+  }
+
+  private static List<String> readList(DataInputStream in) throws IOException {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<>(size);
+    for(int i = 0; i < size; i++) {
+      values.add(in.readUTF());
+    }
+    return values;
+  }
+
+  /**
+   * @return Every setting outside of the command tree, as paths to values.
+   */
+  public Map<String, Object> getSettings() {
+    return settings;
+  }
+
+  /**
+   * @return The root commands.
+   */
+  public List<CommandInformation> getCommands() {
+    return commands;
+  }
+}
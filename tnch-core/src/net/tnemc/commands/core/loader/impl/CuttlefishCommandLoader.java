@@ -0,0 +1,128 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.loader.CommandSection;
+import net.tnemc.config.CommentedConfiguration;
+import net.tnemc.config.CommentedSection;
+
+import java.util.List;
+import java.util.Set;
+
+public class CuttlefishCommandLoader extends SectionCommandLoader {
+
+  private CommentedConfiguration config;
+
+  public CuttlefishCommandLoader(CommentedConfiguration config) {
+    this.config = config;
+  }
+
+  @Override
+  protected CommandSection root() {
+    return new CuttlefishRoot(config);
+  }
+
+  /**
+   * The {@link CommandSection} for the root of a {@link CommentedConfiguration}. Child sections are
+   * {@link CuttlefishSection CuttlefishSections}.
+   */
+  private static class CuttlefishRoot implements CommandSection {
+
+    private final CommentedConfiguration config;
+
+    CuttlefishRoot(CommentedConfiguration config) {
+      this.config = config;
+    }
+
+    @Override
+    public Set<String> getKeys() {
+      return config.getSection("").getKeysLinked(false);
+    }
+
+    @Override
+    public CommandSection getSection(String key) {
+      return (config.contains(key))? new CuttlefishSection(config.getSection(key)) : null;
+    }
+
+    @Override
+    public boolean contains(String key) {
+      return config.contains(key);
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+      return config.getString(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBool(String key, boolean defaultValue) {
+      return config.getBool(key, defaultValue);
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+      return config.getInt(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+      return config.getLong(key, defaultValue);
+    }
+
+    @Override
+    public List<String> getStringList(String key) {
+      return config.getStringList(key);
+    }
+  }
+
+  /**
+   * A {@link CommandSection} over a {@link CommentedSection}. Keys are read from the section itself,
+   * so a read only walks from this section rather than from the root of the configuration.
+   */
+  private static class CuttlefishSection implements CommandSection {
+
+    private final CommentedSection section;
+
+    CuttlefishSection(CommentedSection section) {
+      this.section = section;
+    }
+
+    @Override
+    public Set<String> getKeys() {
+      return section.getKeysLinked(false);
+    }
+
+    @Override
+    public CommandSection getSection(String key) {
+      return (section.contains(key))? new CuttlefishSection(section.getSection(key)) : null;
+    }
+
+    @Override
+    public boolean contains(String key) {
+      return section.contains(key);
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+      return section.getString(key, defaultValue);
+    }
+
+    @Override
+    public boolean getBool(String key, boolean defaultValue) {
+      return section.getBool(key, defaultValue);
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+      return section.getInt(key, defaultValue);
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+      return section.getLong(key, defaultValue);
+    }
+
+    @Override
+    public List<String> getStringList(String key) {
+      return section.getStringList(key);
+    }
+  }
+}
@@ -0,0 +1,477 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.TabCompleter;
+import net.tnemc.commands.core.admission.AdmissionController;
+import net.tnemc.commands.core.admission.CostClass;
+import net.tnemc.commands.core.async.AsyncDispatcher;
+import net.tnemc.commands.core.audit.AuditLog;
+import net.tnemc.commands.core.audit.AuditPolicy;
+import net.tnemc.commands.core.capture.CommandCapture;
+import net.tnemc.commands.core.completer.ConfigCompleter;
+import net.tnemc.commands.core.limit.LoadTracker;
+import net.tnemc.commands.core.limit.RateLimitGroup;
+import net.tnemc.commands.core.limit.RateLimiter;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.loader.CommandSection;
+import net.tnemc.commands.core.metrics.MetricsExporter;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import net.tnemc.commands.core.parameter.ParameterType;
+import net.tnemc.commands.core.schedule.CatchUp;
+import net.tnemc.commands.core.schedule.CommandScheduler;
+import net.tnemc.commands.core.settings.MessageSettings;
+import net.tnemc.commands.core.trace.CommandTracer;
+import net.tnemc.commands.core.trace.TraceCategory;
+import net.tnemc.commands.core.trace.TraceLevel;
+import net.tnemc.commands.core.usage.UsageRecorder;
+import net.tnemc.commands.core.watchdog.CommandWatchdog;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A {@link CommandLoader} that loads the commands and settings by walking the configuration one
+ * {@link CommandSection} at a time, so each format only has to supply its {@link #root()} section.
+ * Every section is visited once and each value is read relative to its own section, so the load
+ * time is linear in the size of the configuration.
+ */
+public abstract class SectionCommandLoader implements CommandLoader {
+
+  private boolean lazy = false;
+
+  /**
+   * @return The {@link CommandSection} for the root of the configuration.
+   */
+  protected abstract CommandSection root();
+
+  @Override
+  public void loadMessages() {
+    final CommandSection root = root();
+
+    //Our parameters messages
+    MessageSettings.invalidType = root.getString("Messages.Parameter.InvalidType",
+                                                 "<red>Parameter \"$parameter\" is of type $parameter_type.");
+
+    MessageSettings.invalidLength = root.getString("Messages.Parameter.InvalidLength",
+                                                   "<red>The max length of parameter \"$parameter\" is $max_length.");
+
+    MessageSettings.parameterOption = root.getString("Messages.Parameter.ParameterOption",
+                                                     "[$parameter]");
+
+    MessageSettings.parameterRequired = root.getString("Messages.Parameter.ParameterRequired",
+                                                       "<$parameter>");
+
+    //Our command messages
+    MessageSettings.commandHelp = root.getString("Messages.Command.CommandHelp",
+                                                 "Correct usage: /$command $parameters - $description");
+
+    MessageSettings.cooldown = root.getString("Messages.Command.Cooldown",
+                                              "<red>This command is on cooldown.");
+
+    MessageSettings.developer = root.getString("Messages.Command.Developer",
+                                               "<red>You must be a developer to use that command.");
+
+    MessageSettings.console = root.getString("Messages.Command.Console",
+                                             "<red>This command is not usable from console.");
+
+    MessageSettings.player = root.getString("Messages.Command.Console",
+                                            "<red>This command is not usable from in-game.");
+
+    MessageSettings.invalidPermission = root.getString("Messages.Command.InvalidPermission",
+                                                       "<red>I'm sorry, but you're not allowed to use that command.");
+
+    MessageSettings.rateLimited = root.getString("Messages.Command.RateLimited",
+                                                 "<red>You're using commands too quickly.");
+
+    MessageSettings.overloaded = root.getString("Messages.Command.Overloaded",
+                                                "<red>The server is too busy to run that command right now.");
+
+    MessageSettings.deferred = root.getString("Messages.Command.Deferred",
+                                              "<gold>The server is busy, your command will run shortly.");
+
+    MessageSettings.budget = root.getString("Messages.Command.Budget",
+                                            "<red>You've used too much server time, please wait a moment.");
+
+    MessageSettings.busy = root.getString("Messages.Command.Busy",
+                                          "<red>That command is busy, please try again shortly.");
+  }
+
+  @Override
+  public void loadCommands() {
+    final CommandSection root = root();
+    final CommandSection commands = root.getSection("Commands");
+    lazy = root.getBool("LazyLoad", false);
+
+    if(commands == null) return;
+
+    for(String command : commands.getKeys()) {
+      final CommandInformation info = loadCommand(command, "Commands." + command, commands.getSection(command), null);
+
+      CommandsHandler.manager().register(info.getIdentifiers(), info);
+    }
+  }
+
+  public CommandInformation loadCommand(String name, String base, CommandInformation parent) {
+    return loadCommand(name, base, root().getSection(base), parent);
+  }
+
+  /**
+   * Used to load a command from its section.
+   * @param name The name of the command.
+   * @param base The configuration path of the command, which is used for translations and tracing.
+   * @param section The {@link CommandSection} of the command.
+   * @param parent The parent command, or null if this is a root command.
+   * @return The loaded {@link CommandInformation}.
+   */
+  public CommandInformation loadCommand(String name, String base, CommandSection section, CommandInformation parent) {
+    final CommandTracer tracer = CommandsHandler.manager().getTracer();
+    if(tracer.enabled(TraceCategory.LOADING, TraceLevel.DEBUG)) {
+      tracer.trace(TraceCategory.LOADING, TraceLevel.DEBUG, "command", "name", name, "base", base);
+    }
+
+    CommandInformation commandInfo = new CommandInformation(name);
+
+    commandInfo.setParent(parent);
+
+    commandInfo.setAliases(CommandsHandler.manager().translate(base + ".Alias", Optional.empty(), section.getStringList("Alias")));
+
+    if(section.contains("Short")) {
+      commandInfo.setSubShort(section.getStringList("Short"));
+    }
+
+    if(lazy) {
+      final List<String> subShort = new ArrayList<>();
+      final CommandSection sub = section.getSection("Sub");
+
+      if(sub != null) {
+        for(String subName : sub.getKeys()) {
+          final CommandSection subSection = sub.getSection(subName);
+          if(subSection != null) subShort.addAll(subSection.getStringList("Short"));
+        }
+      }
+      commandInfo.setMaterializer(info->populate(info, name, base, section), subShort);
+      return commandInfo;
+    }
+    populate(commandInfo, name, base, section);
+    return commandInfo;
+  }
+
+  /**
+   * Used to load everything about a command other than its name, aliases and Short values.
+   * @param commandInfo The {@link CommandInformation} to load into.
+   * @param name The name of the command.
+   * @param base The configuration path of the command.
+   * @param section The {@link CommandSection} of the command.
+   */
+  private void populate(CommandInformation commandInfo, String name, String base, CommandSection section) {
+    final CommandTracer tracer = CommandsHandler.manager().getTracer();
+
+    commandInfo.setAuthor(section.getString("Author", "Magic"));
+    commandInfo.setPermission(section.getString("Permission", ""));
+    commandInfo.setConsole(section.getBool("Console", true));
+    commandInfo.setPlayer(section.getBool("Player", true));
+    commandInfo.setDeveloper(section.getBool("Developer", false));
+    commandInfo.setCooldown(section.getLong("Cooldown", 0));
+    commandInfo.setDescription(CommandsHandler.manager().translate(base + ".Description", Optional.empty(), section.getString("Description", "No description provided.")));
+    commandInfo.setExecutor(section.getString("Executor", "hello_exe"));
+    commandInfo.setCost(CostClass.find(section.getString("Cost", "light")).orElse(CostClass.LIGHT));
+    commandInfo.setAsync(section.getBool("Async", false));
+    commandInfo.setAsyncLimit(section.getInt("AsyncLimit", 1));
+    commandInfo.setAsyncQueue(section.getInt("AsyncQueue", 10));
+    commandInfo.setCacheTime(section.getInt("Cache.TTL", 0));
+    commandInfo.setCacheSender(section.getBool("Cache.Sender", false));
+    commandInfo.setAudit(section.getBool("Audit", false));
+
+    if(tracer.enabled(TraceCategory.LOADING, TraceLevel.TRACE)) {
+      tracer.trace(TraceCategory.LOADING, TraceLevel.TRACE, "information", "command", commandInfo);
+    }
+
+    commandInfo.addParameters(loadParameters(name, section));
+
+    final CommandSection sub = section.getSection("Sub");
+    if(sub != null) {
+      for(String subName : sub.getKeys()) {
+        final CommandSection subSection = sub.getSection(subName);
+        if(subSection == null) continue;
+
+        commandInfo.addSub(loadCommand(subName, base + ".Sub." + subName, subSection, commandInfo));
+      }
+    }
+  }
+
+  @Override
+  public LinkedList<CommandParameter> loadParameters(String command, String configBase) {
+    final CommandSection section = root().getSection(configBase);
+    if(section == null) return new LinkedList<>();
+
+    return loadParameters(command, section);
+  }
+
+  /**
+   * Used to load the parameters of a command from its section.
+   * @param command The name of the command.
+   * @param section The {@link CommandSection} of the command.
+   * @return The loaded parameters, in the order they appear in the configuration.
+   */
+  public LinkedList<CommandParameter> loadParameters(String command, CommandSection section) {
+    final CommandTracer tracer = CommandsHandler.manager().getTracer();
+    LinkedList<CommandParameter> parameters = new LinkedList<>();
+
+    final CommandSection params = section.getSection("Params");
+    if(params == null) return parameters;
+
+    for(String parameter : params.getKeys()) {
+
+      final CommandSection paramSection = params.getSection(parameter);
+      if(paramSection == null) continue;
+
+      CommandParameter param = new CommandParameter(parameter.toLowerCase());
+
+      param.setOrder(paramSection.getInt("Order", -1));
+
+      //Validation-related variables
+      final String type = paramSection.getString("Validation.Type", "string");
+      if(ParameterType.exists(type)) param.setType(type);
+
+      param.setMaxLength(paramSection.getInt("Validation.MaxLength", 0));
+      param.setUseRegex(paramSection.getBool("Validation.Regex.Use", false));
+
+      if(param.isUseRegex()) {
+        param.setRegex(paramSection.getString("Validation.Regex.Statement", ""));
+      }
+
+      //Our core param variables
+      param.setOptional(paramSection.getBool("Optional", true));
+      param.setTabComplete(paramSection.getBool("Complete", false));
+      param.setCompleteType(paramSection.getString("CompleteType", "Player"));
+
+      parameters.add(param);
+
+      if(tracer.enabled(TraceCategory.LOADING, TraceLevel.TRACE)) {
+        tracer.trace(TraceCategory.LOADING, TraceLevel.TRACE, "parameter", "command", command, "name", param.getName(),
+                     "type", param.getType(), "optional", param.isOptional());
+      }
+    }
+    return parameters;
+  }
+
+  @Override
+  public void loadCompleters() {
+    final CommandSection completion = root().getSection("Completion");
+    if(completion == null) return;
+
+    for(String completer : completion.getKeys()) {
+      final CommandSection section = completion.getSection(completer);
+      if(section == null) continue;
+
+      if(CommandsHandler.manager().getCompleters().containsKey(completer.toLowerCase())) {
+        TabCompleter completerObj = CommandsHandler.manager().getCompleters().get(completer.toLowerCase());
+        if(completerObj instanceof ConfigCompleter) {
+          ((ConfigCompleter)completerObj).setLimit(section.getInt("Limit", 5));
+        } else {
+          CommandsHandler.manager().getCompleters().put(completer.toLowerCase(), new ConfigCompleter(
+              completerObj,
+              completer,
+              section.getInt("Limit", 5)
+          ));
+        }
+        CommandsHandler.manager().getCompleters().put(completer.toLowerCase(), completerObj);
+      } else {
+        CommandsHandler.manager().getCompleters().put(completer.toLowerCase(), new ConfigCompleter(
+            (sender, search, argument)->new LinkedList<>(section.getStringList("Values")),
+            completer,
+            section.getInt("Limit", 5)
+        ));
+      }
+    }
+  }
+
+  @Override
+  public void loadRateLimits() {
+    final CommandSection section = root().getSection("RateLimit");
+    if(section == null) return;
+
+    final RateLimiter limiter = CommandsHandler.manager().getRateLimiter();
+    limiter.setEnabled(section.getBool("Enabled", false));
+
+    final CommandSection global = section.getSection("Global");
+    if(global != null) {
+      limiter.setGlobal(new RateLimitGroup("global",
+                                           global.getInt("Capacity", 10),
+                                           global.getInt("Refill", 5)));
+    }
+
+    final CommandSection complete = section.getSection("Complete");
+    if(complete != null) {
+      limiter.setComplete(new RateLimitGroup("complete",
+                                             complete.getInt("Capacity", 20),
+                                             complete.getInt("Refill", 10)));
+    }
+
+    final CommandSection groups = section.getSection("Groups");
+    if(groups != null) {
+      for(String group : groups.getKeys()) {
+        final CommandSection groupSection = groups.getSection(group);
+        if(groupSection == null) continue;
+
+        limiter.addGroup(new RateLimitGroup(group,
+                                            groupSection.getInt("Capacity", 5),
+                                            groupSection.getInt("Refill", 1)),
+                         groupSection.getStringList("Commands"),
+                         CommandsHandler.manager().getCommands());
+      }
+    }
+
+    final CommandSection heavy = section.getSection("HeavyHitters");
+    if(heavy != null) {
+      final LoadTracker load = CommandsHandler.manager().getLoad();
+      load.setEnabled(heavy.getBool("Enabled", false));
+      load.resize(heavy.getInt("Top", 20), heavy.getInt("Width", 2048));
+      load.setWindow(heavy.getInt("Window", 60) * 1000L);
+      load.setLimitShare(heavy.getInt("LimitPercent", 0) / 100.0);
+      load.setLimitMinimum(heavy.getInt("LimitMinimum", 100));
+    }
+  }
+
+  @Override
+  public void loadAdmission() {
+    final CommandSection section = root().getSection("Admission");
+    if(section == null) return;
+
+    final AdmissionController admission = CommandsHandler.manager().getAdmission();
+    admission.setEnabled(section.getBool("Enabled", false));
+    admission.setOverloaded(section.getInt("Overloaded", 55));
+    admission.setSevere(section.getInt("Severe", 80));
+    admission.setQueueLimit(section.getInt("QueueLimit", 100));
+    admission.setQueueDrain(section.getInt("QueueDrain", 5));
+    admission.setQueueTime(section.getInt("QueueTime", 30000));
+    admission.setBudgetWindow(section.getInt("Budget.Window", 1000));
+    admission.setBudgetTime(section.getInt("Budget.Time", 50));
+  }
+
+  @Override
+  public void loadAsync() {
+    final CommandSection section = root().getSection("AsyncPool");
+    if(section == null) return;
+
+    final AsyncDispatcher async = CommandsHandler.manager().getAsync();
+    async.setThreads(section.getInt("Threads", 4));
+    async.setVirtual(section.getBool("Virtual", true));
+  }
+
+  @Override
+  public void loadTrace() {
+    final CommandSection section = root().getSection("Trace");
+    if(section == null) return;
+
+    final CommandTracer tracer = CommandsHandler.manager().getTracer();
+    for(TraceCategory category : TraceCategory.values()) {
+      final String base = category.name().substring(0, 1) + category.name().substring(1).toLowerCase();
+
+      tracer.setLevel(category, TraceLevel.find(section.getString(base + ".Level", "off")).orElse(TraceLevel.OFF));
+      tracer.setSample(category, section.getInt(base + ".Sample", 1));
+    }
+  }
+
+  @Override
+  public void loadWatchdog() {
+    final CommandSection section = root().getSection("Watchdog");
+    if(section == null) return;
+
+    final CommandWatchdog watchdog = CommandsHandler.manager().getWatchdog();
+    watchdog.setEnabled(section.getBool("Enabled", false));
+    watchdog.setBudget(section.getInt("Budget", 50));
+    watchdog.setSampleInterval(section.getInt("SampleInterval", 5));
+    watchdog.setSamples(section.getInt("Samples", 10));
+    watchdog.setWindow(section.getInt("Window", 200));
+  }
+
+  @Override
+  public void loadMetrics() {
+    final CommandSection section = root().getSection("Metrics");
+    if(section == null) return;
+
+    final MetricsExporter exporter = CommandsHandler.manager().getExporter();
+    exporter.setEnabled(section.getBool("Enabled", false));
+    exporter.setJmx(section.getBool("JMX", true));
+    exporter.setFile(section.getString("Prometheus.File", "metrics.prom"));
+    exporter.setInterval(section.getInt("Prometheus.Interval", 15));
+  }
+
+  @Override
+  public void loadUsage() {
+    final CommandSection section = root().getSection("Usage");
+    if(section == null) return;
+
+    final UsageRecorder usage = CommandsHandler.manager().getUsage();
+    usage.setEnabled(section.getBool("Enabled", false));
+    usage.setFile(section.getString("File", "usage.dat"));
+    usage.setCapacity(section.getInt("Capacity", 1000000));
+    usage.setBufferSize(section.getInt("Buffer", 8192));
+  }
+
+  @Override
+  public void loadAudit() {
+    final CommandSection section = root().getSection("Audit");
+    if(section == null) return;
+
+    final AuditLog audit = CommandsHandler.manager().getAudit();
+    audit.setEnabled(section.getBool("Enabled", false));
+    audit.setFolder(section.getString("Folder", "audit"));
+    audit.setQueueLimit(section.getInt("QueueLimit", 10000));
+    audit.setPolicy(AuditPolicy.find(section.getString("Policy", "drop")).orElse(AuditPolicy.DROP));
+    audit.setBlockTime(section.getInt("BlockTime", 50));
+    audit.setBatchSize(section.getInt("BatchSize", 500));
+    audit.setFlushInterval(section.getInt("FlushInterval", 1000));
+    audit.setMaxSize(section.getInt("Rotate.MaxSize", 10));
+    audit.setMaxFiles(section.getInt("Rotate.MaxFiles", 30));
+  }
+
+  @Override
+  public void loadCapture() {
+    final CommandSection section = root().getSection("Capture");
+    if(section == null) return;
+
+    final CommandCapture capture = CommandsHandler.manager().getCapture();
+    capture.setEnabled(section.getBool("Enabled", false));
+    capture.setFile(section.getString("File", "capture.tncc"));
+    capture.setQueueLimit(section.getInt("QueueLimit", 100000));
+    capture.setMaxSize(section.getInt("MaxSize", 256));
+  }
+
+  @Override
+  public void loadSchedules() {
+    final CommandSection section = root().getSection("Schedules");
+    if(section == null) return;
+
+    final CommandSection tasks = section.getSection("Tasks");
+    if(tasks == null) return;
+
+    final CommandScheduler scheduler = CommandsHandler.instance().getScheduler();
+    scheduler.setCatchUp(CatchUp.find(section.getString("CatchUp", "once")).orElse(CatchUp.ONCE));
+
+    for(String task : tasks.getKeys()) {
+      final CommandSection taskSection = tasks.getSection(task);
+      if(taskSection == null) continue;
+
+      final String command = taskSection.getString("Command", "");
+      final CatchUp catchUp = CatchUp.find(taskSection.getString("CatchUp", "")).orElse(null);
+
+      if(taskSection.contains("Cron")) {
+        final String cron = taskSection.getString("Cron", "0 * * * *");
+
+        //A bad expression only skips its own task, so the rest of loading still happens.
+        try {
+          scheduler.schedule(task, command, cron, catchUp);
+        } catch(IllegalArgumentException e) {
+          CommandsHandler.manager().getPlatform().getLogger().warning("Unable to schedule " + task + ", invalid cron expression \"" + cron + "\": " + e.getMessage());
+        }
+      } else {
+        scheduler.schedule(task, command, taskSection.getInt("Delay", 0), taskSection.getInt("Period", 0), catchUp);
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package net.tnemc.commands.core.metrics;
+
+import net.tnemc.commands.core.CommandRejection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the latency histograms of every {@link Phase}, and the rejection counts of every
+ * {@link CommandRejection}, for a single command.
+ */
+public class CommandMetrics {
+
+  private final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+  private final AtomicLongArray rejections = new AtomicLongArray(CommandRejection.values().length);
+  private final LongAdder invocations = new LongAdder();
+
+  public CommandMetrics() {
+    for(int i = 0; i < phases.length; i++) {
+      phases[i] = new LatencyHistogram();
+    }
+  }
+
+  public void record(Phase phase, long nanos) {
+    phases[phase.ordinal()].record(nanos);
+  }
+
+  /**
+   * Used to count an invocation that passed every check, whether it ran on the main thread,
+   * asynchronously, in a batch or from the result cache.
+   */
+  public void invoke() {
+    invocations.increment();
+  }
+
+  public void reject(CommandRejection rejection) {
+    rejections.incrementAndGet(rejection.ordinal());
+  }
+
+  public long getInvocations() {
+    return invocations.sum();
+  }
+
+  public LatencyHistogram getHistogram(Phase phase) {
+    return phases[phase.ordinal()];
+  }
+
+  public long getRejections(CommandRejection rejection) {
+    return rejections.get(rejection.ordinal());
+  }
+
+  /**
+   * @return The total amount of rejections for every reason.
+   */
+  public long getRejections() {
+    long total = 0;
+    for(int i = 0; i < rejections.length(); i++) {
+      total += rejections.get(i);
+    }
+    return total;
+  }
+
+  /**
+   * @return True if anything has been recorded.
+   */
+  public boolean isUsed() {
+    for(LatencyHistogram histogram : phases) {
+      if(histogram.getCount() > 0) return true;
+    }
+    return invocations.sum() > 0 || getRejections() > 0;
+  }
+
+  public void reset() {
+    invocations.reset();
+    for(LatencyHistogram histogram : phases) {
+      histogram.reset();
+    }
+    for(int i = 0; i < rejections.length(); i++) {
+      rejections.set(i, 0);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package net.tnemc.commands.core.metrics;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandManager;
+import net.tnemc.commands.core.CommandRejection;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.cooldown.CooldownHandler;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sums the {@link CommandMetrics} of every registered command, and collects the cache and cooldown
+ * counters, for {@link MetricsExporter}. The command tree is only walked on the main thread, by
+ * {@link #snapshot()}, and the statistics are read from that snapshot on any thread.
+ */
+public class CommandStatistics implements CommandStatisticsMXBean {
+
+  private final CommandManager manager;
+
+  private volatile List<CommandInformation> nodes = Collections.emptyList();
+
+  public CommandStatistics(CommandManager manager) {
+    this.manager = manager;
+  }
+
+  /**
+   * Used to take a snapshot of the registered commands. This should be called on the main thread.
+   */
+  public void snapshot() {
+    nodes = Collections.unmodifiableList(manager.nodes());
+  }
+
+  /**
+   * @return The registered commands as of the last {@link #snapshot()}.
+   */
+  public List<CommandInformation> getNodes() {
+    return nodes;
+  }
+
+  @Override
+  public long getInvocations() {
+    long total = 0;
+    for(CommandInformation information : nodes) {
+      total += information.getMetrics().getInvocations();
+    }
+    return total;
+  }
+
+  @Override
+  public long getCompletions() {
+    long total = 0;
+    for(CommandInformation information : nodes) {
+      total += information.getMetrics().getHistogram(Phase.COMPLETE).getCount();
+    }
+    return total;
+  }
+
+  @Override
+  public Map<String, Long> getRejections() {
+    final Map<String, Long> rejections = new LinkedHashMap<>();
+
+    for(CommandRejection rejection : CommandRejection.values()) {
+      long total = manager.getMetrics().getRejections(rejection);
+
+      for(CommandInformation information : nodes) {
+        total += information.getMetrics().getRejections(rejection);
+      }
+      rejections.put(rejection.name().toLowerCase(), total);
+    }
+    return rejections;
+  }
+
+  @Override
+  public Map<String, Long> getCommandInvocations() {
+    final Map<String, Long> invocations = new LinkedHashMap<>();
+
+    for(CommandInformation information : nodes) {
+      invocations.merge(information.buildCommand(null), information.getMetrics().getInvocations(), Long::sum);
+    }
+    return invocations;
+  }
+
+  @Override
+  public long getCacheHits() {
+    return manager.getResultCache().getHits();
+  }
+
+  @Override
+  public long getCacheMisses() {
+    return manager.getResultCache().getMisses();
+  }
+
+  @Override
+  public double getCacheHitRate() {
+    return manager.getResultCache().getHitRate();
+  }
+
+  @Override
+  public int getRegisteredNodes() {
+    return nodes.size();
+  }
+
+  @Override
+  public int getCooldownPlayers() {
+    final CooldownHandler cooldowns = cooldowns();
+    return (cooldowns == null)? 0 : cooldowns.size();
+  }
+
+  @Override
+  public long getCooldownEntries() {
+    final CooldownHandler cooldowns = cooldowns();
+    return (cooldowns == null)? 0 : cooldowns.entries();
+  }
+
+  private CooldownHandler cooldowns() {
+    return (CommandsHandler.instance() == null)? null : CommandsHandler.instance().getCooldownHandler();
+  }
+}
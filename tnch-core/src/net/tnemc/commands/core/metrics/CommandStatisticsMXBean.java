@@ -0,0 +1,51 @@
+package net.tnemc.commands.core.metrics;
+
+import java.util.Map;
+
+/**
+ * The operational counters of TNCH, exported as a JMX MXBean under
+ * net.tnemc.commands:type=Commands,plugin=&lt;plugin name&gt;.
+ */
+public interface CommandStatisticsMXBean {
+
+  /**
+   * @return The amount of commands that passed every check and were executed.
+   */
+  long getInvocations();
+
+  /**
+   * @return The amount of tab completions.
+   */
+  long getCompletions();
+
+  /**
+   * @return The amount of rejections for each {@link net.tnemc.commands.core.CommandRejection}.
+   */
+  Map<String, Long> getRejections();
+
+  /**
+   * @return The amount of invocations of each command, keyed by command path.
+   */
+  Map<String, Long> getCommandInvocations();
+
+  long getCacheHits();
+
+  long getCacheMisses();
+
+  double getCacheHitRate();
+
+  /**
+   * @return The amount of registered commands and sub commands.
+   */
+  int getRegisteredNodes();
+
+  /**
+   * @return The amount of players with cooldown records.
+   */
+  int getCooldownPlayers();
+
+  /**
+   * @return The amount of active cooldown entries.
+   */
+  long getCooldownEntries();
+}
@@ -0,0 +1,119 @@
+package net.tnemc.commands.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free, allocation-free latency histogram. Values are counted in log-linear buckets, four
+ * per power of two, which keeps the relative error of any percentile under 25% over the full range
+ * of a long.
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BITS = 2;
+  private static final int SUB_BUCKETS = 1 << SUB_BITS;
+  private static final int BUCKETS = 256;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong max = new AtomicLong(0);
+  private final AtomicLong total = new AtomicLong(0);
+  private final AtomicLong sum = new AtomicLong(0);
+
+  /**
+   * Used to record a value.
+   * @param value The value in nanoseconds.
+   */
+  public void record(long value) {
+    if(value < 0) value = 0;
+
+    counts.incrementAndGet(index(value));
+    total.incrementAndGet();
+    sum.addAndGet(value);
+
+    long current;
+    while(value > (current = max.get())) {
+      if(max.compareAndSet(current, value)) break;
+    }
+  }
+
+  /**
+   * Used to add every value recorded by another histogram to this one.
+   * @param other The histogram to merge into this one.
+   */
+  public void merge(LatencyHistogram other) {
+    for(int i = 0; i < BUCKETS; i++) {
+      counts.addAndGet(i, other.counts.get(i));
+    }
+    total.addAndGet(other.total.get());
+    sum.addAndGet(other.sum.get());
+
+    final long value = other.max.get();
+    long current;
+    while(value > (current = max.get())) {
+      if(max.compareAndSet(current, value)) break;
+    }
+  }
+
+  /**
+   * @param quantile The quantile, between 0 and 1. For example 0.99 for the 99th percentile.
+   * @return The upper bound of the bucket containing the quantile, in nanoseconds.
+   */
+  public long percentile(double quantile) {
+    final long count = total.get();
+    if(count == 0) return 0;
+
+    final long rank = Math.max(1, (long)Math.ceil(quantile * count));
+    long seen = 0;
+
+    for(int i = 0; i < BUCKETS; i++) {
+      seen += counts.get(i);
+      if(seen >= rank) return Math.min(upper(i), max.get());
+    }
+    return max.get();
+  }
+
+  public long getCount() {
+    return total.get();
+  }
+
+  /**
+   * @return The sum of every recorded value, in nanoseconds.
+   */
+  public long getSum() {
+    return sum.get();
+  }
+
+  public long getMax() {
+    return max.get();
+  }
+
+  public void reset() {
+    for(int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    total.set(0);
+    sum.set(0);
+    max.set(0);
+  }
+
+  static int index(long value) {
+    if(value < SUB_BUCKETS) return (int)value;
+
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    final int sub = (int)((value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+    return ((exponent - SUB_BITS + 1) * SUB_BUCKETS) + sub;
+  }
+
+  static long lower(int index) {
+    if(index < SUB_BUCKETS) return index;
+
+    final int exponent = (index / SUB_BUCKETS) + SUB_BITS - 1;
+    final long sub = index % SUB_BUCKETS;
+    return (1L << exponent) | (sub << (exponent - SUB_BITS));
+  }
+
+  static long upper(int index) {
+    if(index + 1 >= BUCKETS) return Long.MAX_VALUE;
+    return lower(index + 1) - 1;
+  }
+}
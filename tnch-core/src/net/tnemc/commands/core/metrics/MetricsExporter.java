@@ -0,0 +1,238 @@
+package net.tnemc.commands.core.metrics;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandManager;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Used to export TNCH's {@link CommandStatistics} as a JMX MXBean, and as a Prometheus text file
+ * that's rewritten periodically so it can be read by node exporter's textfile collector. No
+ * network listener is opened.
+ * <p>
+ * The statistics are snapshotted on the main thread every interval, and the file is then written
+ * asynchronously from that snapshot.
+ */
+public class MetricsExporter implements Runnable {
+
+  private final CommandStatistics statistics;
+
+  private boolean enabled = false;
+  private boolean jmx = true;
+
+  //The Prometheus file, relative to the plugin's data folder. Empty disables the file.
+  private String file = "metrics.prom";
+
+  //How often, in seconds, the Prometheus file is written.
+  private int interval = 15;
+
+  private ObjectName name = null;
+  private Path path = null;
+  private PlatformTask task = null;
+  private CommandPlatform platform = null;
+  private Logger logger = null;
+
+  public MetricsExporter(CommandManager manager) {
+    this.statistics = new CommandStatistics(manager);
+  }
+
+  /**
+   * Used to register the MXBean and start writing the Prometheus file, if enabled.
+   * @param platform The {@link CommandPlatform} to schedule the writer with.
+   */
+  public void start(CommandPlatform platform) {
+    if(!enabled || task != null) return;
+
+    this.platform = platform;
+    logger = platform.getLogger();
+    statistics.snapshot();
+
+    if(jmx) {
+      try {
+        final ObjectName objectName = new ObjectName("net.tnemc.commands:type=Commands,plugin=" + ObjectName.quote(platform.getName()));
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        if(!server.isRegistered(objectName)) {
+          server.registerMBean(statistics, objectName);
+          name = objectName;
+        }
+      } catch(JMException e) {
+        platform.getLogger().warning("Unable to register the TNCH MXBean: " + e.getMessage());
+      }
+    }
+
+    if(!file.isEmpty()) {
+      path = new File(platform.getDataFolder(), file).toPath();
+    }
+    task = platform.runTimer(this, interval * 20L, interval * 20L);
+  }
+
+  /**
+   * Used to unregister the MXBean and stop writing the Prometheus file.
+   */
+  public void stop() {
+    if(name != null) {
+      try {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+      } catch(JMException ignore) {
+      }
+      name = null;
+    }
+
+    if(task != null) {
+      task.cancel();
+      task = null;
+      path = null;
+    }
+  }
+
+  /**
+   * Used to snapshot the statistics, and queue the Prometheus file to be written. This runs on the
+   * main thread every interval.
+   */
+  @Override
+  public void run() {
+    statistics.snapshot();
+
+    if(path != null) platform.runAsync(this::write);
+  }
+
+  /**
+   * Used to write the Prometheus file from the last snapshot.
+   */
+  public void write() {
+    final Path target = path;
+    if(target == null) return;
+
+    try {
+      Files.createDirectories(target.getParent());
+
+      //Write to a temporary file first, so the collector never reads a partial file.
+      final Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+      Files.write(temporary, prometheus().getBytes(StandardCharsets.UTF_8));
+
+      try {
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      } catch(AtomicMoveNotSupportedException e) {
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } catch(IOException e) {
+      logger.warning("Unable to write " + target.getFileName() + ": " + e.getMessage());
+    }
+  }
+
+  /**
+   * Used to build the Prometheus text exposition of the current statistics.
+   * @return The metrics in the Prometheus text format.
+   */
+  public String prometheus() {
+    final StringBuilder builder = new StringBuilder();
+
+    header(builder, "tnch_invocations_total", "counter", "Commands that passed every check and were executed.");
+    for(Map.Entry<String, Long> entry : statistics.getCommandInvocations().entrySet()) {
+      sample(builder, "tnch_invocations_total", "command", entry.getKey(), entry.getValue());
+    }
+
+    header(builder, "tnch_rejections_total", "counter", "Commands that were refused, by reason.");
+    for(Map.Entry<String, Long> entry : statistics.getRejections().entrySet()) {
+      sample(builder, "tnch_rejections_total", "reason", entry.getKey(), entry.getValue());
+    }
+
+    header(builder, "tnch_completions_total", "counter", "Tab completions.");
+    builder.append("tnch_completions_total ").append(statistics.getCompletions()).append('\n');
+
+    header(builder, "tnch_execute_seconds", "summary", "Main thread execution time of each command.");
+    for(CommandInformation information : statistics.getNodes()) {
+      final LatencyHistogram histogram = information.getMetrics().getHistogram(Phase.EXECUTE);
+      if(histogram.getCount() == 0) continue;
+
+      final String command = escape(information.buildCommand(null));
+      for(double quantile : new double[] { 0.5, 0.99 }) {
+        builder.append("tnch_execute_seconds{command=\"").append(command).append("\",quantile=\"").append(quantile)
+               .append("\"} ").append(histogram.percentile(quantile) / 1000000000.0).append('\n');
+      }
+      builder.append("tnch_execute_seconds_sum{command=\"").append(command).append("\"} ").append(histogram.getSum() / 1000000000.0).append('\n');
+      builder.append("tnch_execute_seconds_count{command=\"").append(command).append("\"} ").append(histogram.getCount()).append('\n');
+    }
+
+    header(builder, "tnch_cache_hits_total", "counter", "Result cache hits.");
+    builder.append("tnch_cache_hits_total ").append(statistics.getCacheHits()).append('\n');
+
+    header(builder, "tnch_cache_misses_total", "counter", "Result cache misses.");
+    builder.append("tnch_cache_misses_total ").append(statistics.getCacheMisses()).append('\n');
+
+    header(builder, "tnch_registered_nodes", "gauge", "Registered commands and sub commands.");
+    builder.append("tnch_registered_nodes ").append(statistics.getRegisteredNodes()).append('\n');
+
+    header(builder, "tnch_cooldown_players", "gauge", "Players with cooldown records.");
+    builder.append("tnch_cooldown_players ").append(statistics.getCooldownPlayers()).append('\n');
+
+    header(builder, "tnch_cooldown_entries", "gauge", "Active cooldown entries.");
+    builder.append("tnch_cooldown_entries ").append(statistics.getCooldownEntries()).append('\n');
+
+    return builder.toString();
+  }
+
+  private static void header(StringBuilder builder, String metric, String type, String help) {
+    builder.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+    builder.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+  }
+
+  private static void sample(StringBuilder builder, String metric, String label, String value, long count) {
+    builder.append(metric).append('{').append(label).append("=\"").append(escape(value)).append("\"} ").append(count).append('\n');
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+  public CommandStatistics getStatistics() {
+    return statistics;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isJmx() {
+    return jmx;
+  }
+
+  public void setJmx(boolean jmx) {
+    this.jmx = jmx;
+  }
+
+  public String getFile() {
+    return file;
+  }
+
+  public void setFile(String file) {
+    this.file = file;
+  }
+
+  public int getInterval() {
+    return interval;
+  }
+
+  public void setInterval(int interval) {
+    this.interval = Math.max(1, interval);
+  }
+}
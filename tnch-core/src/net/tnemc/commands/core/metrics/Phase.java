@@ -0,0 +1,18 @@
+package net.tnemc.commands.core.metrics;
+
+/**
+ * The phases of handling a command that are timed by {@link CommandMetrics}.
+ */
+public enum Phase {
+
+  //Finding the command, and any sub commands, from the label and arguments.
+  SEARCH,
+  //Cooldown, console/player, permission and developer checks.
+  CHECKS,
+  //Argument count and parameter validation.
+  VALIDATION,
+  //Running the command's executor.
+  EXECUTE,
+  //Tab completion.
+  COMPLETE
+}
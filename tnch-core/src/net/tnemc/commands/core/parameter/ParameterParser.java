@@ -0,0 +1,8 @@
+package net.tnemc.commands.core.parameter;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+public interface ParameterParser {
+
+  String parse(PlatformSender sender, String argument);
+}
\ No newline at end of file
@@ -1,17 +1,15 @@
 package net.tnemc.commands.core.parameter.parsers;
 
+import net.tnemc.commands.core.CommandsHandler;
 import net.tnemc.commands.core.parameter.ParameterParser;
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.command.CommandSender;
-import org.bukkit.entity.Player;
+import net.tnemc.commands.core.platform.PlatformSender;
 
 import java.util.LinkedList;
 import java.util.Random;
 
 public class PlayerParser implements ParameterParser {
   @Override
-  public String parse(CommandSender sender, String argument) {
+  public String parse(PlatformSender sender, String argument) {
     String parsed = argument;
 
     if(argument.startsWith("@")) {
@@ -19,19 +17,15 @@ public class PlayerParser implements ParameterParser {
 
       if(argument.equalsIgnoreCase("@a")) {
 
-        for(Player player : Bukkit.getOnlinePlayers()) {
-          players.add(ChatColor.stripColor(player.getDisplayName()));
-        }
+        players.addAll(CommandsHandler.manager().getPlatform().getOnlinePlayers());
         parsed = String.join(",", players);
       } else if(argument.equalsIgnoreCase("@r")) {
 
-        for(Player player : Bukkit.getOnlinePlayers()) {
-          players.add(ChatColor.stripColor(player.getDisplayName()));
-        }
+        players.addAll(CommandsHandler.manager().getPlatform().getOnlinePlayers());
 
         parsed = players.get(new Random().nextInt(players.size()));
-      } else if(argument.equalsIgnoreCase("@p") && sender instanceof Player) {
-        return ChatColor.stripColor(((Player)sender).getDisplayName());
+      } else if(argument.equalsIgnoreCase("@p") && sender.isPlayer()) {
+        return sender.getDisplayName();
       }
       players.clear();
     }
@@ -0,0 +1,106 @@
+package net.tnemc.commands.core.platform;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * The server services the dispatch engine relies on: scheduling, logging, storage, command
+ * registration and the online players. The engine only talks to the server through this and
+ * {@link PlatformSender}, so it can run on another platform or without a server at all.
+ * <p>
+ * Delays and periods are in ticks, where one tick is 50 milliseconds.
+ */
+public interface CommandPlatform {
+
+  /**
+   * @return The name used to identify the plugin, for example in the MXBean name.
+   */
+  String getName();
+
+  Logger getLogger();
+
+  /**
+   * @return The folder the plugin stores its files in.
+   */
+  File getDataFolder();
+
+  /**
+   * @return True if the current thread is the server's main thread.
+   */
+  boolean isPrimaryThread();
+
+  /**
+   * Used to run something on the main thread on the next tick.
+   * @param runnable The code to run.
+   * @return The scheduled {@link PlatformTask}.
+   */
+  PlatformTask runSync(Runnable runnable);
+
+  /**
+   * Used to run something off the main thread.
+   * @param runnable The code to run.
+   * @return The scheduled {@link PlatformTask}.
+   */
+  PlatformTask runAsync(Runnable runnable);
+
+  /**
+   * Used to run something on the main thread repeatedly.
+   * @param runnable The code to run.
+   * @param delay The delay, in ticks, before the first run.
+   * @param period The time, in ticks, between each run.
+   * @return The scheduled {@link PlatformTask}.
+   */
+  PlatformTask runTimer(Runnable runnable, long delay, long period);
+
+  /**
+   * Used to run something off the main thread repeatedly.
+   * @param runnable The code to run.
+   * @param delay The delay, in ticks, before the first run.
+   * @param period The time, in ticks, between each run.
+   * @return The scheduled {@link PlatformTask}.
+   */
+  PlatformTask runTimerAsync(Runnable runnable, long delay, long period);
+
+  /**
+   * Used to listen for players joining and leaving.
+   * @param listener The {@link ConnectionListener}.
+   * @return A {@link PlatformTask} that stops the listener when cancelled.
+   */
+  PlatformTask listen(ConnectionListener listener);
+
+  /**
+   * @return The names of the online players, without colours.
+   */
+  Collection<String> getOnlinePlayers();
+
+  /**
+   * @return The {@link UUID UUIDs} of the online players.
+   */
+  Collection<UUID> getOnlinePlayerIds();
+
+  /**
+   * @param player The {@link UUID} of the player.
+   * @return The last known name of the player, or an empty Optional if the player isn't known.
+   */
+  Optional<String> getPlayerName(UUID player);
+
+  /**
+   * @return The sender used to run commands as the console, for example scheduled commands.
+   */
+  PlatformSender getConsole();
+
+  /**
+   * Used to register a command label with the server, so its input reaches TNCH.
+   * @param label The label of the command.
+   */
+  void registerCommand(String label);
+
+  /**
+   * Used to remove a command label from the server.
+   * @param label The label of the command.
+   */
+  void unregisterCommand(String label);
+}
@@ -0,0 +1,13 @@
+package net.tnemc.commands.core.platform;
+
+import java.util.UUID;
+
+/**
+ * Used to hear about players joining and leaving, see {@link CommandPlatform#listen(ConnectionListener)}.
+ */
+public interface ConnectionListener {
+
+  void join(UUID player);
+
+  void quit(UUID player);
+}
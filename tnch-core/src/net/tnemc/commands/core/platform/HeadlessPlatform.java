@@ -0,0 +1,238 @@
+package net.tnemc.commands.core.platform;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * A {@link CommandPlatform} that doesn't need a server, used to run the dispatch engine in
+ * benchmarks and load tests. A single thread acts as the main thread, and ticks every 50
+ * milliseconds.
+ */
+public class HeadlessPlatform implements CommandPlatform {
+
+  private static final long TICK = 50;
+
+  private final Set<String> players = ConcurrentHashMap.newKeySet();
+  private final Map<UUID, String> ids = new ConcurrentHashMap<>();
+  private final CopyOnWriteArrayList<ConnectionListener> listeners = new CopyOnWriteArrayList<>();
+
+  private final String name;
+  private final File dataFolder;
+  private final Logger logger;
+
+  private final ScheduledExecutorService main;
+  private final ExecutorService async;
+  private final PlatformSender console;
+
+  private volatile Thread mainThread;
+
+  public HeadlessPlatform(String name, File dataFolder) {
+    this.name = name;
+    this.dataFolder = dataFolder;
+    this.logger = Logger.getLogger(name);
+
+    this.main = Executors.newSingleThreadScheduledExecutor(runnable->{
+      final Thread thread = new Thread(runnable, name + " Main");
+      thread.setDaemon(true);
+      mainThread = thread;
+      return thread;
+    });
+    this.async = Executors.newCachedThreadPool(runnable->{
+      final Thread thread = new Thread(runnable, name + " Async");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.console = new HeadlessConsole();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Logger getLogger() {
+    return logger;
+  }
+
+  @Override
+  public File getDataFolder() {
+    return dataFolder;
+  }
+
+  @Override
+  public boolean isPrimaryThread() {
+    return Thread.currentThread() == mainThread;
+  }
+
+  @Override
+  public PlatformTask runSync(Runnable runnable) {
+    return task(main.submit(runnable));
+  }
+
+  @Override
+  public PlatformTask runAsync(Runnable runnable) {
+    return task(async.submit(runnable));
+  }
+
+  @Override
+  public PlatformTask runTimer(Runnable runnable, long delay, long period) {
+    return task(main.scheduleAtFixedRate(runnable, delay * TICK, period(period), TimeUnit.MILLISECONDS));
+  }
+
+  @Override
+  public PlatformTask runTimerAsync(Runnable runnable, long delay, long period) {
+    //Asynchronous timers only schedule on the main thread, and run on the async pool.
+    return task(main.scheduleAtFixedRate(()->async.execute(runnable), delay * TICK, period(period), TimeUnit.MILLISECONDS));
+  }
+
+  @Override
+  public PlatformTask listen(ConnectionListener listener) {
+    listeners.add(listener);
+    return ()->listeners.remove(listener);
+  }
+
+  @Override
+  public Collection<String> getOnlinePlayers() {
+    return Collections.unmodifiableSet(players);
+  }
+
+  @Override
+  public Collection<UUID> getOnlinePlayerIds() {
+    return Collections.unmodifiableSet(ids.keySet());
+  }
+
+  @Override
+  public Optional<String> getPlayerName(UUID player) {
+    return Optional.ofNullable(ids.get(player));
+  }
+
+  @Override
+  public PlatformSender getConsole() {
+    return console;
+  }
+
+  @Override
+  public void registerCommand(String label) {
+  }
+
+  @Override
+  public void unregisterCommand(String label) {
+  }
+
+  /**
+   * Used to simulate a player joining, which tells every {@link ConnectionListener}.
+   * @param player The {@link UUID} of the player.
+   * @param name The name of the player.
+   */
+  public void join(UUID player, String name) {
+    ids.put(player, name);
+    players.add(name);
+
+    for(ConnectionListener listener : listeners) {
+      listener.join(player);
+    }
+  }
+
+  /**
+   * Used to simulate a player leaving, which tells every {@link ConnectionListener}.
+   * @param player The {@link UUID} of the player.
+   */
+  public void quit(UUID player) {
+    final String name = ids.remove(player);
+    if(name != null) players.remove(name);
+
+    for(ConnectionListener listener : listeners) {
+      listener.quit(player);
+    }
+  }
+
+  /**
+   * Used to run something on the main thread and wait for it to finish.
+   * @param runnable The code to run.
+   */
+  public void runAndWait(Runnable runnable) {
+    if(isPrimaryThread()) {
+      runnable.run();
+      return;
+    }
+
+    try {
+      main.submit(runnable).get();
+    } catch(Exception e) {
+      throw new IllegalStateException("Error while running on the main thread", e);
+    }
+  }
+
+  /**
+   * Used to stop the main thread and the async pool.
+   */
+  public void shutdown() {
+    main.shutdownNow();
+    async.shutdownNow();
+  }
+
+  public Set<String> getPlayers() {
+    return players;
+  }
+
+  private static PlatformTask task(Future<?> future) {
+    return ()->future.cancel(false);
+  }
+
+  /**
+   * Bukkit treats a period of 0 as a single tick, while scheduleAtFixedRate refuses it.
+   */
+  private static long period(long period) {
+    return Math.max(1, period) * TICK;
+  }
+
+  /**
+   * A console that has every permission, and logs the messages it's sent.
+   */
+  private class HeadlessConsole implements PlatformSender {
+
+    @Override
+    public String getName() {
+      return "CONSOLE";
+    }
+
+    @Override
+    public UUID getUniqueId() {
+      return null;
+    }
+
+    @Override
+    public boolean isPlayer() {
+      return false;
+    }
+
+    @Override
+    public boolean isConsole() {
+      return true;
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+      return true;
+    }
+
+    @Override
+    public void sendMessage(String message) {
+      logger.info(message);
+    }
+  }
+}
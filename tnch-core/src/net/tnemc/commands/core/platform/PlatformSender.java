@@ -0,0 +1,48 @@
+package net.tnemc.commands.core.platform;
+
+import java.util.UUID;
+
+/**
+ * Something that runs commands, such as a player or the console. Each {@link CommandPlatform}
+ * adapts its own senders to this, so the dispatch engine never sees the server's types.
+ */
+public interface PlatformSender {
+
+  String getName();
+
+  /**
+   * @return The name shown for this sender, without colours. This is the name used for selectors
+   * such as @p.
+   */
+  default String getDisplayName() {
+    return getName();
+  }
+
+  /**
+   * @return The {@link UUID} of this sender, or null if it doesn't have one, for example the console.
+   */
+  UUID getUniqueId();
+
+  /**
+   * @return True if this sender is a player, which is what cooldowns, rate limits and budgets apply to.
+   */
+  boolean isPlayer();
+
+  /**
+   * @return True if this sender is the server console.
+   */
+  default boolean isConsole() {
+    return false;
+  }
+
+  /**
+   * @return True if this sender is still connected. Senders that aren't players are always online.
+   */
+  default boolean isOnline() {
+    return true;
+  }
+
+  boolean hasPermission(String permission);
+
+  void sendMessage(String message);
+}
@@ -0,0 +1,13 @@
+package net.tnemc.commands.core.platform;
+
+/**
+ * A task scheduled through a {@link CommandPlatform}.
+ */
+@FunctionalInterface
+public interface PlatformTask {
+
+  /**
+   * Used to stop the task from running again.
+   */
+  void cancel();
+}
@@ -0,0 +1,34 @@
+package net.tnemc.commands.core.schedule;
+
+import java.util.Optional;
+
+/**
+ * Decides what happens to the runs of a {@link ScheduledCommand} that were missed because the
+ * server fell behind.
+ */
+public enum CatchUp {
+
+  //Missed runs are skipped.
+  NONE("none"),
+  //Missed runs are collapsed into a single run.
+  ONCE("once"),
+  //Every missed run is made up.
+  ALL("all");
+
+  private String name;
+
+  CatchUp(String name) {
+    this.name = name;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public static Optional<CatchUp> find(String name) {
+    for(CatchUp catchUp : values()) {
+      if(catchUp.name.equalsIgnoreCase(name)) return Optional.of(catchUp);
+    }
+    return Optional.empty();
+  }
+}
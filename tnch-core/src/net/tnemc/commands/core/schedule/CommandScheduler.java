@@ -0,0 +1,239 @@
+package net.tnemc.commands.core.schedule;
+
+import net.tnemc.commands.core.CommandRejection;
+import net.tnemc.commands.core.CommandSearchInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.regex.Pattern;
+
+/**
+ * Runs delayed, repeating and cron scheduled commands from a single {@link TimingWheel}, advanced
+ * once per tick. The wheel follows the wall clock, so runs missed while the server was behind are
+ * noticed and handled according to their {@link CatchUp} policy.
+ */
+public class CommandScheduler implements Runnable {
+
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  //The length of one wheel tick in milliseconds.
+  private static final long TICK = 50;
+
+  //The most cron runs counted when working out how many were missed.
+  private static final int MAX_MISSED = 1000;
+
+  private final TimingWheel<ScheduledCommand> wheel = new TimingWheel<>(512);
+  private final List<TimingWheel.Due<ScheduledCommand>> due = new ArrayList<>();
+  private final Map<String, ScheduledCommand> scheduled = new HashMap<>();
+
+  private final CommandsHandler handler;
+
+  private CatchUp catchUp = CatchUp.ONCE;
+  private long start = -1;
+  private PlatformTask task = null;
+
+  public CommandScheduler(CommandsHandler handler) {
+    this.handler = handler;
+  }
+
+  /**
+   * Used to schedule a command line to run after a delay, and optionally repeat.
+   * @param name The unique name of this schedule.
+   * @param line The command line to run, without a leading slash.
+   * @param delay The delay in ticks before the first run.
+   * @param period The period in ticks between runs, or 0 to only run once.
+   * @param catchUp The {@link CatchUp} policy, or null to use the default.
+   * @return The {@link ScheduledCommand}, or an empty Optional if the command couldn't be found.
+   */
+  public Optional<ScheduledCommand> schedule(String name, String line, long delay, long period, CatchUp catchUp) {
+    final Optional<ScheduledCommand> command = resolve(name, line, period, null, catchUp);
+
+    command.ifPresent(scheduledCommand->{
+      add(scheduledCommand);
+      scheduledCommand.setDeadline(wheel.schedule(scheduledCommand, delay));
+    });
+    return command;
+  }
+
+  /**
+   * Used to schedule a command line to run whenever a cron expression matches.
+   * @param name The unique name of this schedule.
+   * @param line The command line to run, without a leading slash.
+   * @param cron The five field {@link CronExpression cron expression}.
+   * @param catchUp The {@link CatchUp} policy, or null to use the default.
+   * @return The {@link ScheduledCommand}, or an empty Optional if the command couldn't be found.
+   */
+  public Optional<ScheduledCommand> schedule(String name, String line, String cron, CatchUp catchUp) {
+    final Optional<ScheduledCommand> command = resolve(name, line, 0, new CronExpression(cron), catchUp);
+
+    command.ifPresent(scheduledCommand->{
+      add(scheduledCommand);
+      scheduleCron(scheduledCommand, LocalDateTime.now());
+    });
+    return command;
+  }
+
+  /**
+   * Used to cancel a schedule.
+   * @param name The name of the schedule.
+   * @return True if a schedule was cancelled, otherwise false.
+   */
+  public boolean cancel(String name) {
+    final ScheduledCommand command = scheduled.remove(name);
+    if(command == null) return false;
+
+    command.setCancelled(true);
+    wheel.cancel(command, command.getDeadline());
+    return true;
+  }
+
+  @Override
+  public void run() {
+    wheel.advance((System.currentTimeMillis() - start) / TICK, due);
+
+    for(TimingWheel.Due<ScheduledCommand> entry : due) {
+      fire(entry.getEntry(), entry.getDeadline());
+    }
+    due.clear();
+  }
+
+  private void fire(ScheduledCommand command, long deadline) {
+    if(command.isCancelled()) return;
+
+    long missed = 0;
+
+    if(command.getCron() != null) {
+      final LocalDateTime now = LocalDateTime.now();
+
+      LocalDateTime next = command.getCron().next(command.getExpected());
+      while(next != null && !next.isAfter(now) && missed < MAX_MISSED) {
+        missed++;
+        next = command.getCron().next(next);
+      }
+      scheduleCron(command, now);
+
+    } else if(command.getPeriod() > 0) {
+      missed = (wheel.getTick() - deadline) / command.getPeriod();
+      command.setDeadline(wheel.schedule(command, deadline + ((missed + 1) * command.getPeriod()) - wheel.getTick()));
+
+    } else {
+      scheduled.remove(command.getName());
+    }
+
+    long runs = 1;
+    if(missed > 0) {
+      switch(command.getCatchUp()) {
+        case NONE:
+          runs = 0;
+          break;
+        case ALL:
+          runs = missed + 1;
+          break;
+        default:
+          break;
+      }
+    }
+
+    for(long i = 0; i < runs; i++) {
+      dispatch(command);
+    }
+  }
+
+  private void dispatch(ScheduledCommand command) {
+    final PlatformSender sender = handler.getManager().getPlatform().getConsole();
+
+    final Optional<CommandRejection> rejection = handler.check(sender, command.getInformation(), command.getArguments());
+    if(rejection.isPresent()) {
+      handler.getManager().getPlatform().getLogger().warning("Scheduled command " + command.getName() + " was rejected: " + rejection.get().name());
+      return;
+    }
+
+    try {
+      handler.execute(sender, command.getLabel(), command.getArguments(), command.getInformation());
+      command.addRun();
+    } catch(Exception e) {
+      handler.getManager().getPlatform().getLogger().log(Level.SEVERE, "Error while running scheduled command " + command.getName(), e);
+    }
+  }
+
+  private void scheduleCron(ScheduledCommand command, LocalDateTime now) {
+    final LocalDateTime next = command.getCron().next(now);
+
+    if(next == null) {
+      scheduled.remove(command.getName());
+      return;
+    }
+    command.setExpected(next);
+
+    final long delay = Duration.between(now, next).toMillis();
+    command.setDeadline(wheel.schedule(command, (delay + TICK - 1) / TICK));
+  }
+
+  private Optional<ScheduledCommand> resolve(String name, String line, long period, CronExpression cron, CatchUp catchUp) {
+    String text = line.trim();
+    if(text.startsWith("/")) text = text.substring(1);
+
+    final String[] split = WHITESPACE.split(text);
+    final String label = split[0].toLowerCase();
+
+    final Optional<CommandSearchInformation> search = handler.getManager().search(label, Arrays.copyOfRange(split, 1, split.length));
+    if(!search.isPresent() || !handler.getManager().getExecutors().containsKey(search.get().getInformation().get().getExecutor())) {
+      handler.getManager().getPlatform().getLogger().warning("Unable to schedule " + name + ", unknown command: " + line);
+      return Optional.empty();
+    }
+
+    return Optional.of(new ScheduledCommand(name, line, label, search.get().getArguments(), search.get().getInformation().get(),
+                                            period, cron,
+                                            (catchUp == null)? this.catchUp : catchUp));
+  }
+
+  private void add(ScheduledCommand command) {
+    cancel(command.getName());
+    scheduled.put(command.getName(), command);
+
+    if(start == -1) {
+      start = System.currentTimeMillis();
+      task = handler.getManager().getPlatform().runTimer(this, 1, 1);
+    }
+  }
+
+  /**
+   * Used to stop running scheduled commands. Every schedule is cancelled, and the wheel is reset so
+   * that commands scheduled afterwards run on time.
+   */
+  public void stop() {
+    if(start != -1) {
+      task.cancel();
+      task = null;
+      start = -1;
+    }
+
+    for(ScheduledCommand command : scheduled.values()) {
+      command.setCancelled(true);
+    }
+    scheduled.clear();
+    wheel.clear();
+  }
+
+  public Map<String, ScheduledCommand> getScheduled() {
+    return scheduled;
+  }
+
+  public CatchUp getCatchUp() {
+    return catchUp;
+  }
+
+  public void setCatchUp(CatchUp catchUp) {
+    this.catchUp = catchUp;
+  }
+}
@@ -0,0 +1,129 @@
+package net.tnemc.commands.core.schedule;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * A standard five field cron expression: minute, hour, day of month, month and day of week. Each
+ * field supports *, single values, ranges (a-b), steps (a-b/n, or a star followed by /n) and lists (a,b,c).
+ */
+public class CronExpression {
+
+  private final String expression;
+
+  private final BitSet minutes;
+  private final BitSet hours;
+  private final BitSet days;
+  private final BitSet months;
+  private final BitSet weekdays;
+
+  private final boolean anyDay;
+  private final boolean anyWeekday;
+
+  public CronExpression(String expression) {
+    this.expression = expression;
+
+    final String[] fields = expression.trim().split("\\s+");
+    if(fields.length != 5) {
+      throw new IllegalArgumentException("Cron expression must have five fields: " + expression);
+    }
+
+    minutes = parse(fields[0], 0, 59);
+    hours = parse(fields[1], 0, 23);
+    days = parse(fields[2], 1, 31);
+    months = parse(fields[3], 1, 12);
+    weekdays = parse(fields[4], 0, 7);
+
+    //Both 0 and 7 are Sunday.
+    if(weekdays.get(7)) weekdays.set(0);
+
+    anyDay = fields[2].equals("*");
+    anyWeekday = fields[4].equals("*");
+  }
+
+  /**
+   * Used to find the next time this expression matches.
+   * @param after The time to search from. The result is always after this.
+   * @return The next matching time, or null if none was found within four years.
+   */
+  public LocalDateTime next(LocalDateTime after) {
+    LocalDateTime time = after.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+    final LocalDateTime limit = time.plusYears(4);
+
+    while(time.isBefore(limit)) {
+      if(!months.get(time.getMonthValue())) {
+        time = time.withDayOfMonth(1).withHour(0).withMinute(0).plusMonths(1);
+        continue;
+      }
+
+      if(!matchesDay(time)) {
+        time = time.withHour(0).withMinute(0).plusDays(1);
+        continue;
+      }
+
+      if(!hours.get(time.getHour())) {
+        time = time.withMinute(0).plusHours(1);
+        continue;
+      }
+
+      if(!minutes.get(time.getMinute())) {
+        time = time.plusMinutes(1);
+        continue;
+      }
+      return time;
+    }
+    return null;
+  }
+
+  private boolean matchesDay(LocalDateTime time) {
+    final boolean day = days.get(time.getDayOfMonth());
+    final boolean weekday = weekdays.get(time.getDayOfWeek().getValue() % 7);
+
+    if(anyDay) return weekday;
+    if(anyWeekday) return day;
+    return day || weekday;
+  }
+
+  private static BitSet parse(String field, int min, int max) {
+    final BitSet values = new BitSet(max + 1);
+
+    for(String part : field.split(",")) {
+      int step = 1;
+      String range = part;
+
+      final int slash = part.indexOf('/');
+      if(slash != -1) {
+        step = Integer.parseInt(part.substring(slash + 1));
+        range = part.substring(0, slash);
+      }
+
+      int start;
+      int end;
+      if(range.equals("*")) {
+        start = min;
+        end = max;
+      } else if(range.contains("-")) {
+        final String[] bounds = range.split("-");
+        start = Integer.parseInt(bounds[0]);
+        end = Integer.parseInt(bounds[1]);
+      } else {
+        start = Integer.parseInt(range);
+        end = (slash != -1)? max : start;
+      }
+
+      if(start < min || end > max || start > end || step < 1) {
+        throw new IllegalArgumentException("Invalid cron field: " + field);
+      }
+
+      for(int i = start; i <= end; i += step) {
+        values.set(i);
+      }
+    }
+    return values;
+  }
+
+  public String getExpression() {
+    return expression;
+  }
+}
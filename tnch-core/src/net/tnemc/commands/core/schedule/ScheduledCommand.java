@@ -0,0 +1,108 @@
+package net.tnemc.commands.core.schedule;
+
+import net.tnemc.commands.core.CommandInformation;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents a command line scheduled with the {@link CommandScheduler}. The command is resolved
+ * once when it's scheduled, so each run goes straight to its {@link CommandInformation}.
+ */
+public class ScheduledCommand {
+
+  private final String name;
+  private final String line;
+
+  private final String label;
+  private final String[] arguments;
+  private final CommandInformation information;
+
+  //The period between runs in ticks, or 0 if this only runs once. Unused for cron schedules.
+  private final long period;
+  private final CronExpression cron;
+  private final CatchUp catchUp;
+
+  //The time the next cron run is expected at.
+  private LocalDateTime expected = null;
+  private long runs = 0;
+  private boolean cancelled = false;
+
+  //The wheel tick this command is next due on.
+  private long deadline = -1;
+
+  public ScheduledCommand(String name, String line, String label, String[] arguments, CommandInformation information,
+                          long period, CronExpression cron, CatchUp catchUp) {
+    this.name = name;
+    this.line = line;
+    this.label = label;
+    this.arguments = arguments;
+    this.information = information;
+    this.period = period;
+    this.cron = cron;
+    this.catchUp = catchUp;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getLine() {
+    return line;
+  }
+
+  public String getLabel() {
+    return label;
+  }
+
+  public String[] getArguments() {
+    return arguments;
+  }
+
+  public CommandInformation getInformation() {
+    return information;
+  }
+
+  public long getPeriod() {
+    return period;
+  }
+
+  public CronExpression getCron() {
+    return cron;
+  }
+
+  public CatchUp getCatchUp() {
+    return catchUp;
+  }
+
+  public LocalDateTime getExpected() {
+    return expected;
+  }
+
+  public void setExpected(LocalDateTime expected) {
+    this.expected = expected;
+  }
+
+  public long getRuns() {
+    return runs;
+  }
+
+  public void addRun() {
+    runs++;
+  }
+
+  public long getDeadline() {
+    return deadline;
+  }
+
+  public void setDeadline(long deadline) {
+    this.deadline = deadline;
+  }
+
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  public void setCancelled(boolean cancelled) {
+    this.cancelled = cancelled;
+  }
+}
@@ -0,0 +1,148 @@
+package net.tnemc.commands.core.schedule;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A hashed timing wheel. Entries are placed in the slot of their deadline, with a round count for
+ * deadlines further away than one rotation, so scheduling and firing are both constant time no
+ * matter how many entries are waiting.
+ * @param <T> The type of entry held in this wheel.
+ */
+public class TimingWheel<T> {
+
+  private final List<List<Slot<T>>> wheel;
+  private final int mask;
+
+  private long tick = 0;
+  private int size = 0;
+
+  /**
+   * @param slots The amount of slots in the wheel, rounded up to a power of two.
+   */
+  public TimingWheel(int slots) {
+    int capacity = 1;
+    while(capacity < slots) capacity <<= 1;
+
+    this.mask = capacity - 1;
+    this.wheel = new ArrayList<>(capacity);
+    for(int i = 0; i < capacity; i++) {
+      wheel.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * Used to add an entry to the wheel.
+   * @param entry The entry.
+   * @param delay The amount of ticks from the wheel's current tick until the entry is due.
+   * @return The tick the entry is due on.
+   */
+  public long schedule(T entry, long delay) {
+    final long deadline = tick + Math.max(1, delay);
+    final long rounds = (deadline - tick - 1) / wheel.size();
+
+    wheel.get((int)(deadline & mask)).add(new Slot<>(entry, deadline, rounds));
+    size++;
+    return deadline;
+  }
+
+  /**
+   * Used to remove an entry before it's due.
+   * @param entry The entry.
+   * @param deadline The tick the entry is due on, as returned by {@link #schedule(Object, long)}.
+   * @return True if the entry was removed, otherwise false.
+   */
+  public boolean cancel(T entry, long deadline) {
+    final Iterator<Slot<T>> it = wheel.get((int)(deadline & mask)).iterator();
+    while(it.hasNext()) {
+      final Slot<T> slot = it.next();
+
+      if(slot.entry == entry && slot.deadline == deadline) {
+        it.remove();
+        size--;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Used to remove every entry, and move the wheel back to tick 0.
+   */
+  public void clear() {
+    for(List<Slot<T>> slot : wheel) {
+      slot.clear();
+    }
+    tick = 0;
+    size = 0;
+  }
+
+  /**
+   * Used to advance the wheel to a tick, collecting every entry that became due on the way.
+   * @param target The tick to advance to.
+   * @param due The list to add due entries to, in the order they became due.
+   */
+  public void advance(long target, List<Due<T>> due) {
+    while(tick < target) {
+      tick++;
+
+      final Iterator<Slot<T>> it = wheel.get((int)(tick & mask)).iterator();
+      while(it.hasNext()) {
+        final Slot<T> slot = it.next();
+
+        if(slot.rounds > 0) {
+          slot.rounds--;
+          continue;
+        }
+        it.remove();
+        size--;
+        due.add(new Due<>(slot.entry, slot.deadline));
+      }
+    }
+  }
+
+  public long getTick() {
+    return tick;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static class Slot<T> {
+
+    private final T entry;
+    private final long deadline;
+    private long rounds;
+
+    Slot(T entry, long deadline, long rounds) {
+      this.entry = entry;
+      this.deadline = deadline;
+      this.rounds = rounds;
+    }
+  }
+
+  /**
+   * An entry that has become due, along with the tick it was due on.
+   * @param <T> The type of entry.
+   */
+  public static class Due<T> {
+
+    private final T entry;
+    private final long deadline;
+
+    Due(T entry, long deadline) {
+      this.entry = entry;
+      this.deadline = deadline;
+    }
+
+    public T getEntry() {
+      return entry;
+    }
+
+    public long getDeadline() {
+      return deadline;
+    }
+  }
+}
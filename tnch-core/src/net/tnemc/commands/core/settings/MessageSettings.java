@@ -14,4 +14,9 @@ public class MessageSettings {
   public static String console = "&4That command is only usable from the console.";
   public static String player = "&4That command is only usable from in-game";
   public static String invalidPermission = "&4You do not have permission to use that command.";
+  public static String rateLimited = "&4You're using commands too quickly.";
+  public static String overloaded = "&4The server is too busy to run that command right now.";
+  public static String deferred = "&6The server is busy, your command will run shortly.";
+  public static String budget = "&4You've used too much server time, please wait a moment.";
+  public static String busy = "&4That command is busy, please try again shortly.";
 }
\ No newline at end of file
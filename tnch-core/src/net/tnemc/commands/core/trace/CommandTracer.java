@@ -0,0 +1,111 @@
+package net.tnemc.commands.core.trace;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Logger;
+
+/**
+ * Used to trace what TNCH is doing without costing anything while tracing is off. Callers guard
+ * every event with {@link #enabled(TraceCategory, TraceLevel)} so no message is built unless it
+ * will be traced:
+ * <pre>
+ * if(tracer.enabled(TraceCategory.DISPATCH, TraceLevel.DEBUG)) {
+ *   tracer.trace(TraceCategory.DISPATCH, TraceLevel.DEBUG, "search", "label", label);
+ * }
+ * </pre>
+ */
+public class CommandTracer {
+
+  //Indexed by TraceCategory ordinal.
+  private final int[] levels = new int[TraceCategory.values().length];
+  private final int[] samples = new int[TraceCategory.values().length];
+  private final AtomicLongArray counters = new AtomicLongArray(TraceCategory.values().length);
+
+  private TraceListener listener;
+
+  public CommandTracer(Logger logger) {
+    this.listener = (category, level, event, fields)->logger.info(format(category, event, fields));
+
+    for(int i = 0; i < samples.length; i++) {
+      samples[i] = 1;
+    }
+  }
+
+  /**
+   * @param category The {@link TraceCategory} of the event.
+   * @param level The {@link TraceLevel} of the event.
+   * @return True if the event should be traced. When a sample rate is set only one in every that
+   * many events passing the level check returns true.
+   */
+  public boolean enabled(final TraceCategory category, final TraceLevel level) {
+    final int index = category.ordinal();
+    if(levels[index] < level.ordinal()) return false;
+
+    return samples[index] <= 1 || counters.incrementAndGet(index) % samples[index] == 0;
+  }
+
+  /**
+   * Used to pass an event to the {@link TraceListener}. This should only be called once
+   * {@link #enabled(TraceCategory, TraceLevel)} has returned true.
+   * @param category The {@link TraceCategory} of the event.
+   * @param level The {@link TraceLevel} of the event.
+   * @param event The name of the event.
+   * @param fields The fields of the event, as alternating keys and values.
+   */
+  public void trace(TraceCategory category, TraceLevel level, String event, Object... fields) {
+    listener.trace(category, level, event, fields);
+  }
+
+  /**
+   * Used to format an event as a single line, such as "[TNCH/dispatch] search label=hello".
+   * @param category The {@link TraceCategory} of the event.
+   * @param event The name of the event.
+   * @param fields The fields of the event, as alternating keys and values.
+   * @return The formatted event.
+   */
+  public static String format(TraceCategory category, String event, Object... fields) {
+    final StringBuilder builder = new StringBuilder("[TNCH/").append(category.name().toLowerCase()).append("] ").append(event);
+
+    for(int i = 0; i + 1 < fields.length; i += 2) {
+      builder.append(' ').append(fields[i]).append('=').append(fields[i + 1]);
+    }
+    return builder.toString();
+  }
+
+  public TraceLevel getLevel(TraceCategory category) {
+    return TraceLevel.values()[levels[category.ordinal()]];
+  }
+
+  public void setLevel(TraceCategory category, TraceLevel level) {
+    levels[category.ordinal()] = level.ordinal();
+  }
+
+  /**
+   * Used to set the level of every {@link TraceCategory}.
+   * @param level The {@link TraceLevel} to use.
+   */
+  public void setLevel(TraceLevel level) {
+    for(TraceCategory category : TraceCategory.values()) {
+      setLevel(category, level);
+    }
+  }
+
+  public int getSample(TraceCategory category) {
+    return samples[category.ordinal()];
+  }
+
+  /**
+   * @param category The {@link TraceCategory} to sample.
+   * @param sample Trace one in every this many events, 1 traces every event.
+   */
+  public void setSample(TraceCategory category, int sample) {
+    samples[category.ordinal()] = Math.max(1, sample);
+  }
+
+  public TraceListener getListener() {
+    return listener;
+  }
+
+  public void setListener(TraceListener listener) {
+    this.listener = listener;
+  }
+}
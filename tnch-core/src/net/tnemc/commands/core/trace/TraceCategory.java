@@ -0,0 +1,21 @@
+package net.tnemc.commands.core.trace;
+
+import java.util.Optional;
+
+/**
+ * The part of TNCH a trace event comes from.
+ */
+public enum TraceCategory {
+
+  DISPATCH,
+  VALIDATION,
+  COMPLETION,
+  LOADING;
+
+  public static Optional<TraceCategory> find(String name) {
+    for(TraceCategory category : values()) {
+      if(category.name().equalsIgnoreCase(name)) return Optional.of(category);
+    }
+    return Optional.empty();
+  }
+}
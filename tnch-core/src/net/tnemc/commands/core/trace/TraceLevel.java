@@ -0,0 +1,21 @@
+package net.tnemc.commands.core.trace;
+
+import java.util.Optional;
+
+/**
+ * The verbosity of a trace event. A category traces every event at or below its configured level.
+ */
+public enum TraceLevel {
+
+  OFF,
+  INFO,
+  DEBUG,
+  TRACE;
+
+  public static Optional<TraceLevel> find(String name) {
+    for(TraceLevel level : values()) {
+      if(level.name().equalsIgnoreCase(name)) return Optional.of(level);
+    }
+    return Optional.empty();
+  }
+}
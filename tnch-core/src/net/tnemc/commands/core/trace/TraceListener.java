@@ -0,0 +1,17 @@
+package net.tnemc.commands.core.trace;
+
+/**
+ * Receives the trace events that pass their category's level and sampling.
+ */
+@FunctionalInterface
+public interface TraceListener {
+
+  /**
+   * Called when an event is traced.
+   * @param category The {@link TraceCategory} of the event.
+   * @param level The {@link TraceLevel} of the event.
+   * @param event The name of the event.
+   * @param fields The fields of the event, as alternating keys and values.
+   */
+  void trace(TraceCategory category, TraceLevel level, String event, Object... fields);
+}
@@ -0,0 +1,106 @@
+package net.tnemc.commands.core.usage;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, lock-free, multiple producer and single consumer buffer of usage records. The fields
+ * are kept in parallel arrays, so offering a record doesn't allocate. Records are dropped when the
+ * buffer is full rather than blocking the thread running the command.
+ */
+public class UsageBuffer {
+
+  private final int mask;
+
+  private final long[] timestamps;
+  private final int[] nodes;
+  private final int[] senders;
+  private final int[] latencies;
+  private final byte[] outcomes;
+
+  //The sequence each slot was published with, or -1 while it's being written.
+  private final AtomicLongArray published;
+
+  private final AtomicLong head = new AtomicLong(0);
+  private volatile long tail = 0;
+
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * @param capacity The amount of records the buffer holds, rounded up to a power of two.
+   */
+  public UsageBuffer(int capacity) {
+    int size = 1;
+    while(size < capacity) size <<= 1;
+
+    mask = size - 1;
+    timestamps = new long[size];
+    nodes = new int[size];
+    senders = new int[size];
+    latencies = new int[size];
+    outcomes = new byte[size];
+
+    published = new AtomicLongArray(size);
+    for(int i = 0; i < size; i++) {
+      published.set(i, -1);
+    }
+  }
+
+  /**
+   * Used to add a record to the buffer.
+   * @return True if the record was added, or false if the buffer was full.
+   */
+  public boolean offer(long timestamp, int node, int sender, int latency, byte outcome) {
+    long sequence;
+    do {
+      sequence = head.get();
+
+      if(sequence - tail > mask) {
+        dropped.increment();
+        return false;
+      }
+    } while(!head.compareAndSet(sequence, sequence + 1));
+
+    final int slot = (int)(sequence & mask);
+    timestamps[slot] = timestamp;
+    nodes[slot] = node;
+    senders[slot] = sender;
+    latencies[slot] = latency;
+    outcomes[slot] = outcome;
+    published.set(slot, sequence);
+    return true;
+  }
+
+  /**
+   * Used to remove every published record from the buffer. This must only be called from one
+   * thread at a time.
+   * @param consumer The consumer to pass each record to.
+   * @return The amount of records drained.
+   */
+  public int drain(Consumer consumer) {
+    long sequence = tail;
+    int drained = 0;
+
+    while(true) {
+      final int slot = (int)(sequence & mask);
+      if(published.get(slot) != sequence) break;
+
+      consumer.accept(timestamps[slot], nodes[slot], senders[slot], latencies[slot], outcomes[slot]);
+      published.set(slot, -1);
+
+      sequence++;
+      drained++;
+      tail = sequence;
+    }
+    return drained;
+  }
+
+  public long getDropped() {
+    return dropped.sum();
+  }
+
+  public interface Consumer {
+    void accept(long timestamp, int node, int sender, int latency, byte outcome);
+  }
+}
@@ -0,0 +1,74 @@
+package net.tnemc.commands.core.usage;
+
+import net.tnemc.commands.core.CommandRejection;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The binary layout of the usage ring file.
+ * <p>
+ * The file starts with a {@link #HEADER_SIZE} byte header: a magic int, a version int, the capacity
+ * in records as an int, a padding int and the total amount of records ever written as a long. The
+ * records follow, each {@link #RECORD_SIZE} bytes: the timestamp in milliseconds as a long, the
+ * node id, the sender hash and the latency in microseconds as ints, and the outcome as a byte.
+ * Record n is stored at slot n % capacity, so the oldest records are overwritten.
+ * <p>
+ * Node ids are assigned in order and kept in the "id=command" dictionary file next to the ring
+ * file, so the same command keeps its id across restarts.
+ */
+public final class UsageRecord {
+
+  public static final int MAGIC = 0x544E4348;
+  public static final int VERSION = 1;
+
+  public static final int HEADER_SIZE = 24;
+  public static final int RECORD_SIZE = 24;
+
+  public static final int POSITION_OFFSET = 16;
+
+  public static final byte COMPLETED = 0;
+  public static final byte FAILED = 1;
+
+  //The executor threw an exception.
+  public static final byte ERROR = -1;
+
+  private UsageRecord() {
+  }
+
+  /**
+   * @param rejection The {@link CommandRejection} to encode.
+   * @return The outcome byte for the rejection.
+   */
+  public static byte rejected(CommandRejection rejection) {
+    return (byte)(2 + rejection.getCode());
+  }
+
+  /**
+   * @param outcome The outcome byte of a record.
+   * @return A readable name for the outcome.
+   */
+  public static String outcome(byte outcome) {
+    if(outcome == COMPLETED) return "completed";
+    if(outcome == FAILED) return "failed";
+    if(outcome == ERROR) return "error";
+
+    final CommandRejection rejection = CommandRejection.fromCode(outcome - 2);
+    return (rejection == null)? "unknown" : rejection.name().toLowerCase();
+  }
+
+  /**
+   * @param slot The slot of a record.
+   * @return The offset of the record's slot in the file.
+   */
+  public static long offset(long slot) {
+    return HEADER_SIZE + (slot * RECORD_SIZE);
+  }
+
+  public static void write(ByteBuffer buffer, int offset, long timestamp, int node, int sender, int latency, byte outcome) {
+    buffer.putLong(offset, timestamp);
+    buffer.putInt(offset + 8, node);
+    buffer.putInt(offset + 12, sender);
+    buffer.putInt(offset + 16, latency);
+    buffer.put(offset + 20, outcome);
+  }
+}
@@ -0,0 +1,243 @@
+package net.tnemc.commands.core.usage;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformSender;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * Used to record every command invocation as a compact binary {@link UsageRecord}. Records are
+ * offered to a lock-free {@link UsageBuffer} by the thread running the command, and written into a
+ * memory-mapped ring file by an asynchronous task. Node ids are assigned in order and written to a
+ * dictionary file next to the ring file, so {@link UsageRollup} can aggregate the records offline.
+ */
+public class UsageRecorder implements Runnable {
+
+  private final ConcurrentHashMap<CommandInformation, Integer> ids = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, Integer> paths = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<String> dictionary = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger nextId = new AtomicInteger(0);
+
+  private boolean enabled = false;
+  private String file = "usage.dat";
+  private int capacity = 1000000;
+  private int bufferSize = 8192;
+
+  private volatile UsageBuffer buffer = null;
+  private FileChannel channel = null;
+  private MappedByteBuffer mapped = null;
+  private Path dictionaryPath = null;
+  private PlatformTask task = null;
+  private Logger logger = null;
+  private long position = 0;
+
+  /**
+   * Used to record a command invocation. This does nothing unless the recorder has been started.
+   * @param information The {@link CommandInformation} of the command.
+   * @param sender The {@link PlatformSender} that ran the command.
+   * @param outcome The outcome, see {@link UsageRecord}.
+   * @param nanos The latency of the command in nanoseconds.
+   */
+  public void record(CommandInformation information, PlatformSender sender, byte outcome, long nanos) {
+    final UsageBuffer current = buffer;
+    if(current == null) return;
+
+    final int hash = (sender != null && sender.isPlayer())? sender.getUniqueId().hashCode() : 0;
+    final int latency = (int)Math.min(Integer.MAX_VALUE, nanos / 1000);
+
+    current.offer(System.currentTimeMillis(), id(information), hash, latency, outcome);
+  }
+
+  /**
+   * Used to open the ring file and start writing records, if enabled.
+   * @param platform The {@link CommandPlatform} to schedule the writer with.
+   */
+  public void start(CommandPlatform platform) {
+    if(!enabled || buffer != null) return;
+
+    logger = platform.getLogger();
+
+    final File target = new File(platform.getDataFolder(), file);
+    try {
+      open(target.toPath());
+    } catch(IOException e) {
+      platform.getLogger().warning("Unable to open the usage file " + target.getName() + ": " + e.getMessage());
+      return;
+    }
+
+    dictionaryPath = new File(platform.getDataFolder(), file + ".nodes").toPath();
+    try {
+      readDictionary();
+    } catch(IOException e) {
+      platform.getLogger().warning("Unable to read the usage node dictionary: " + e.getMessage());
+      return;
+    }
+    buffer = new UsageBuffer(bufferSize);
+    task = platform.runTimerAsync(this, 20, 20);
+  }
+
+  /**
+   * Used to write any buffered records and close the ring file.
+   */
+  public synchronized void stop() {
+    if(buffer == null) return;
+
+    task.cancel();
+    task = null;
+    run();
+    buffer = null;
+
+    mapped.force();
+    try {
+      channel.close();
+    } catch(IOException ignore) {
+    }
+  }
+
+  /**
+   * Writes every buffered record into the ring file. This runs asynchronously every second.
+   */
+  @Override
+  public synchronized void run() {
+    final UsageBuffer current = buffer;
+    if(current == null) return;
+
+    final int drained = current.drain((timestamp, node, sender, latency, outcome)->{
+      UsageRecord.write(mapped, (int)UsageRecord.offset(position % capacity), timestamp, node, sender, latency, outcome);
+      position++;
+    });
+
+    if(drained > 0) {
+      mapped.putLong(UsageRecord.POSITION_OFFSET, position);
+    }
+    writeDictionary();
+  }
+
+  private void open(Path path) throws IOException {
+    Files.createDirectories(path.getParent());
+
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+    final long size = UsageRecord.offset(capacity);
+    final boolean existing = channel.size() >= UsageRecord.HEADER_SIZE;
+
+    mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size()));
+    mapped.order(ByteOrder.BIG_ENDIAN);
+
+    if(existing && mapped.getInt(0) == UsageRecord.MAGIC && mapped.getInt(8) == capacity) {
+      position = mapped.getLong(UsageRecord.POSITION_OFFSET);
+      return;
+    }
+
+    //A new file, or one written with a different capacity, is started again.
+    mapped.putInt(0, UsageRecord.MAGIC);
+    mapped.putInt(4, UsageRecord.VERSION);
+    mapped.putInt(8, capacity);
+    mapped.putInt(12, 0);
+    mapped.putLong(UsageRecord.POSITION_OFFSET, 0);
+    position = 0;
+  }
+
+  private int id(CommandInformation information) {
+    final Integer id = ids.get(information);
+    if(id != null) return id;
+
+    return ids.computeIfAbsent(information, k->paths.computeIfAbsent(information.buildCommand(null), path->{
+      final int next = nextId.getAndIncrement();
+      dictionary.add(next + "=" + path);
+      return next;
+    }));
+  }
+
+  /**
+   * Used to load the ids assigned by previous runs, so each command keeps its id.
+   */
+  private void readDictionary() throws IOException {
+    if(!Files.exists(dictionaryPath)) return;
+
+    for(String line : Files.readAllLines(dictionaryPath, StandardCharsets.UTF_8)) {
+      final int split = line.indexOf('=');
+      if(split <= 0) continue;
+
+      try {
+        final int id = Integer.parseInt(line.substring(0, split));
+
+        paths.putIfAbsent(line.substring(split + 1), id);
+        if(id >= nextId.get() && id < Integer.MAX_VALUE) nextId.set(id + 1);
+      } catch(NumberFormatException ignore) {
+      }
+    }
+  }
+
+  private void writeDictionary() {
+    if(dictionary.isEmpty()) return;
+
+    final List<String> lines = new ArrayList<>();
+    String line;
+    while((line = dictionary.poll()) != null) {
+      lines.add(line);
+    }
+
+    try {
+      Files.write(dictionaryPath, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch(IOException e) {
+      logger.warning("Unable to write the usage node dictionary: " + e.getMessage());
+    }
+  }
+
+  /**
+   * @return The amount of records dropped because the buffer was full.
+   */
+  public long getDropped() {
+    return (buffer == null)? 0 : buffer.getDropped();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String getFile() {
+    return file;
+  }
+
+  public void setFile(String file) {
+    this.file = file;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public void setCapacity(int capacity) {
+    //The ring file is mapped as a single buffer, so it must stay under 2GB.
+    this.capacity = Math.max(1, Math.min(capacity, (Integer.MAX_VALUE - UsageRecord.HEADER_SIZE) / UsageRecord.RECORD_SIZE));
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  public void setBufferSize(int bufferSize) {
+    this.bufferSize = Math.max(1, bufferSize);
+  }
+}
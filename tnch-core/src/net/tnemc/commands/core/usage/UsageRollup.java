@@ -0,0 +1,215 @@
+package net.tnemc.commands.core.usage;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An offline tool that aggregates a usage ring file written by {@link UsageRecorder} into daily
+ * statistics per command, written as CSV. It doesn't need a running server:
+ * <pre>
+ * java -cp TNCH.jar net.tnemc.commands.core.usage.UsageRollup plugins/MyPlugin/usage.dat [output.csv]
+ * </pre>
+ */
+public final class UsageRollup {
+
+  private UsageRollup() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if(args.length < 1) {
+      System.err.println("Usage: UsageRollup <usage file> [output csv]");
+      System.exit(1);
+      return;
+    }
+
+    final Path file = Paths.get(args[0]);
+    final Map<Integer, String> names = names(Paths.get(args[0] + ".nodes"));
+    final Map<String, DailyStats> stats = rollup(file);
+
+    if(args.length > 1) {
+      try(PrintStream out = new PrintStream(Files.newOutputStream(Paths.get(args[1])), false, "UTF-8")) {
+        print(out, stats, names);
+      }
+    } else {
+      print(System.out, stats, names);
+    }
+  }
+
+  /**
+   * Used to aggregate every record in a usage ring file.
+   * @param file The usage ring file.
+   * @return The stats of each day and node, keyed by "date,node id" and sorted.
+   * @throws IOException If the file couldn't be read or isn't a usage file.
+   */
+  public static Map<String, DailyStats> rollup(Path file) throws IOException {
+    final Map<String, DailyStats> stats = new TreeMap<>();
+
+    try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      mapped.order(ByteOrder.BIG_ENDIAN);
+
+      if(mapped.getInt(0) != UsageRecord.MAGIC) throw new IOException(file + " isn't a usage file.");
+
+      final int capacity = mapped.getInt(8);
+      final long position = mapped.getLong(UsageRecord.POSITION_OFFSET);
+      final long first = Math.max(0, position - capacity);
+
+      for(long record = first; record < position; record++) {
+        final int offset = (int)UsageRecord.offset(record % capacity);
+
+        final long timestamp = mapped.getLong(offset);
+        final int node = mapped.getInt(offset + 8);
+        final int sender = mapped.getInt(offset + 12);
+        final int latency = mapped.getInt(offset + 16);
+        final byte outcome = mapped.get(offset + 20);
+
+        final LocalDate date = Instant.ofEpochMilli(timestamp).atZone(ZoneOffset.UTC).toLocalDate();
+        stats.computeIfAbsent(date + "," + node, k->new DailyStats(date, node)).add(sender, latency, outcome);
+      }
+    }
+    return stats;
+  }
+
+  private static Map<Integer, String> names(Path dictionary) throws IOException {
+    final Map<Integer, String> names = new HashMap<>();
+    if(!Files.exists(dictionary)) return names;
+
+    for(String line : Files.readAllLines(dictionary, StandardCharsets.UTF_8)) {
+      final int split = line.indexOf('=');
+      if(split <= 0) continue;
+
+      try {
+        names.put(Integer.parseInt(line.substring(0, split)), line.substring(split + 1));
+      } catch(NumberFormatException ignore) {
+      }
+    }
+    return names;
+  }
+
+  private static void print(PrintStream out, Map<String, DailyStats> stats, Map<Integer, String> names) {
+    out.println("date,command,invocations,senders,completed,failed,errors,rejected,top_rejection,avg_latency_ms,max_latency_ms");
+
+    for(DailyStats day : stats.values()) {
+      out.println(day.date + "," + csv(names.getOrDefault(day.node, String.valueOf(day.node))) + "," + day.count + ","
+                      + day.senders.size() + "," + day.completed + "," + day.failed + "," + day.errors + "," + day.rejected + ","
+                      + day.topRejection() + "," + String.format("%.3f", day.averageLatency()) + ","
+                      + String.format("%.3f", day.maxLatency / 1000.0));
+    }
+  }
+
+  /**
+   * Used to quote a CSV field if it contains a comma, quote or line break.
+   * @param value The field.
+   * @return The field, quoted if needed.
+   */
+  static String csv(String value) {
+    if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) return value;
+
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  /**
+   * The aggregated usage of one command on one day.
+   */
+  public static class DailyStats {
+
+    private final LocalDate date;
+    private final int node;
+
+    private final Set<Integer> senders = new HashSet<>();
+    private final Map<Byte, Long> rejections = new HashMap<>();
+
+    private long count = 0;
+    private long completed = 0;
+    private long failed = 0;
+    private long errors = 0;
+    private long rejected = 0;
+    private long totalLatency = 0;
+    private long maxLatency = 0;
+
+    DailyStats(LocalDate date, int node) {
+      this.date = date;
+      this.node = node;
+    }
+
+    void add(int sender, int latency, byte outcome) {
+      count++;
+      senders.add(sender);
+
+      if(outcome == UsageRecord.COMPLETED) {
+        completed++;
+      } else if(outcome == UsageRecord.FAILED) {
+        failed++;
+      } else if(outcome == UsageRecord.ERROR) {
+        errors++;
+      } else {
+        rejected++;
+        rejections.merge(outcome, 1L, Long::sum);
+      }
+
+      totalLatency += latency;
+      maxLatency = Math.max(maxLatency, latency);
+    }
+
+    String topRejection() {
+      byte top = -1;
+      long most = 0;
+
+      for(Map.Entry<Byte, Long> entry : rejections.entrySet()) {
+        if(entry.getValue() > most) {
+          most = entry.getValue();
+          top = entry.getKey();
+        }
+      }
+      return (top == -1)? "" : UsageRecord.outcome(top);
+    }
+
+    double averageLatency() {
+      return (count == 0)? 0 : (totalLatency / (double)count) / 1000.0;
+    }
+
+    public LocalDate getDate() {
+      return date;
+    }
+
+    public int getNode() {
+      return node;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getCompleted() {
+      return completed;
+    }
+
+    public long getFailed() {
+      return failed;
+    }
+
+    public long getErrors() {
+      return errors;
+    }
+
+    public long getRejected() {
+      return rejected;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package net.tnemc.commands.core.utils;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class ColourFormatter {
+
+  //The section sign Minecraft uses to start a colour code, which Bukkit calls ChatColor.COLOR_CHAR.
+  public static final char COLOUR_CHAR = '\u00A7';
+
+  private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+  private static final Pattern STRIP = Pattern.compile("(?i)" + COLOUR_CHAR + "[0-9A-FK-ORX]");
+
+  public static final Map<String, String> colours;
+  static {
+    colours = new HashMap<>();
+    //Colour Characters
+    colours.put("<aqua>", code('b'));
+    colours.put("<black>", code('0'));
+    colours.put("<blue>", code('9'));
+    colours.put("<dark_aqua>", code('3'));
+    colours.put("<dark_blue>", code('1'));
+    colours.put("<dark_gray>", code('7'));
+    colours.put("<dark_grey>", code('7'));
+    colours.put("<dark_green>", code('2'));
+    colours.put("<dark_purple>", code('5'));
+    colours.put("<dark_red>", code('4'));
+    colours.put("<gold>", code('6'));
+    colours.put("<gray>", code('7'));
+    colours.put("<grey>", code('7'));
+    colours.put("<green>", code('a'));
+    colours.put("<purple>", code('d'));
+    colours.put("<red>", code('c'));
+    colours.put("<white>", code('f'));
+    colours.put("<yellow>", code('e'));
+
+    //Special Characters
+    colours.put("<magic>", code('k'));
+    colours.put("<bold>", code('l'));
+    colours.put("<strike>", code('m'));
+    colours.put("<underline>", code('n'));
+    colours.put("<italic>", code('o'));
+    colours.put("<reset>", code('r'));
+  }
+
+  public static String format(String message, boolean stripColours) {
+    Iterator<Map.Entry<String, String>> it = colours.entrySet().iterator();
+
+    while(it.hasNext()) {
+      Map.Entry<String, String> entry = it.next();
+      String replacement = (stripColours)? "" : entry.getValue();
+      message = message.replace(entry.getKey(), replacement);
+    }
+
+    if(stripColours) {
+      return strip(message);
+    }
+    return translate('&', message);
+  }
+
+  /**
+   * @param message The message.
+   * @return The message without any colour codes.
+   */
+  public static String strip(String message) {
+    return (message == null)? null : STRIP.matcher(message).replaceAll("");
+  }
+
+  /**
+   * Used to turn colour codes written with an alternate character, such as &amp;c, into real colour codes.
+   * @param alternate The alternate character.
+   * @param message The message.
+   * @return The message with real colour codes.
+   */
+  public static String translate(char alternate, String message) {
+    final char[] chars = message.toCharArray();
+
+    for(int i = 0; i < chars.length - 1; i++) {
+      if(chars[i] == alternate && CODES.indexOf(chars[i + 1]) > -1) {
+        chars[i] = COLOUR_CHAR;
+        chars[i + 1] = Character.toLowerCase(chars[i + 1]);
+      }
+    }
+    return new String(chars);
+  }
+
+  private static String code(char code) {
+    return String.valueOf(COLOUR_CHAR) + code;
+  }
+}
@@ -0,0 +1,50 @@
+package net.tnemc.commands.core.utils;
+
+/**
+ * Used to load the classes built for newer versions of Java. These classes are compiled into the
+ * jar next to the Java 8 classes, rather than into META-INF/versions, since Bukkit's plugin class
+ * loader and shaded jars don't support multi-release jars. They're only loaded once the running
+ * version of Java is known to support them.
+ */
+public final class JavaRuntime {
+
+  private static final int VERSION = version();
+
+  private JavaRuntime() {
+  }
+
+  /**
+   * @return The feature version of the running Java, for example 8, 11 or 21.
+   */
+  public static int getVersion() {
+    return VERSION;
+  }
+
+  /**
+   * Used to create an instance of a class built for a newer version of Java.
+   * @param minimum The minimum Java version the class needs.
+   * @param name The fully qualified name of the class, which must have a public no-args constructor.
+   * @param type The type the class implements.
+   * @param <T> The type the class implements.
+   * @return The instance, or null if the running Java is too old or the class couldn't be loaded.
+   */
+  public static <T> T load(final int minimum, final String name, final Class<T> type) {
+    if(VERSION < minimum) return null;
+
+    try {
+      return type.cast(Class.forName(name, true, JavaRuntime.class.getClassLoader()).getConstructor().newInstance());
+    } catch(ReflectiveOperationException | LinkageError | ClassCastException e) {
+      return null;
+    }
+  }
+
+  private static int version() {
+    final String version = System.getProperty("java.specification.version", "1.8");
+
+    try {
+      return (version.startsWith("1."))? Integer.parseInt(version.substring(2)) : Integer.parseInt(version);
+    } catch(NumberFormatException e) {
+      return 8;
+    }
+  }
+}
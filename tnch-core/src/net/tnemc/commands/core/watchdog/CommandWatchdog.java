@@ -0,0 +1,290 @@
+package net.tnemc.commands.core.watchdog;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.metrics.Phase;
+import net.tnemc.commands.core.platform.CommandPlatform;
+import net.tnemc.commands.core.platform.PlatformTask;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Logger;
+
+/**
+ * Used to find the commands that cause tick spikes. Each command executed or tab completed on the
+ * main thread is timed against a budget, and a daemon thread samples the main thread's stack while
+ * a command is over its budget. Main thread time is also attributed to each command per tick.
+ * <p>
+ * Breaches, and ticks where commands used more than the budget, are written to watchdog.log in
+ * the plugin's data folder.
+ */
+public class CommandWatchdog implements Runnable {
+
+  private final ConcurrentLinkedQueue<String> reports = new ConcurrentLinkedQueue<>();
+
+  private boolean enabled = false;
+
+  //The main thread time, in milliseconds, a single command may use.
+  private long budget = 50;
+
+  //How often, in milliseconds, the main thread is sampled while a command is over its budget.
+  private long sampleInterval = 5;
+  private int samples = 10;
+  private int window = 200;
+
+  private TickAttribution attribution = null;
+  private Thread mainThread = null;
+  private Thread sampler = null;
+  private PlatformTask task = null;
+  private File log = null;
+  private Logger logger = null;
+
+  //The command that's currently running on the main thread, written by the main thread only.
+  private volatile CommandInformation running = null;
+  private volatile Phase runningPhase = null;
+  private volatile long started = 0;
+  private volatile long run = 0;
+
+  //The stack samples of the current run, written by the sampler thread only.
+  private volatile long sampledRun = -1;
+  private volatile List<StackTraceElement[]> sampled = new CopyOnWriteArrayList<>();
+
+  /**
+   * Used to start watching a command. This does nothing unless the watchdog is enabled and it's
+   * called from the main thread.
+   * @param information The {@link CommandInformation} of the command.
+   * @param phase The {@link Phase} being watched, either EXECUTE or COMPLETE.
+   * @return The start time to pass to {@link #exit(CommandInformation, long)}, or 0 if the command
+   * isn't watched.
+   */
+  public long enter(CommandInformation information, Phase phase) {
+    if(!enabled || attribution == null || Thread.currentThread() != mainThread) return 0;
+
+    final long now = System.nanoTime();
+
+    //Nested commands, such as ones ran by another command, are attributed to the outer command.
+    if(running == null) {
+      run++;
+      started = now;
+      runningPhase = phase;
+      running = information;
+    }
+    return now;
+  }
+
+  /**
+   * Used to stop watching a command, attribute its time to the current tick and report it if it
+   * was over budget.
+   * @param information The {@link CommandInformation} of the command.
+   * @param start The value returned by {@link #enter(CommandInformation, Phase)}.
+   */
+  public void exit(CommandInformation information, long start) {
+    if(start == 0) return;
+
+    //Nested commands are already part of the outer command's time, so only the outer one is attributed.
+    if(running != information || started != start) return;
+
+    final long time = System.nanoTime() - start;
+    attribution.add(information, time);
+
+    final Phase phase = runningPhase;
+    running = null;
+
+    if(time > budget * 1000000L) {
+      final List<StackTraceElement[]> stacks = (sampledRun == run)? sampled : new ArrayList<>();
+      reports.add(breach(information, phase, time, stacks));
+    }
+  }
+
+  /**
+   * Closes the attribution of the tick that just ended. This runs every tick on the main thread.
+   */
+  @Override
+  public void run() {
+    final long total = attribution.getCurrentTotal();
+    final Map<CommandInformation, Long> tick = attribution.roll();
+
+    if(total > budget * 1000000L) {
+      final StringBuilder builder = new StringBuilder(header()).append("Tick used ").append(millis(total))
+                                                               .append(" in commands:").append(System.lineSeparator());
+      for(Map.Entry<CommandInformation, Long> entry : tick.entrySet()) {
+        builder.append("  /").append(entry.getKey().buildCommand(null)).append(": ").append(millis(entry.getValue()))
+               .append(System.lineSeparator());
+      }
+      reports.add(builder.toString());
+    }
+  }
+
+  /**
+   * Used to queue the attribution of every tick in the window to be written to the log.
+   */
+  public void dump() {
+    if(attribution == null) return;
+
+    final StringBuilder builder = new StringBuilder(header()).append("Attribution of the last ").append(attribution.getWindow())
+                                                             .append(" ticks:").append(System.lineSeparator());
+    for(Map.Entry<CommandInformation, Long> entry : attribution.snapshot().entrySet()) {
+      builder.append("  /").append(entry.getKey().buildCommand(null)).append(": ").append(millis(entry.getValue()))
+             .append(System.lineSeparator());
+    }
+    reports.add(builder.toString());
+  }
+
+  /**
+   * Used to start the watchdog if it's enabled. This must be called from the main thread.
+   * @param platform The {@link CommandPlatform} to schedule the watchdog with.
+   */
+  public void start(CommandPlatform platform) {
+    if(!enabled || attribution != null) return;
+
+    mainThread = Thread.currentThread();
+    attribution = new TickAttribution(window);
+    log = new File(platform.getDataFolder(), "watchdog.log");
+    logger = platform.getLogger();
+
+    sampler = new Thread(this::sample, "TNCH Watchdog");
+    sampler.setDaemon(true);
+    sampler.start();
+
+    task = platform.runTimer(this, 1, 1);
+  }
+
+  /**
+   * Used to stop the sampler thread and write any reports that are still queued.
+   */
+  public void stop() {
+    if(sampler == null) return;
+
+    sampler.interrupt();
+    sampler = null;
+    task.cancel();
+    task = null;
+    write();
+  }
+
+  private void sample() {
+    while(!Thread.currentThread().isInterrupted()) {
+      try {
+        Thread.sleep(sampleInterval);
+      } catch(InterruptedException ignore) {
+        break;
+      }
+
+      final long current = run;
+      if(running != null && System.nanoTime() - started > budget * 1000000L) {
+        if(sampledRun != current) {
+          sampled = new CopyOnWriteArrayList<>();
+          sampledRun = current;
+        }
+
+        if(sampled.size() < samples) {
+          final StackTraceElement[] stack = mainThread.getStackTrace();
+
+          //Make sure the command didn't finish while the stack was captured.
+          if(run == current && running != null) {
+            sampled.add(stack);
+          }
+        }
+      }
+      write();
+    }
+  }
+
+  private synchronized void write() {
+    if(reports.isEmpty()) return;
+
+    try {
+      Files.createDirectories(log.getParentFile().toPath());
+
+      try(BufferedWriter writer = Files.newBufferedWriter(log.toPath(), StandardCharsets.UTF_8,
+                                                          StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+        String report;
+        while((report = reports.poll()) != null) {
+          writer.write(report);
+          writer.newLine();
+        }
+      }
+    } catch(IOException e) {
+      logger.warning("Unable to write to " + log.getName() + ": " + e.getMessage());
+      reports.clear();
+    }
+  }
+
+  private String breach(CommandInformation information, Phase phase, long time, List<StackTraceElement[]> stacks) {
+    final StringBuilder builder = new StringBuilder(header()).append('/').append(information.buildCommand(null))
+                                                             .append(" (").append(phase.name().toLowerCase()).append(") took ")
+                                                             .append(millis(time)).append(", budget is ").append(budget)
+                                                             .append("ms").append(System.lineSeparator());
+
+    for(int i = 0; i < stacks.size(); i++) {
+      builder.append("  Sample ").append(i + 1).append(':').append(System.lineSeparator());
+
+      for(StackTraceElement element : stacks.get(i)) {
+        builder.append("    at ").append(element).append(System.lineSeparator());
+      }
+    }
+    return builder.toString();
+  }
+
+  private static String header() {
+    return "[" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date()) + "] ";
+  }
+
+  private static String millis(long nanos) {
+    return String.format("%.2fms", nanos / 1000000.0);
+  }
+
+  public TickAttribution getAttribution() {
+    return attribution;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public long getBudget() {
+    return budget;
+  }
+
+  public void setBudget(long budget) {
+    this.budget = budget;
+  }
+
+  public long getSampleInterval() {
+    return sampleInterval;
+  }
+
+  public void setSampleInterval(long sampleInterval) {
+    this.sampleInterval = sampleInterval;
+  }
+
+  public int getSamples() {
+    return samples;
+  }
+
+  public void setSamples(int samples) {
+    this.samples = samples;
+  }
+
+  public int getWindow() {
+    return window;
+  }
+
+  public void setWindow(int window) {
+    this.window = window;
+  }
+}
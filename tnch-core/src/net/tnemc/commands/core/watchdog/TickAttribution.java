@@ -0,0 +1,109 @@
+package net.tnemc.commands.core.watchdog;
+
+import net.tnemc.commands.core.CommandInformation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps a rolling window of how much main thread time each command used per tick. This is only
+ * written to from the main thread.
+ */
+public class TickAttribution {
+
+  private final Map<CommandInformation, Long>[] ticks;
+  private final long[] totals;
+
+  private Map<CommandInformation, Long> current = new HashMap<>();
+  private long currentTotal = 0;
+  private int index = 0;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public TickAttribution(int window) {
+    this.ticks = new Map[Math.max(1, window)];
+    this.totals = new long[ticks.length];
+  }
+
+  /**
+   * Used to attribute main thread time to a command for the current tick.
+   * @param information The {@link CommandInformation} of the command.
+   * @param nanos The time used, in nanoseconds.
+   */
+  public void add(CommandInformation information, long nanos) {
+    current.merge(information, nanos, Long::sum);
+    currentTotal += nanos;
+  }
+
+  /**
+   * Used to close the current tick and start the next one.
+   * @return The attribution of the tick that was closed.
+   */
+  public Map<CommandInformation, Long> roll() {
+    final Map<CommandInformation, Long> closed = current;
+
+    ticks[index] = (closed.isEmpty())? null : closed;
+    totals[index] = currentTotal;
+    index = (index + 1) % ticks.length;
+
+    current = (closed.isEmpty())? closed : new HashMap<>();
+    currentTotal = 0;
+    return closed;
+  }
+
+  /**
+   * @return The attribution of the tick that's currently running.
+   */
+  public Map<CommandInformation, Long> getCurrent() {
+    return current;
+  }
+
+  /**
+   * @return The time attributed to commands during the current tick, in nanoseconds.
+   */
+  public long getCurrentTotal() {
+    return currentTotal;
+  }
+
+  /**
+   * Used to sum the attribution of every tick in the window.
+   * @return A map of each command to its main thread time in nanoseconds, highest first.
+   */
+  public LinkedHashMap<CommandInformation, Long> snapshot() {
+    final Map<CommandInformation, Long> sums = new HashMap<>();
+
+    for(Map<CommandInformation, Long> tick : ticks) {
+      if(tick == null) continue;
+
+      for(Map.Entry<CommandInformation, Long> entry : tick.entrySet()) {
+        sums.merge(entry.getKey(), entry.getValue(), Long::sum);
+      }
+    }
+
+    final List<Map.Entry<CommandInformation, Long>> sorted = new ArrayList<>(sums.entrySet());
+    sorted.sort((a, b)->Long.compare(b.getValue(), a.getValue()));
+
+    final LinkedHashMap<CommandInformation, Long> snapshot = new LinkedHashMap<>();
+    for(Map.Entry<CommandInformation, Long> entry : sorted) {
+      snapshot.put(entry.getKey(), entry.getValue());
+    }
+    return snapshot;
+  }
+
+  /**
+   * @return The highest time attributed to commands in a single tick of the window, in nanoseconds.
+   */
+  public long getWorstTick() {
+    long worst = 0;
+    for(long total : totals) {
+      worst = Math.max(worst, total);
+    }
+    return worst;
+  }
+
+  public int getWindow() {
+    return ticks.length;
+  }
+}
@@ -0,0 +1,72 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class BatchCommandExecutionTest {
+
+  private final TestSender console = TestSender.console();
+
+  private final List<CommandInvocation> invocations = new ArrayList<>();
+
+  private CommandsHandler handler;
+  private CommandInformation give;
+
+  @Before
+  public void setup() {
+    handler = new CommandsHandler(new HeadlessPlatform("test", new File("target")), (CommandLoader)null, (information, sender)->true);
+    handler.addExecutor("batch", (BatchCommandExecution)batch->{
+      invocations.addAll(batch);
+      batch.forEach(invocation->invocation.complete(true));
+    });
+
+    final CommandInformation root = command("tne", null);
+    give = command("give", root);
+    handler.getManager().getCommands().put(Collections.singletonList("tne"), root);
+  }
+
+  @Test
+  public void directCallsResolveTheirCommand() {
+    final boolean completed = handler.getManager().getExecutors().get("batch")
+                                     .execute(console, "tne", new String[] { "give", "player" });
+
+    assertTrue(completed);
+    assertEquals(1, invocations.size());
+    assertSame(give, invocations.get(0).getInformation());
+    assertArrayEquals(new String[] { "player" }, invocations.get(0).getArguments());
+  }
+
+  @Test
+  public void shutdownRunsQueuedBatches() {
+    handler.getManager().getBatches().submit((BatchCommandExecution)handler.getManager().getExecutors().get("batch"),
+                                             new CommandInvocation(give, console, "tne", new String[] { "player" }));
+
+    handler.shutdown();
+
+    assertEquals(1, invocations.size());
+    assertSame(give, invocations.get(0).getInformation());
+  }
+
+  private CommandInformation command(String name, CommandInformation parent) {
+    final CommandInformation information = new CommandInformation(name);
+    information.setAliases(Collections.emptyList());
+    information.setDescription(name);
+    information.setExecutor("batch");
+    information.setParent(parent);
+
+    if(parent != null) parent.addSub(information);
+    return information;
+  }
+}
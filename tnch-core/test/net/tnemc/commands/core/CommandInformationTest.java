@@ -0,0 +1,146 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CommandInformationTest {
+
+  private final TestSender console = TestSender.console();
+
+  private CommandInformation root;
+  private CommandInformation money;
+  private CommandInformation give;
+
+  @Before
+  public void setup() {
+    new CommandsHandler(new HeadlessPlatform("test", new File("target")), (CommandLoader)null, (information, sender)->true).addExecutor("test", (sender, label, arguments)->true);
+
+    root = command("tne", null);
+    money = command("money", root);
+    give = command("give", money);
+  }
+
+  @Test
+  public void findSubInformationResolvesNestedSubCommands() {
+    final CommandSearchInformation search = root.findSubInformation(new String[] { "money", "give", "player", "10" });
+
+    assertSame(give, search.getInformation().get());
+    assertArrayEquals(new String[] { "player", "10" }, search.getArguments());
+  }
+
+  @Test
+  public void findSubInformationStopsAtTheFirstArgument() {
+    final CommandSearchInformation search = root.findSubInformation(new String[] { "money", "player" });
+
+    assertSame(money, search.getInformation().get());
+    assertArrayEquals(new String[] { "player" }, search.getArguments());
+  }
+
+  @Test
+  public void buildCommandIncludesEveryParent() {
+    assertEquals("tne", root.buildCommand(console));
+    assertEquals("tne money", money.buildCommand(console));
+    assertEquals("tne money give", give.buildCommand(console));
+  }
+
+  @Test
+  public void buildHelpSubListsEverySubCommand() {
+    command("take", money);
+    command("set", money);
+
+    final LinkedHashSet<String> help = money.buildHelpSub(console, 0);
+
+    //The header, then one line per sub command.
+    assertEquals(4, help.size());
+    assertTrue(new ArrayList<>(help).get(1).contains("tne money"));
+  }
+
+  @Test
+  public void buildHelpSubPastTheLastPage() {
+    assertEquals(2, money.buildHelpSub(console, 50).size());
+  }
+
+  @Test
+  public void nodesLeavesLazyCommandsUnloaded() {
+    final CommandInformation bank = command("bank", null);
+    bank.setMaterializer(info->command("deposit", info), Collections.emptyList());
+    CommandsHandler.manager().register(bank.getIdentifiers(), bank);
+
+    final List<CommandInformation> nodes = CommandsHandler.manager().nodes();
+
+    assertTrue(nodes.contains(bank));
+    assertTrue(bank.isLazy());
+    assertEquals(0, bank.getLoadedSub().size());
+  }
+
+  @Test
+  public void findByShortOnlyLoadsTheMatchingCommand() {
+    final CommandInformation bank = command("bank", null);
+    final List<CommandInformation> loaded = new ArrayList<>();
+
+    bank.setMaterializer(info->{
+      final CommandInformation account = command("account", info);
+      account.setMaterializer(loaded::add, Collections.emptyList());
+      loaded.add(account);
+
+      command("deposit", info).setSubShort(Collections.singletonList("dep"));
+    }, Collections.singletonList("dep"));
+
+    final Optional<CommandInformation> found = bank.find("dep");
+
+    assertTrue(found.isPresent());
+    assertEquals("deposit", found.get().getName());
+    assertTrue(loaded.get(0).isLazy());
+  }
+
+  @Test
+  public void failedMaterializeIsRetried() {
+    final CommandInformation bank = command("bank", null);
+    final AtomicInteger attempts = new AtomicInteger();
+
+    bank.setMaterializer(info->{
+      command("deposit", info);
+      if(attempts.incrementAndGet() == 1) throw new IllegalStateException("broken");
+    }, Collections.emptyList());
+
+    try {
+      bank.materialize();
+      fail("The failure wasn't thrown.");
+    } catch(IllegalStateException ignore) {
+      //expected
+    }
+    assertTrue(bank.isLazy());
+
+    assertEquals(1, bank.getSub().size());
+    assertFalse(bank.isLazy());
+    assertEquals(2, attempts.get());
+  }
+
+  private CommandInformation command(String name, CommandInformation parent) {
+    final CommandInformation information = new CommandInformation(name);
+    information.setAliases(Collections.emptyList());
+    information.setDescription(name);
+    information.setExecutor("test");
+    information.setParent(parent);
+
+    if(parent != null) parent.addSub(information);
+    return information;
+  }
+}
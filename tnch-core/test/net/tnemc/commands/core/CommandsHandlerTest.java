@@ -0,0 +1,141 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.completer.impl.SubCompleter;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CommandsHandlerTest {
+
+  private final HeadlessPlatform platform = new HeadlessPlatform("test", new File("target"));
+  private final TestSender console = TestSender.console();
+  private final TestSender player = new TestSender("Player", UUID.randomUUID());
+
+  private CommandsHandler handler;
+  private CommandInformation money;
+  private CommandInformation give;
+
+  private int runs = 0;
+
+  @Before
+  public void setup() {
+    handler = new CommandsHandler(platform, (CommandLoader)null, (information, sender)->true);
+    handler.addExecutor("test", (sender, label, arguments)->{
+      runs++;
+      return true;
+    });
+
+    handler.getManager().getCompleters().put("sub_command", new SubCompleter());
+
+    money = command("money", null, "money", "bal");
+    give = command("give", money, "give", "pay");
+    give.setConsole(false);
+
+    final CommandParameter amount = new CommandParameter("amount", false, false, "");
+    amount.setType("integer");
+    final CommandParameter reason = new CommandParameter("reason", true, false, "");
+    reason.setMaxLength(5);
+    give.addParameter(new CommandParameter("player", false, false, ""));
+    give.addParameter(amount);
+    give.addParameter(reason);
+
+    handler.getManager().getCommands().put(money.getAliases(), money);
+  }
+
+  @After
+  public void cleanup() {
+    platform.shutdown();
+  }
+
+  @Test
+  public void searchResolvesAliasesAndSubCommands() {
+    final Optional<CommandSearchInformation> search = handler.getManager().search("BAL", new String[] { "pay", "bob", "10" });
+
+    assertTrue(search.isPresent());
+    assertSame(give, search.get().getInformation().get());
+    assertArrayEquals(new String[] { "bob", "10" }, search.get().getArguments());
+  }
+
+  @Test
+  public void searchWithoutASubCommandStaysOnTheRoot() {
+    final Optional<CommandSearchInformation> search = handler.getManager().search("money", new String[] { "bob" });
+
+    assertSame(money, search.get().getInformation().get());
+    assertArrayEquals(new String[] { "bob" }, search.get().getArguments());
+  }
+
+  @Test
+  public void unknownLabelsAreNotFound() {
+    assertFalse(handler.getManager().search("balance", new String[0]).isPresent());
+    assertFalse(handler.handle(player, "balance", new String[0]));
+  }
+
+  @Test
+  public void validateChecksCountTypeAndLength() {
+    assertEquals(Optional.of(CommandRejection.ARGUMENTS), handler.validate(give, new String[] { "bob" }));
+    assertEquals(Optional.of(CommandRejection.INVALID_TYPE), handler.validate(give, new String[] { "bob", "ten" }));
+    assertEquals(Optional.of(CommandRejection.INVALID_LENGTH), handler.validate(give, new String[] { "bob", "10", "birthday" }));
+    assertEquals(Optional.empty(), handler.validate(give, new String[] { "bob", "10", "gift" }));
+  }
+
+  @Test
+  public void checkRefusesTheConsoleForPlayerCommands() {
+    assertEquals(Optional.of(CommandRejection.CONSOLE), handler.check(console, give, new String[] { "bob", "10" }));
+    assertEquals(Optional.empty(), handler.check(player, give, new String[] { "bob", "10" }));
+  }
+
+  @Test
+  public void developerCommandsNeedADeveloper() {
+    give.setDeveloper(true);
+    assertEquals(Optional.of(CommandRejection.DEVELOPER), handler.checkSender(player, give));
+
+    handler.setDevelopers(Collections.singletonList(player.getUniqueId().toString()));
+    assertEquals(Optional.empty(), handler.checkSender(player, give));
+  }
+
+  @Test
+  public void handleRunsTheExecutorOncePassed() {
+    assertTrue(handler.handle(player, "money", new String[] { "give", "bob", "10" }));
+    assertEquals(1, runs);
+
+    assertFalse(handler.handle(player, "money", new String[] { "give", "bob", "ten" }));
+    assertFalse(handler.handle(console, "money", new String[] { "give", "bob", "10" }));
+    assertEquals(1, runs);
+    assertEquals(2, player.getReceived().size() + console.getReceived().size());
+  }
+
+  @Test
+  public void tabCompletesSubCommands() {
+    final List<String> completions = handler.tab(player, "money", new String[] { "g" });
+
+    assertTrue(completions.contains("give"));
+  }
+
+  private CommandInformation command(String name, CommandInformation parent, String... aliases) {
+    final CommandInformation information = new CommandInformation(name);
+    information.setAliases(Arrays.asList(aliases));
+    information.setPlayer(true);
+    information.setDescription(name);
+    information.setExecutor("test");
+    information.setParent(parent);
+
+    if(parent != null) parent.addSub(information);
+    return information;
+  }
+}
@@ -0,0 +1,65 @@
+package net.tnemc.commands.core;
+
+import net.tnemc.commands.core.platform.PlatformSender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A {@link PlatformSender} for tests, which has every permission and keeps the messages it's sent.
+ */
+public class TestSender implements PlatformSender {
+
+  private final List<String> received = new ArrayList<>();
+
+  private final String name;
+  private final UUID id;
+
+  /**
+   * @param name The name of the sender.
+   * @param id The {@link UUID} of the player, or null for the console.
+   */
+  public TestSender(String name, UUID id) {
+    this.name = name;
+    this.id = id;
+  }
+
+  public static TestSender console() {
+    return new TestSender("CONSOLE", null);
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public UUID getUniqueId() {
+    return id;
+  }
+
+  @Override
+  public boolean isPlayer() {
+    return id != null;
+  }
+
+  @Override
+  public boolean isConsole() {
+    return id == null;
+  }
+
+  @Override
+  public boolean hasPermission(String permission) {
+    return true;
+  }
+
+  @Override
+  public void sendMessage(String message) {
+    received.add(message);
+  }
+
+  public List<String> getReceived() {
+    return received;
+  }
+}
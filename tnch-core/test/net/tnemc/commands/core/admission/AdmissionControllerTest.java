@@ -0,0 +1,97 @@
+package net.tnemc.commands.core.admission;
+
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AdmissionControllerTest {
+
+  private final UUID player = UUID.randomUUID();
+
+  private AdmissionController admission;
+
+  @Before
+  public void setup() {
+    admission = new AdmissionController();
+    admission.setEnabled(true);
+    admission.setBudgetTime(10);
+    admission.setBudgetWindow(60000);
+  }
+
+  @Test
+  public void chargesAddUpWithinWindow() {
+    admission.charge(player, 6000000L);
+    assertTrue(admission.withinBudget(player));
+
+    admission.charge(player, 6000000L);
+    assertFalse(admission.withinBudget(player));
+  }
+
+  @Test
+  public void concurrentChargesAreNotLost() throws InterruptedException {
+    final Thread[] threads = new Thread[4];
+    for(int i = 0; i < threads.length; i++) {
+      threads[i] = new Thread(()->{
+        for(int j = 0; j < 1000; j++) admission.charge(player, 5000L);
+      });
+      threads[i].start();
+    }
+    for(Thread thread : threads) thread.join();
+
+    //4000 charges of 5 microseconds is 20 milliseconds, over the 10 millisecond budget.
+    assertFalse(admission.withinBudget(player));
+  }
+
+  @Test
+  public void deferredCommandsQueueUpToLimit() {
+    admission.setQueueLimit(2);
+
+    assertTrue(admission.defer(()->{}));
+    assertTrue(admission.defer(()->{}));
+    assertFalse(admission.defer(()->{}));
+  }
+
+  @Test
+  public void deferredCommandsExpireAfterTheQueueTime() throws InterruptedException {
+    final AtomicInteger ran = new AtomicInteger();
+    final AtomicInteger expired = new AtomicInteger();
+    admission.setQueueTime(1);
+
+    admission.defer(ran::incrementAndGet, expired::incrementAndGet);
+    Thread.sleep(5);
+    admission.drain();
+
+    assertEquals(0, ran.get());
+    assertEquals(1, expired.get());
+    assertEquals(1, admission.getExpired());
+    assertEquals(0, admission.getQueued());
+  }
+
+  @Test
+  public void stopDropsDeferredCommandsAndTheMonitor() {
+    final HeadlessPlatform platform = new HeadlessPlatform("test", new File("target"));
+    final AtomicInteger expired = new AtomicInteger();
+
+    try {
+      admission.start(platform);
+      admission.defer(()->{}, expired::incrementAndGet);
+
+      admission.stop();
+
+      assertNull(admission.getMonitor());
+      assertEquals(1, expired.get());
+      assertEquals(0, admission.getQueued());
+    } finally {
+      platform.shutdown();
+    }
+  }
+}
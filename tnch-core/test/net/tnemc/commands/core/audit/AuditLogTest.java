@@ -0,0 +1,67 @@
+package net.tnemc.commands.core.audit;
+
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AuditLogTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private HeadlessPlatform platform;
+  private AuditLog log;
+
+  @Before
+  public void setup() {
+    platform = new HeadlessPlatform("TNCH-Test", folder.getRoot());
+    log = new AuditLog();
+    log.setEnabled(true);
+    log.start(platform);
+  }
+
+  @After
+  public void teardown() {
+    log.stop();
+    platform.shutdown();
+  }
+
+  @Test
+  public void stopWritesEverythingThatWasQueued() throws Exception {
+    for(int i = 0; i < 50; i++) {
+      assertTrue(log.offer(record(i)));
+    }
+    log.stop();
+
+    assertEquals(50, log.getWritten());
+    assertEquals(0, log.getDropped());
+
+    final File file = new File(folder.getRoot(), "audit/audit.log");
+    assertEquals(50, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+  }
+
+  @Test
+  public void recordsQueuedAfterStopAreCountedAsDropped() {
+    log.offer(record(0));
+    log.stop();
+
+    log.offer(record(1));
+
+    assertEquals(1, log.getWritten());
+    assertEquals(1, log.getDropped());
+  }
+
+  private AuditRecord record(int i) {
+    return new AuditRecord(System.currentTimeMillis(), "Tester", "-", "/test", new String[] { String.valueOf(i) }, "completed");
+  }
+}
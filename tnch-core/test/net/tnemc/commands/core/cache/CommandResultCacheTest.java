@@ -0,0 +1,59 @@
+package net.tnemc.commands.core.cache;
+
+import net.tnemc.commands.core.CacheableCommandExecution;
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.TestSender;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CommandResultCacheTest {
+
+  private final TestSender console = TestSender.console();
+
+  private final AtomicInteger runs = new AtomicInteger();
+
+  private CommandsHandler handler;
+  private CommandInformation balance;
+
+  @Before
+  public void setup() {
+    handler = new CommandsHandler(new HeadlessPlatform("test", new File("target")), (CommandLoader)null, (information, sender)->true);
+    handler.addExecutor("balance", (CacheableCommandExecution)(sender, label, arguments, output)->{
+      runs.incrementAndGet();
+      output.send("Balance:", "10");
+      return true;
+    });
+
+    balance = new CommandInformation("balance");
+    balance.setAliases(Collections.emptyList());
+    balance.setExecutor("balance");
+    balance.setCacheTime(60);
+  }
+
+  @Test
+  public void cacheHitsReplayTheWholeOutput() {
+    assertTrue(handler.execute(console, "balance", new String[0], balance));
+    assertTrue(handler.execute(console, "balance", new String[0], balance));
+
+    assertEquals(1, runs.get());
+    assertEquals(Arrays.asList("Balance:", "10", "Balance:", "10"), console.getReceived());
+  }
+
+  @Test
+  public void executorsOutsideTheHandlerStillSend() {
+    handler.getManager().getExecutors().get("balance").execute(console, "balance", new String[0]);
+
+    assertEquals(Arrays.asList("Balance:", "10"), console.getReceived());
+  }
+}
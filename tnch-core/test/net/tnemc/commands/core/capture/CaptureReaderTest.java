@@ -0,0 +1,127 @@
+package net.tnemc.commands.core.capture;
+
+import net.tnemc.commands.core.TestSender;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CaptureReaderTest {
+
+  private final UUID player = UUID.randomUUID();
+
+  private Path folder;
+  private HeadlessPlatform platform;
+  private CommandCapture capture;
+
+  @Before
+  public void setup() throws IOException {
+    folder = Files.createTempDirectory("tnch-capture");
+    platform = new HeadlessPlatform("test", folder.toFile());
+
+    capture = new CommandCapture();
+    capture.setEnabled(true);
+  }
+
+  @After
+  public void cleanup() throws IOException {
+    capture.stop();
+    platform.shutdown();
+
+    try(Stream<Path> files = Files.walk(folder)) {
+      files.sorted((a, b)->b.compareTo(a)).map(Path::toFile).forEach(File::delete);
+    }
+  }
+
+  @Test
+  public void recordsRoundTrip() throws IOException {
+    final TestSender sender = new TestSender("Player", player);
+
+    capture.start(platform);
+    capture.record(CaptureRecord.EXECUTE, sender, "pay", new String[] { "bob", "10" });
+    capture.record(CaptureRecord.TAB, sender, "pay", new String[] { "bo" });
+    capture.record(CaptureRecord.EXECUTE, TestSender.console(), "pay", new String[] { "bob", "10" });
+    capture.stop();
+
+    try(CaptureReader reader = new CaptureReader(captured())) {
+      assertTrue(reader.getStarted() > 0);
+
+      final CaptureRecord first = reader.next();
+      assertEquals(CaptureRecord.EXECUTE, first.getType());
+      assertEquals(player, first.getSender());
+      assertEquals("pay", first.getLabel());
+      assertArrayEquals(new String[] { "bob", "10" }, first.getArguments());
+
+      final CaptureRecord second = reader.next();
+      assertEquals(CaptureRecord.TAB, second.getType());
+      assertEquals(player, second.getSender());
+      assertArrayEquals(new String[] { "bo" }, second.getArguments());
+      assertTrue(second.getTime() >= first.getTime());
+
+      final CaptureRecord third = reader.next();
+      assertNull(third.getSender());
+      assertArrayEquals(new String[] { "bob", "10" }, third.getArguments());
+
+      assertNull(reader.next());
+    }
+    assertEquals(3, capture.getWritten());
+  }
+
+  @Test
+  public void truncatedCapturesEndCleanly() throws IOException {
+    capture.start(platform);
+    capture.record(CaptureRecord.EXECUTE, TestSender.console(), "pay", new String[] { "bob", "10" });
+    capture.stop();
+
+    final Path path = captured();
+    final byte[] bytes = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(bytes, bytes.length - 2));
+
+    try(CaptureReader reader = new CaptureReader(path)) {
+      assertNull(reader.next());
+    }
+  }
+
+  @Test
+  public void eachStartWritesANewFile() throws IOException {
+    capture.start(platform);
+    capture.record(CaptureRecord.EXECUTE, TestSender.console(), "pay", new String[0]);
+    capture.stop();
+
+    final Path first = captured();
+    assertTrue(first.getFileName().toString().matches("capture-\\d{8}-\\d{6}\\.tncc"));
+
+    //A second start in the same second must not replace the first capture.
+    capture.start(platform);
+    capture.stop();
+
+    try(CaptureReader reader = new CaptureReader(first)) {
+      assertEquals("pay", reader.next().getLabel());
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void otherFilesAreRefused() throws IOException {
+    final Path path = folder.resolve("other.tncc");
+    Files.write(path, new byte[] { 1, 2, 3, 4, 5 });
+
+    new CaptureReader(path).close();
+  }
+
+  private Path captured() {
+    return capture.getCurrent().toPath();
+  }
+}
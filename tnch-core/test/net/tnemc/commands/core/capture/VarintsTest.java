@@ -0,0 +1,52 @@
+package net.tnemc.commands.core.capture;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+
+public class VarintsTest {
+
+  @Test
+  public void valuesRoundTrip() throws IOException {
+    final long[] values = { 0, 1, 127, 128, 300, 16383, 16384, Integer.MAX_VALUE, Long.MAX_VALUE, -1 };
+
+    for(long value : values) {
+      assertEquals(value, Varints.read(input(bytes(value))));
+    }
+  }
+
+  @Test
+  public void smallValuesUseFewerBytes() throws IOException {
+    assertEquals(1, bytes(0).length);
+    assertEquals(1, bytes(127).length);
+    assertEquals(2, bytes(128).length);
+    assertEquals(2, bytes(16383).length);
+    assertEquals(3, bytes(16384).length);
+    assertEquals(10, bytes(-1).length);
+  }
+
+  @Test(expected = IOException.class)
+  public void tooManyBytesAreMalformed() throws IOException {
+    final byte[] bytes = new byte[11];
+    Arrays.fill(bytes, (byte)0x80);
+
+    Varints.read(input(bytes));
+  }
+
+  private static byte[] bytes(long value) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Varints.write(new DataOutputStream(bytes), value);
+    return bytes.toByteArray();
+  }
+
+  private static DataInputStream input(byte[] bytes) {
+    return new DataInputStream(new ByteArrayInputStream(bytes));
+  }
+}
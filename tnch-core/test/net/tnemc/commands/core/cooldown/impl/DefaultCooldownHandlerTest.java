@@ -0,0 +1,95 @@
+package net.tnemc.commands.core.cooldown.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultCooldownHandlerTest {
+
+  private final UUID player = UUID.randomUUID();
+  private final File directory = new File("target", "spill-" + player);
+
+  private DefaultCooldownHandler handler;
+
+  @Before
+  public void setup() {
+    handler = new DefaultCooldownHandler();
+    handler.setSpillDirectory(directory);
+  }
+
+  @After
+  public void cleanup() {
+    final File[] files = directory.listFiles();
+    if(files != null) {
+      for(File file : files) file.delete();
+    }
+    directory.delete();
+  }
+
+  @Test
+  public void sweepRemovesExpiredCooldowns() {
+    final UUID other = UUID.randomUUID();
+
+    handler.addCooldown(player, "pay", 0);
+    handler.addCooldown(other, "pay", 0);
+    handler.addCooldown(other, "give", 60);
+
+    handler.sweep();
+
+    assertEquals(1, handler.size());
+    assertEquals(1, handler.entries());
+    assertTrue(handler.hasCooldown(other, "give"));
+  }
+
+  @Test
+  public void offlineSpillsLongCooldowns() {
+    handler.addCooldown(player, "pay", 600);
+
+    handler.offline(player);
+
+    assertEquals(0, handler.size());
+    assertTrue(new File(directory, player + ".cooldown").exists());
+  }
+
+  @Test
+  public void offlineKeepsShortCooldownsInMemory() {
+    handler.addCooldown(player, "pay", 60);
+
+    handler.offline(player);
+
+    assertEquals(1, handler.size());
+    assertFalse(new File(directory, player + ".cooldown").exists());
+  }
+
+  @Test
+  public void onlineRestoresSpilledCooldowns() {
+    handler.addCooldown(player, "pay", 600);
+    handler.offline(player);
+
+    handler.online(player);
+
+    assertTrue(handler.hasCooldown(player, "pay"));
+    assertFalse(new File(directory, player + ".cooldown").exists());
+  }
+
+  @Test
+  public void failedSpillKeepsCooldowns() throws IOException {
+    //A file where the directory should be, so the spill can't be written.
+    assertTrue(directory.createNewFile());
+
+    handler.addCooldown(player, "pay", 600);
+    handler.offline(player);
+
+    handler.online(player);
+
+    assertTrue(handler.hasCooldown(player, "pay"));
+  }
+}
@@ -0,0 +1,134 @@
+package net.tnemc.commands.core.cooldown.impl;
+
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DistributedCooldownHandlerTest {
+
+  private final UUID player = UUID.randomUUID();
+
+  private DistributedCooldownHandler first;
+  private DistributedCooldownHandler second;
+
+  @Before
+  public void setup() {
+    final LoopbackCooldownStore store = new LoopbackCooldownStore();
+
+    first = new DistributedCooldownHandler(store);
+    second = new DistributedCooldownHandler(store);
+  }
+
+  @Test
+  public void cooldownsReachOtherNodes() {
+    second.prefetch(player);
+
+    first.addCooldown(player, "pay", 60);
+    first.flush();
+
+    assertTrue(second.hasCooldown(player, "pay"));
+  }
+
+  @Test
+  public void removedCooldownsReachOtherNodes() {
+    second.prefetch(player);
+
+    first.addCooldown(player, "pay", 60);
+    first.flush();
+    assertTrue(second.hasCooldown(player, "pay"));
+
+    first.removeCooldown(player, "pay");
+    first.flush();
+    assertFalse(second.hasCooldown(player, "pay"));
+  }
+
+  @Test
+  public void shortenedCooldownsReachOtherNodes() {
+    second.prefetch(player);
+
+    first.addCooldown(player, "pay", 60);
+    first.flush();
+
+    first.addCooldown(player, "pay", 0);
+    first.flush();
+    assertFalse(second.hasCooldown(player, "pay"));
+  }
+
+  @Test
+  public void refreshKeepsUnflushedCooldowns() {
+    first.prefetch(player);
+    second.prefetch(player);
+
+    first.addCooldown(player, "pay", 60);
+    second.addCooldown(player, "sell", 60);
+    second.flush();
+
+    assertTrue(first.hasCooldown(player, "pay"));
+    assertTrue(first.hasCooldown(player, "sell"));
+  }
+
+  @Test
+  public void refreshDuringAFlushKeepsTheBatch() {
+    final InterruptedStore store = new InterruptedStore();
+    final DistributedCooldownHandler local = new DistributedCooldownHandler(store);
+    final DistributedCooldownHandler remote = new DistributedCooldownHandler(store);
+    local.prefetch(player);
+
+    //While the local batch is being written, another node changes the player, which refreshes them here.
+    store.interruption = ()->{
+      remote.addCooldown(player, "sell", 60);
+      remote.flush();
+    };
+
+    local.addCooldown(player, "pay", 60);
+    local.flush();
+
+    assertTrue(local.hasCooldown(player, "pay"));
+    assertTrue(local.hasCooldown(player, "sell"));
+  }
+
+  @Test
+  public void joiningPlayersAreFetched() {
+    final HeadlessPlatform platform = new HeadlessPlatform("test", new File("target"));
+
+    first.addCooldown(player, "pay", 60);
+    first.flush();
+
+    second.start(platform);
+    try {
+      platform.join(player, "Notch");
+      assertTrue(second.hasCooldown(player, "pay"));
+
+      platform.quit(player);
+      assertEquals(0, second.size());
+    } finally {
+      second.stop();
+      platform.shutdown();
+    }
+  }
+
+  /**
+   * A {@link LoopbackCooldownStore} that runs something once, part way through the next write.
+   */
+  private static class InterruptedStore extends LoopbackCooldownStore {
+
+    private Runnable interruption = null;
+
+    @Override
+    public void write(Map<UUID, Map<String, Long>> batch) {
+      final Runnable run = interruption;
+      interruption = null;
+
+      if(run != null) run.run();
+      super.write(batch);
+    }
+  }
+}
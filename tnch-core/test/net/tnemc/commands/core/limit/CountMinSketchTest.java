@@ -0,0 +1,60 @@
+package net.tnemc.commands.core.limit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CountMinSketchTest {
+
+  private final CountMinSketch sketch = new CountMinSketch(4, 1024);
+
+  @Test
+  public void estimatesAreNeverBelowTheTrueCount() {
+    for(int key = 0; key < 2000; key++) {
+      for(int i = 0; i <= key % 5; i++) {
+        sketch.add(key);
+      }
+    }
+
+    for(int key = 0; key < 2000; key++) {
+      assertTrue(sketch.estimate(key) >= (key % 5) + 1);
+    }
+  }
+
+  @Test
+  public void heavyKeysStandOut() {
+    for(int key = 0; key < 500; key++) {
+      sketch.add(key);
+    }
+    for(int i = 0; i < 1000; i++) {
+      sketch.add(-42);
+    }
+
+    final long estimate = sketch.estimate(-42);
+    assertTrue(estimate >= 1000);
+    assertTrue(estimate <= 1010);
+  }
+
+  @Test
+  public void addReturnsTheEstimate() {
+    assertEquals(1, sketch.add(7));
+    assertEquals(2, sketch.add(7));
+    assertEquals(2, sketch.estimate(7));
+  }
+
+  @Test
+  public void decayHalvesTheCounts() {
+    for(int i = 0; i < 8; i++) {
+      sketch.add(7);
+    }
+
+    sketch.decay();
+    assertEquals(4, sketch.estimate(7));
+
+    sketch.decay();
+    sketch.decay();
+    sketch.decay();
+    assertEquals(0, sketch.estimate(7));
+  }
+}
@@ -0,0 +1,80 @@
+package net.tnemc.commands.core.limit;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HeavyHittersTest {
+
+  @Test
+  public void keepsTheMostFrequentKeys() {
+    final HeavyHitters<String> hitters = new HeavyHitters<>(2, 4, 1024);
+
+    for(int i = 0; i < 50; i++) hitters.add("heavy");
+    for(int i = 0; i < 20; i++) hitters.add("medium");
+    for(int i = 0; i < 100; i++) hitters.add("light" + i);
+
+    final List<HeavyHitters.Hitter<String>> top = hitters.top();
+    assertEquals(2, top.size());
+    assertEquals("heavy", top.get(0).getKey());
+    assertEquals("medium", top.get(1).getKey());
+    assertEquals(170, hitters.getTotal());
+  }
+
+  @Test
+  public void decayHalvesCounts() {
+    final HeavyHitters<String> hitters = new HeavyHitters<>(2, 4, 1024);
+
+    for(int i = 0; i < 8; i++) hitters.add("key");
+    hitters.add("once");
+    hitters.decay();
+
+    assertEquals(4, hitters.estimate("key"));
+    assertEquals(4, hitters.getTotal());
+    assertEquals(1, hitters.top().size());
+  }
+
+  @Test
+  public void concurrentCountsAreNotLost() throws InterruptedException {
+    final HeavyHitters<Integer> hitters = new HeavyHitters<>(4, 4, 1024);
+
+    final Thread[] threads = new Thread[4];
+    for(int i = 0; i < threads.length; i++) {
+      final int key = i;
+      threads[i] = new Thread(()->{
+        for(int j = 0; j < 10000; j++) hitters.add(key);
+      });
+      threads[i].start();
+    }
+    for(Thread thread : threads) thread.join();
+
+    assertEquals(40000, hitters.getTotal());
+    assertEquals(4, hitters.top().size());
+    for(int i = 0; i < threads.length; i++) {
+      assertTrue(hitters.estimate(i) >= 10000);
+    }
+  }
+
+  @Test
+  public void completionsDontMakeSendersHeavy() {
+    final LoadTracker load = new LoadTracker();
+    load.setEnabled(true);
+    load.setLimitShare(0.5);
+    load.setLimitMinimum(10);
+
+    final UUID typing = UUID.randomUUID();
+    final UUID other = UUID.randomUUID();
+
+    for(int i = 0; i < 100; i++) load.complete(typing);
+    for(int i = 0; i < 10; i++) load.hit(other, null);
+    load.hit(typing, null);
+
+    assertFalse(load.isHeavy(typing));
+    assertTrue(load.isHeavy(other));
+  }
+}
@@ -0,0 +1,45 @@
+package net.tnemc.commands.core.limit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimiterTest {
+
+  private final UUID player = UUID.randomUUID();
+
+  private RateLimiter limiter;
+
+  @Before
+  public void setup() {
+    limiter = new RateLimiter();
+    limiter.setEnabled(true);
+    limiter.setGlobal(new RateLimitGroup("global", 2, 1));
+    limiter.setComplete(new RateLimitGroup("complete", 5, 1));
+  }
+
+  @Test
+  public void completionsDontDrainCommands() {
+    for(int i = 0; i < 5; i++) {
+      assertTrue(limiter.tryComplete(player));
+    }
+    assertFalse(limiter.tryComplete(player));
+
+    assertTrue(limiter.tryAcquire(player, "hello"));
+    assertTrue(limiter.tryAcquire(player, "hello"));
+    assertFalse(limiter.tryAcquire(player, "hello"));
+  }
+
+  @Test
+  public void completionsAreUnlimitedWithoutGroup() {
+    limiter.setComplete(null);
+
+    for(int i = 0; i < 100; i++) {
+      assertTrue(limiter.tryComplete(player));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package net.tnemc.commands.core.limit;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TokenBucketTest {
+
+  private final TokenBucket bucket = new TokenBucket();
+
+  @Test
+  public void burstIsLimitedByCapacity() {
+    assertTrue(bucket.tryAcquire(0, 10, 30));
+    assertTrue(bucket.tryAcquire(0, 10, 30));
+    assertTrue(bucket.tryAcquire(0, 10, 30));
+    assertFalse(bucket.tryAcquire(0, 10, 30));
+  }
+
+  @Test
+  public void tokensRefillOverTime() {
+    for(int i = 0; i < 3; i++) {
+      bucket.tryAcquire(0, 10, 30);
+    }
+
+    assertFalse(bucket.tryAcquire(9, 10, 30));
+    assertTrue(bucket.tryAcquire(10, 10, 30));
+    assertFalse(bucket.tryAcquire(10, 10, 30));
+  }
+
+  @Test
+  public void bucketIsFullOnceEveryTokenRefilled() {
+    assertTrue(bucket.isFull(0));
+
+    bucket.tryAcquire(0, 10, 30);
+    bucket.tryAcquire(0, 10, 30);
+
+    assertFalse(bucket.isFull(19));
+    assertTrue(bucket.isFull(20));
+  }
+
+  @Test
+  public void negativeTimesStartFull() {
+    final long now = -1_000_000_000L;
+
+    assertTrue(bucket.isFull(now));
+    assertTrue(bucket.tryAcquire(now, 10, 30));
+    assertTrue(bucket.tryAcquire(now, 10, 30));
+    assertTrue(bucket.tryAcquire(now, 10, 30));
+    assertFalse(bucket.tryAcquire(now, 10, 30));
+    assertTrue(bucket.isFull(now + 30));
+  }
+
+  @Test
+  public void timesAcrossOverflowAreCompared() {
+    final long now = Long.MAX_VALUE - 5;
+
+    for(int i = 0; i < 3; i++) {
+      assertTrue(bucket.tryAcquire(now, 10, 30));
+    }
+    assertFalse(bucket.isFull(now + 20));
+    assertTrue(bucket.tryAcquire(now + 10, 10, 30));
+  }
+}
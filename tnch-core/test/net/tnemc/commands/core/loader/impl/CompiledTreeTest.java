@@ -0,0 +1,136 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.admission.CostClass;
+import net.tnemc.commands.core.parameter.CommandParameter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledTreeTest {
+
+  private static final byte[] HASH = new byte[32];
+
+  private Path cache;
+
+  @Before
+  public void setup() throws IOException {
+    cache = Files.createTempFile("tnch-tree", ".bin");
+  }
+
+  @After
+  public void cleanup() throws IOException {
+    Files.deleteIfExists(cache);
+  }
+
+  @Test
+  public void treeRoundTrips() throws IOException {
+    final Map<String, Object> settings = new LinkedHashMap<>();
+    settings.put("Messages.Prefix", "<gold>[TNE]");
+    settings.put("Limits.Rate", 20);
+    settings.put("Limits.Window", 60000L);
+    settings.put("Limits.Factor", 1.5);
+    settings.put("Async.Enabled", true);
+    settings.put("Usage.Ignored", Arrays.asList("help", "version"));
+    settings.put("Completers.empty", CompiledTree.SECTION_MARKER);
+
+    final CommandInformation root = command("money", null);
+    root.setAliases(Arrays.asList("money", "bal"));
+    root.setPermission("tne.money");
+    root.setCooldown(30);
+    root.setCost(CostClass.HEAVY);
+    root.setAsync(true);
+    root.setCacheTime(5);
+    root.setSubShort(Collections.singletonList("g"));
+
+    final CommandInformation give = command("give", root);
+    final CommandParameter amount = new CommandParameter("amount", false, true, "number");
+    amount.setType("integer");
+    amount.setMaxLength(8);
+    give.addParameter(new CommandParameter("player", false, true, "player"));
+    give.addParameter(amount);
+
+    new CompiledTree(settings, Collections.singletonList(root)).write(cache, HASH);
+
+    final Optional<CompiledTree> read = CompiledTree.read(cache, HASH);
+    assertTrue(read.isPresent());
+
+    final Map<String, Object> loaded = read.get().getSettings();
+    assertEquals(Arrays.asList(settings.keySet().toArray()), Arrays.asList(loaded.keySet().toArray()));
+    assertEquals("<gold>[TNE]", loaded.get("Messages.Prefix"));
+    assertEquals(20, loaded.get("Limits.Rate"));
+    assertEquals(60000L, loaded.get("Limits.Window"));
+    assertEquals(1.5, loaded.get("Limits.Factor"));
+    assertEquals(true, loaded.get("Async.Enabled"));
+    assertEquals(Arrays.asList("help", "version"), loaded.get("Usage.Ignored"));
+    assertSame(CompiledTree.SECTION_MARKER, loaded.get("Completers.empty"));
+
+    assertEquals(1, read.get().getCommands().size());
+    final CommandInformation money = read.get().getCommands().get(0);
+    assertEquals("money", money.getName());
+    assertEquals(Arrays.asList("money", "bal"), money.getAliases());
+    assertEquals("tne.money", money.getPermission());
+    assertEquals(30, money.getCooldown());
+    assertEquals(CostClass.HEAVY, money.getCost());
+    assertTrue(money.isAsync());
+    assertEquals(5, money.getCacheTime());
+    assertEquals(Collections.singletonList("g"), money.getSubShort());
+
+    final CommandInformation loadedGive = money.findSub("give").get();
+    assertSame(money, loadedGive.getParent());
+    assertEquals("give", loadedGive.getExecutor());
+    assertEquals(2, loadedGive.getRequiredArguments());
+    assertEquals("player", loadedGive.getParameters().get(0).getName());
+    assertEquals("integer", loadedGive.getParameters().get(1).getType());
+    assertEquals(8, loadedGive.getParameters().get(1).getMaxLength());
+    assertEquals("number", loadedGive.getParameters().get(1).getCompleteType());
+    assertArrayEquals(new String[] { "10" },
+                      money.findSubInformation(new String[] { "give", "10" }).getArguments());
+  }
+
+  @Test
+  public void changedSourcesAreIgnored() throws IOException {
+    new CompiledTree(new LinkedHashMap<>(), Collections.emptyList()).write(cache, HASH);
+
+    final byte[] changed = HASH.clone();
+    changed[0] = 1;
+
+    assertTrue(CompiledTree.read(cache, HASH).isPresent());
+    assertFalse(CompiledTree.read(cache, changed).isPresent());
+  }
+
+  @Test
+  public void otherFilesAreIgnored() throws IOException {
+    Files.write(cache, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+    assertFalse(CompiledTree.read(cache, HASH).isPresent());
+
+    Files.delete(cache);
+    assertFalse(CompiledTree.read(cache, HASH).isPresent());
+  }
+
+  private static CommandInformation command(String name, CommandInformation parent) {
+    final CommandInformation information = new CommandInformation(name);
+    information.setAliases(Collections.singletonList(name));
+    information.setDescription(name);
+    information.setExecutor(name);
+    information.setParent(parent);
+
+    if(parent != null) parent.addSub(information);
+    return information;
+  }
+}
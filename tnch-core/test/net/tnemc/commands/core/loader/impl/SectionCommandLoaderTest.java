@@ -0,0 +1,177 @@
+package net.tnemc.commands.core.loader.impl;
+
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.TabCompleter;
+import net.tnemc.commands.core.admin.AdminCommand;
+import net.tnemc.commands.core.admission.AdmissionController;
+import net.tnemc.commands.core.completer.ConfigCompleter;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.loader.CommandSection;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SectionCommandLoaderTest {
+
+  private final Map<String, Object> config = new LinkedHashMap<>();
+
+  private final SectionCommandLoader loader = new SectionCommandLoader() {
+    @Override
+    protected CommandSection root() {
+      return new MapSection(config);
+    }
+  };
+
+  @Before
+  public void setup() {
+    new CommandsHandler(new HeadlessPlatform("test", new File("target")), (CommandLoader)null, (information, sender)->true);
+  }
+
+  @Test
+  public void settingsAreReadFromTheirSection() {
+    final Map<String, Object> budget = new LinkedHashMap<>();
+    budget.put("Window", 2000);
+    budget.put("Time", 25);
+
+    final Map<String, Object> admission = new LinkedHashMap<>();
+    admission.put("Enabled", true);
+    admission.put("Severe", 90);
+    admission.put("Budget", budget);
+    config.put("Admission", admission);
+
+    loader.loadAdmission();
+
+    final AdmissionController controller = CommandsHandler.manager().getAdmission();
+    assertTrue(controller.isEnabled());
+    assertEquals(90, controller.getSevere());
+    assertEquals(55, controller.getOverloaded());
+    assertEquals(2000, controller.getBudgetWindow());
+    assertEquals(25, controller.getBudgetTime());
+  }
+
+  @Test
+  public void missingSectionsAreSkipped() {
+    loader.loadAdmission();
+    loader.loadCompleters();
+    loader.loadSchedules();
+
+    assertFalse(CommandsHandler.manager().getAdmission().isEnabled());
+    assertTrue(CommandsHandler.instance().getScheduler().getScheduled().isEmpty());
+  }
+
+  @Test
+  public void completersReadTheirValues() {
+    final Map<String, Object> colours = new LinkedHashMap<>();
+    colours.put("Limit", 2);
+    colours.put("Values", Arrays.asList("red", "green", "blue"));
+    config.put("Completion", Collections.singletonMap("colours", colours));
+
+    loader.loadCompleters();
+
+    final TabCompleter completer = CommandsHandler.manager().getCompleters().get("colours");
+    assertTrue(completer instanceof ConfigCompleter);
+    assertEquals(2, ((ConfigCompleter)completer).getLimit());
+  }
+
+  @Test
+  public void invalidCronOnlySkipsItsTask() {
+    final Map<String, Object> broken = new LinkedHashMap<>();
+    broken.put("Command", "tnch stats");
+    broken.put("Cron", "61 * * * *");
+
+    final Map<String, Object> working = new LinkedHashMap<>();
+    working.put("Command", "tnch stats");
+    working.put("Period", 20);
+
+    final Map<String, Object> tasks = new LinkedHashMap<>();
+    tasks.put("broken", broken);
+    tasks.put("working", working);
+    config.put("Schedules", Collections.singletonMap("Tasks", tasks));
+    AdminCommand.register(CommandsHandler.manager(), "tnch");
+
+    loader.loadSchedules();
+
+    assertFalse(CommandsHandler.instance().getScheduler().getScheduled().containsKey("broken"));
+    assertTrue(CommandsHandler.instance().getScheduler().getScheduled().containsKey("working"));
+  }
+
+  /**
+   * A {@link CommandSection} over nested maps, where a dotted key walks into the child maps.
+   */
+  private static class MapSection implements CommandSection {
+
+    private final Map<String, Object> values;
+
+    MapSection(Map<String, Object> values) {
+      this.values = values;
+    }
+
+    private Object get(String key) {
+      final int dot = key.indexOf('.');
+      if(dot == -1) return values.get(key);
+
+      final CommandSection child = getSection(key.substring(0, dot));
+      return (child == null)? null : ((MapSection)child).get(key.substring(dot + 1));
+    }
+
+    @Override
+    public Set<String> getKeys() {
+      return values.keySet();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CommandSection getSection(String key) {
+      final Object value = get(key);
+      return (value instanceof Map)? new MapSection((Map<String, Object>)value) : null;
+    }
+
+    @Override
+    public boolean contains(String key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public String getString(String key, String defaultValue) {
+      final Object value = get(key);
+      return (value == null)? defaultValue : value.toString();
+    }
+
+    @Override
+    public boolean getBool(String key, boolean defaultValue) {
+      final Object value = get(key);
+      return (value instanceof Boolean)? (Boolean)value : defaultValue;
+    }
+
+    @Override
+    public int getInt(String key, int defaultValue) {
+      final Object value = get(key);
+      return (value instanceof Number)? ((Number)value).intValue() : defaultValue;
+    }
+
+    @Override
+    public long getLong(String key, long defaultValue) {
+      final Object value = get(key);
+      return (value instanceof Number)? ((Number)value).longValue() : defaultValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> getStringList(String key) {
+      final Object value = get(key);
+      return (value instanceof List)? (List<String>)value : Collections.emptyList();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package net.tnemc.commands.core.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+  private final LatencyHistogram histogram = new LatencyHistogram();
+
+  @Test
+  public void everyValueFallsInsideItsBucket() {
+    for(long value = 0; value < 100000; value += 7) {
+      final int index = LatencyHistogram.index(value);
+
+      assertTrue(LatencyHistogram.lower(index) <= value);
+      assertTrue(LatencyHistogram.upper(index) >= value);
+    }
+
+    final int last = LatencyHistogram.index(Long.MAX_VALUE);
+    assertTrue(LatencyHistogram.lower(last) <= Long.MAX_VALUE);
+    assertEquals(Long.MAX_VALUE, LatencyHistogram.upper(last));
+  }
+
+  @Test
+  public void percentilesStayWithinTheRelativeError() {
+    for(long i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000);
+    }
+
+    final long median = histogram.percentile(0.5);
+    assertTrue(median >= 500000);
+    assertTrue(median <= 625000);
+
+    final long p99 = histogram.percentile(0.99);
+    assertTrue(p99 >= 990000);
+    assertTrue(p99 <= 1000000);
+
+    assertEquals(1000000, histogram.percentile(1));
+  }
+
+  @Test
+  public void countSumAndMax() {
+    histogram.record(100);
+    histogram.record(300);
+    histogram.record(-5);
+
+    assertEquals(3, histogram.getCount());
+    assertEquals(400, histogram.getSum());
+    assertEquals(300, histogram.getMax());
+  }
+
+  @Test
+  public void mergeAddsTheOtherHistogram() {
+    final LatencyHistogram other = new LatencyHistogram();
+    for(long i = 1; i <= 500; i++) {
+      histogram.record(i * 1000);
+      other.record((i + 500) * 1000);
+    }
+
+    histogram.merge(other);
+
+    assertEquals(1000, histogram.getCount());
+    assertEquals(500500000L, histogram.getSum());
+    assertEquals(1000000, histogram.getMax());
+    assertTrue(histogram.percentile(0.5) >= 500000);
+    assertTrue(histogram.percentile(0.5) <= 625000);
+  }
+
+  @Test
+  public void resetClearsEverything() {
+    histogram.record(100);
+    histogram.reset();
+
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getSum());
+    assertEquals(0, histogram.getMax());
+    assertEquals(0, histogram.percentile(0.5));
+  }
+}
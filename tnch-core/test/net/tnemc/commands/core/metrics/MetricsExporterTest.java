@@ -0,0 +1,64 @@
+package net.tnemc.commands.core.metrics;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandsHandler;
+import net.tnemc.commands.core.loader.CommandLoader;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsExporterTest {
+
+  private CommandsHandler handler;
+  private CommandInformation balance;
+
+  @Before
+  public void setup() {
+    handler = new CommandsHandler(new HeadlessPlatform("test", new File("target")), (CommandLoader)null, (information, sender)->true);
+
+    balance = new CommandInformation("balance");
+    balance.setAliases(Collections.emptyList());
+    handler.getManager().getCommands().put(Collections.singletonList("balance"), balance);
+  }
+
+  @Test
+  public void executeSummaryHasSumAndCount() {
+    balance.getMetrics().record(Phase.EXECUTE, 1000000000L);
+    balance.getMetrics().record(Phase.EXECUTE, 500000000L);
+
+    final MetricsExporter exporter = handler.getManager().getExporter();
+    exporter.getStatistics().snapshot();
+    final String text = exporter.prometheus();
+
+    assertTrue(text.contains("tnch_execute_seconds_sum{command=\"balance\"} 1.5\n"));
+    assertTrue(text.contains("tnch_execute_seconds_count{command=\"balance\"} 2\n"));
+  }
+
+  @Test
+  public void statisticsOnlySeeTheSnapshot() {
+    final MetricsExporter exporter = handler.getManager().getExporter();
+    assertEquals(0, exporter.getStatistics().getRegisteredNodes());
+
+    exporter.getStatistics().snapshot();
+    assertEquals(1, exporter.getStatistics().getRegisteredNodes());
+    assertFalse(exporter.getStatistics().getNodes().isEmpty());
+  }
+
+  @Test
+  public void histogramTracksSum() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(10);
+    histogram.record(32);
+
+    assertEquals(42, histogram.getSum());
+    histogram.reset();
+    assertEquals(0, histogram.getSum());
+  }
+}
@@ -0,0 +1,86 @@
+package net.tnemc.commands.core.platform;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HeadlessPlatformTest {
+
+  private final HeadlessPlatform platform = new HeadlessPlatform("test", new File("target"));
+
+  @After
+  public void cleanup() {
+    platform.shutdown();
+  }
+
+  @Test
+  public void zeroPeriodTimersRunEveryTick() throws InterruptedException {
+    final CountDownLatch sync = new CountDownLatch(3);
+    final CountDownLatch async = new CountDownLatch(3);
+
+    final PlatformTask first = platform.runTimer(sync::countDown, 0, 0);
+    final PlatformTask second = platform.runTimerAsync(async::countDown, 0, 0);
+
+    assertTrue(sync.await(5, TimeUnit.SECONDS));
+    assertTrue(async.await(5, TimeUnit.SECONDS));
+
+    first.cancel();
+    second.cancel();
+  }
+
+  @Test
+  public void timersRunOnTheMainThread() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final List<Boolean> primary = Collections.synchronizedList(new ArrayList<>());
+
+    platform.runTimer(()->{
+      primary.add(platform.isPrimaryThread());
+      latch.countDown();
+    }, 0, 1);
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertTrue(primary.get(0));
+  }
+
+  @Test
+  public void listenersHearJoinsAndQuits() {
+    final UUID player = UUID.randomUUID();
+    final List<String> events = new ArrayList<>();
+
+    final PlatformTask listener = platform.listen(new ConnectionListener() {
+      @Override
+      public void join(UUID id) {
+        events.add("join " + id);
+      }
+
+      @Override
+      public void quit(UUID id) {
+        events.add("quit " + id);
+      }
+    });
+
+    platform.join(player, "Player");
+    assertEquals("Player", platform.getPlayerName(player).get());
+    assertTrue(platform.getOnlinePlayerIds().contains(player));
+
+    platform.quit(player);
+    assertTrue(platform.getOnlinePlayers().isEmpty());
+
+    listener.cancel();
+    platform.join(player, "Player");
+
+    assertEquals(2, events.size());
+    assertEquals("join " + player, events.get(0));
+    assertEquals("quit " + player, events.get(1));
+  }
+}
@@ -0,0 +1,81 @@
+package net.tnemc.commands.core.schedule;
+
+import org.junit.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+
+public class CronExpressionTest {
+
+  @Test
+  public void stepsMatchEveryNthMinute() {
+    final CronExpression cron = new CronExpression("*/15 * * * *");
+
+    assertEquals(LocalDateTime.of(2024, 1, 3, 10, 15), cron.next(LocalDateTime.of(2024, 1, 3, 10, 7, 30)));
+    assertEquals(LocalDateTime.of(2024, 1, 3, 11, 0), cron.next(LocalDateTime.of(2024, 1, 3, 10, 45)));
+  }
+
+  @Test
+  public void nextIsAlwaysAfterTheStart() {
+    final CronExpression cron = new CronExpression("30 9 * * *");
+
+    assertEquals(LocalDateTime.of(2024, 1, 4, 9, 30), cron.next(LocalDateTime.of(2024, 1, 3, 9, 30)));
+  }
+
+  @Test
+  public void weekdaysAndRanges() {
+    //2024-01-03 is a Wednesday.
+    assertEquals(LocalDateTime.of(2024, 1, 8, 9, 0),
+                 new CronExpression("0 9 * * 1").next(LocalDateTime.of(2024, 1, 3, 12, 0)));
+    assertEquals(LocalDateTime.of(2024, 1, 4, 0, 0),
+                 new CronExpression("0 0 * * 4-5").next(LocalDateTime.of(2024, 1, 3, 12, 0)));
+  }
+
+  @Test
+  public void sundayIsBothZeroAndSeven() {
+    //2024-01-07 is a Sunday.
+    assertEquals(LocalDateTime.of(2024, 1, 7, 0, 0),
+                 new CronExpression("0 0 * * 7").next(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    assertEquals(LocalDateTime.of(2024, 1, 7, 0, 0),
+                 new CronExpression("0 0 * * 0").next(LocalDateTime.of(2024, 1, 1, 0, 0)));
+  }
+
+  @Test
+  public void dayOfMonthAndWeekdayMatchEither() {
+    //The 13th, or any Friday, whichever comes first.
+    final CronExpression cron = new CronExpression("0 0 13 * 5");
+
+    assertEquals(LocalDateTime.of(2024, 1, 5, 0, 0), cron.next(LocalDateTime.of(2024, 1, 1, 0, 0)));
+    assertEquals(LocalDateTime.of(2024, 1, 13, 0, 0), cron.next(LocalDateTime.of(2024, 1, 12, 0, 0)));
+  }
+
+  @Test
+  public void monthsAndLists() {
+    final CronExpression cron = new CronExpression("0 12 1,15 3 *");
+
+    assertEquals(LocalDateTime.of(2024, 3, 1, 12, 0), cron.next(LocalDateTime.of(2024, 1, 20, 0, 0)));
+    assertEquals(LocalDateTime.of(2024, 3, 15, 12, 0), cron.next(LocalDateTime.of(2024, 3, 1, 12, 0)));
+    assertEquals(LocalDateTime.of(2025, 3, 1, 12, 0), cron.next(LocalDateTime.of(2024, 3, 15, 12, 0)));
+  }
+
+  @Test
+  public void impossibleDatesHaveNoNextTime() {
+    assertEquals(null, new CronExpression("0 0 31 2 *").next(LocalDateTime.of(2024, 1, 1, 0, 0)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void missingFieldsAreRefused() {
+    new CronExpression("* * *");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void valuesOutOfRangeAreRefused() {
+    new CronExpression("60 * * * *");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void zeroStepsAreRefused() {
+    new CronExpression("*/0 * * * *");
+  }
+}
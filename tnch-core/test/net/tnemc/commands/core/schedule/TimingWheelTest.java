@@ -0,0 +1,65 @@
+package net.tnemc.commands.core.schedule;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TimingWheelTest {
+
+  private final TimingWheel<String> wheel = new TimingWheel<>(8);
+  private final List<TimingWheel.Due<String>> due = new ArrayList<>();
+
+  @Test
+  public void entriesFireOnTheirDeadline() {
+    wheel.schedule("first", 3);
+    wheel.schedule("second", 20);
+
+    wheel.advance(3, due);
+    assertEquals(1, due.size());
+    assertEquals("first", due.get(0).getEntry());
+    assertEquals(3, due.get(0).getDeadline());
+
+    due.clear();
+    wheel.advance(19, due);
+    assertTrue(due.isEmpty());
+
+    wheel.advance(20, due);
+    assertEquals("second", due.get(0).getEntry());
+    assertEquals(0, wheel.size());
+  }
+
+  @Test
+  public void cancelledEntriesAreRemoved() {
+    final long deadline = wheel.schedule("cancelled", 5);
+    wheel.schedule("kept", 5);
+
+    assertTrue(wheel.cancel("cancelled", deadline));
+    assertFalse(wheel.cancel("cancelled", deadline));
+    assertEquals(1, wheel.size());
+
+    wheel.advance(5, due);
+    assertEquals(1, due.size());
+    assertEquals("kept", due.get(0).getEntry());
+  }
+
+  @Test
+  public void clearResetsTheTick() {
+    wheel.schedule("entry", 2);
+    wheel.advance(100, due);
+    wheel.schedule("pending", 4);
+
+    wheel.clear();
+    assertEquals(0, wheel.getTick());
+    assertEquals(0, wheel.size());
+
+    due.clear();
+    wheel.schedule("restarted", 1);
+    wheel.advance(1, due);
+    assertEquals("restarted", due.get(0).getEntry());
+  }
+}
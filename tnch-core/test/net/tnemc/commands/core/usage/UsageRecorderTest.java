@@ -0,0 +1,94 @@
+package net.tnemc.commands.core.usage;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.CommandRejection;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class UsageRecorderTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private HeadlessPlatform platform;
+
+  @Before
+  public void setup() {
+    platform = new HeadlessPlatform("TNCH-Test", folder.getRoot());
+  }
+
+  @After
+  public void teardown() {
+    platform.shutdown();
+  }
+
+  @Test
+  public void nodeIdsAreSequentialAndKeptAcrossRestarts() throws IOException {
+    final CommandInformation pay = command("pay");
+    final CommandInformation balance = command("balance");
+
+    UsageRecorder recorder = recorder();
+    recorder.record(pay, null, UsageRecord.COMPLETED, 0);
+    recorder.record(balance, null, UsageRecord.COMPLETED, 0);
+    recorder.stop();
+
+    final File dictionary = new File(folder.getRoot(), "usage.dat.nodes");
+    assertEquals(Arrays.asList("0=pay", "1=balance"), Files.readAllLines(dictionary.toPath(), StandardCharsets.UTF_8));
+
+    recorder = recorder();
+    recorder.record(command("balance"), null, UsageRecord.COMPLETED, 0);
+    recorder.record(command("top"), null, UsageRecord.COMPLETED, 0);
+    recorder.stop();
+
+    assertEquals(Arrays.asList("0=pay", "1=balance", "2=top"), Files.readAllLines(dictionary.toPath(), StandardCharsets.UTF_8));
+
+    final Map<String, UsageRollup.DailyStats> stats = UsageRollup.rollup(new File(folder.getRoot(), "usage.dat").toPath());
+    long balanceCount = 0;
+    for(UsageRollup.DailyStats day : stats.values()) {
+      if(day.getNode() == 1) balanceCount += day.getCount();
+    }
+    assertEquals(2, balanceCount);
+  }
+
+  @Test
+  public void rejectionsUseStableCodes() {
+    assertEquals(2 + 12, UsageRecord.rejected(CommandRejection.BUSY));
+    assertEquals("busy", UsageRecord.outcome(UsageRecord.rejected(CommandRejection.BUSY)));
+    assertEquals("unknown", UsageRecord.outcome((byte)120));
+  }
+
+  @Test
+  public void csvQuotesCommandNames() {
+    assertEquals("pay", UsageRollup.csv("pay"));
+    assertEquals("\"pay,give\"", UsageRollup.csv("pay,give"));
+    assertEquals("\"say \"\"hi\"\"\"", UsageRollup.csv("say \"hi\""));
+  }
+
+  private UsageRecorder recorder() {
+    final UsageRecorder recorder = new UsageRecorder();
+    recorder.setEnabled(true);
+    recorder.setCapacity(100);
+    recorder.start(platform);
+    return recorder;
+  }
+
+  private static CommandInformation command(String name) {
+    final CommandInformation information = new CommandInformation(name);
+    information.setAliases(Collections.emptyList());
+    return information;
+  }
+}
@@ -0,0 +1,68 @@
+package net.tnemc.commands.core.watchdog;
+
+import net.tnemc.commands.core.CommandInformation;
+import net.tnemc.commands.core.metrics.Phase;
+import net.tnemc.commands.core.platform.HeadlessPlatform;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CommandWatchdogTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private HeadlessPlatform platform;
+  private CommandWatchdog watchdog;
+
+  @Before
+  public void setup() {
+    platform = new HeadlessPlatform("TNCH-Test", folder.getRoot());
+    watchdog = new CommandWatchdog();
+    watchdog.setEnabled(true);
+    platform.runAndWait(()->watchdog.start(platform));
+  }
+
+  @After
+  public void teardown() {
+    platform.runAndWait(watchdog::stop);
+    platform.shutdown();
+  }
+
+  @Test
+  public void nestedCommandsAreOnlyAttributedToTheOuterCommand() {
+    final CommandInformation outer = new CommandInformation("outer");
+    final CommandInformation inner = new CommandInformation("inner");
+    final AtomicReference<Map<CommandInformation, Long>> tick = new AtomicReference<>();
+
+    platform.runAndWait(()->{
+      final long outerStart = watchdog.enter(outer, Phase.EXECUTE);
+      final long innerStart = watchdog.enter(inner, Phase.EXECUTE);
+      spin();
+      watchdog.exit(inner, innerStart);
+      watchdog.exit(outer, outerStart);
+
+      tick.set(watchdog.getAttribution().roll());
+    });
+
+    assertEquals(1, tick.get().size());
+    assertTrue(tick.get().containsKey(outer));
+    assertFalse(tick.get().containsKey(inner));
+  }
+
+  private static void spin() {
+    final long end = System.nanoTime() + 1000000L;
+    while(System.nanoTime() < end) {
+      Thread.yield();
+    }
+  }
+}